@@ -0,0 +1,184 @@
+package com.fun.mancala.application;
+
+import com.fun.mancala.application.exceptions.BoardInitializationException;
+import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.application.exceptions.RuleViolation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// the moves mutate the board, hence the per invocation setups: every measured move starts from the same position
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameManagerBenchmark {
+  private static final String GAME_ID = "benchmark";
+  private static final int MAXIMUM_STONES = 10;
+
+  @Param({"6", "14", "50", "202", "602"})
+  public int pits;
+
+  private GameManager gameManager;
+  private int playerOneBase;
+  private int[] oneStonePerPit;
+  private int[] fullPits;
+  private int[] tooManyStonesOnLastPit;
+
+  @Setup(Level.Trial)
+  public void boards() {
+    gameManager = new GameManager();
+    playerOneBase = pits / 2 - 1;
+    oneStonePerPit = boardWith(1);
+    fullPits = boardWith(MAXIMUM_STONES);
+    // the faulty pit is the last one checked, so the whole board gets verified before rejecting it
+    tooManyStonesOnLastPit = boardWith(1);
+    tooManyStonesOnLastPit[pits - 2] = MAXIMUM_STONES + 1;
+  }
+
+  @Benchmark
+  public Object initialize() {
+    gameManager.clearGame(GAME_ID);
+    return gameManager.initialize(GAME_ID, oneStonePerPit);
+  }
+
+  @Benchmark
+  public void rejectInitialization(Blackhole blackhole) {
+    try {
+      gameManager.initialize(GAME_ID, tooManyStonesOnLastPit);
+    } catch (BoardInitializationException e) {
+      blackhole.consume(e);
+    }
+  }
+
+  @Benchmark
+  public RuleViolation rejectInitializationWithoutThrowing() {
+    return gameManager.tryInitialize(GAME_ID, tooManyStonesOnLastPit);
+  }
+
+  @Benchmark
+  public void rejectMove(Rejections rejections, Blackhole blackhole) {
+    try {
+      rejections.gameManager.moveStonesFrom(GAME_ID, playerOneBase + 1);
+    } catch (BoardMoveException e) {
+      blackhole.consume(e);
+    }
+  }
+
+  @Benchmark
+  public RuleViolation rejectMoveWithoutThrowing(Rejections rejections) {
+    return rejections.gameManager.tryMoveStonesFrom(GAME_ID, playerOneBase + 1, GameManager.ANY_VERSION);
+  }
+
+  @Benchmark
+  public Object moveSingleStoneAndRotatePlayer(Moves moves) {
+    return moves.gameManager.moveStonesFrom(GAME_ID, 0);
+  }
+
+  @Benchmark
+  public Object moveFullPit(FullPits full) {
+    return full.gameManager.moveStonesFrom(GAME_ID, 0);
+  }
+
+  @Benchmark
+  public Object moveAndCapture(Captures captures) {
+    return captures.gameManager.moveStonesFrom(GAME_ID, playerOneBase - 2);
+  }
+
+  @Benchmark
+  public Object moveIntoBaseAndRepeatTurn(Moves moves) {
+    return moves.gameManager.moveStonesFrom(GAME_ID, playerOneBase - 1);
+  }
+
+  @Benchmark
+  public byte[] renderGameStatus(Moves moves) {
+    return moves.gameManager.encodedGameStatus(GAME_ID);
+  }
+
+  @Benchmark
+  public byte[] cachedGameStatus(Rendering rendering) {
+    return rendering.gameManager.encodedGameStatus(GAME_ID);
+  }
+
+  private int[] boardWith(int stones) {
+    final var board = new int[pits];
+    Arrays.fill(board, stones);
+    board[pits / 2 - 1] = 0;
+    board[pits - 1] = 0;
+    return board;
+  }
+
+  @State(Scope.Thread)
+  public static class Moves {
+    GameManager gameManager;
+
+    @Setup(Level.Invocation)
+    public void setup(GameManagerBenchmark benchmark) {
+      gameManager = new GameManager();
+      gameManager.initialize(GAME_ID, benchmark.oneStonePerPit.clone());
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class FullPits {
+    GameManager gameManager;
+
+    @Setup(Level.Invocation)
+    public void setup(GameManagerBenchmark benchmark) {
+      gameManager = new GameManager();
+      gameManager.initialize(GAME_ID, benchmark.fullPits.clone());
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Captures {
+    GameManager gameManager;
+
+    // landing on the base grants another turn and leaves the pit before it empty, so the next move captures
+    @Setup(Level.Invocation)
+    public void setup(GameManagerBenchmark benchmark) {
+      gameManager = new GameManager();
+      gameManager.initialize(GAME_ID, benchmark.oneStonePerPit.clone());
+      gameManager.moveStonesFrom(GAME_ID, benchmark.playerOneBase - 1);
+    }
+  }
+
+  // a rejected move changes nothing, so the same game rejects the opponent's pit on every invocation
+  @State(Scope.Thread)
+  public static class Rejections {
+    GameManager gameManager;
+
+    @Setup(Level.Trial)
+    public void setup(GameManagerBenchmark benchmark) {
+      gameManager = new GameManager();
+      gameManager.initialize(GAME_ID, benchmark.oneStonePerPit.clone());
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Rendering {
+    GameManager gameManager;
+
+    @Setup(Level.Trial)
+    public void setup(GameManagerBenchmark benchmark) {
+      gameManager = new GameManager();
+      gameManager.initialize(GAME_ID, benchmark.fullPits.clone());
+      gameManager.encodedGameStatus(GAME_ID);
+    }
+  }
+}
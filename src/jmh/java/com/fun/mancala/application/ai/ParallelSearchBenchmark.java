@@ -0,0 +1,103 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.GameState;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+
+// Both benchmarks search the opening of a standard 14 pits board with 1 to N threads. timeToDepth is the time to finish the same depth,
+// so the speedup of N threads is the score of 1 thread divided by the score of N; nodesPerSecond searches for a fixed budget and counts
+// the nodes of every thread. The table is cleared before every search, otherwise the later ones would just read the previous results.
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelSearchBenchmark {
+  private static final int TABLE_ENTRIES = 1 << 20;
+  private static final Duration NO_LIMIT = Duration.ofMinutes(1);
+  private static final Duration BUDGET = Duration.ofMillis(100);
+  private static final int PITS = 14;
+
+  @Param({"1", "2", "4", "8"})
+  public int threads;
+
+  @Param({"4", "6"})
+  public int stonesPerPit;
+
+  @Param({"16"})
+  public int depth;
+
+  private ExecutorService helpers;
+  private ParallelSearch search;
+  private GameState opening;
+
+  @Setup(Level.Trial)
+  public void search() {
+    helpers = Executors.newFixedThreadPool(threads);
+    search = new ParallelSearch(threads, TABLE_ENTRIES, helpers);
+    final var pits = new int[PITS];
+    Arrays.fill(pits, stonesPerPit);
+    pits[PITS / 2 - 1] = 0;
+    pits[PITS - 1] = 0;
+    opening = GameState.of(new Board(pits), ONE, PLAYABLE);
+  }
+
+  @Setup(Level.Invocation)
+  public void clearTable() {
+    search.clear();
+  }
+
+  @TearDown(Level.Trial)
+  public void stopHelpers() {
+    helpers.shutdownNow();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public SearchResult timeToDepth() {
+    return search.search(opening, NO_LIMIT, depth);
+  }
+
+  // reported as nodes per second next to the searches per second of the benchmark itself
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public SearchResult nodesPerSecond(Nodes nodes) {
+    final var result = search.search(opening, BUDGET);
+    nodes.nodes += result.nodes();
+    return result;
+  }
+
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  @State(Scope.Thread)
+  public static class Nodes {
+    public long nodes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      nodes = 0;
+    }
+  }
+}
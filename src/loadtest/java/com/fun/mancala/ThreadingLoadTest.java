@@ -0,0 +1,144 @@
+package com.fun.mancala;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static java.net.http.HttpRequest.BodyPublishers.ofString;
+
+// Runs the service once on Tomcat's platform-thread pool and once on virtual threads, and hits each with the same amount of
+// concurrent clients playing their own games for the same time. Each client initializes its game, then moves and polls the status
+// until the game ends, and starts over. Usage:
+//   ThreadingLoadTest <result file> <clients> <seconds> [extra application arguments, e.g. --mancala.journal.enabled=true]
+public class ThreadingLoadTest {
+  private static final String INITIAL_BOARD = "[6, 6, 6, 6, 6, 6, 0, 6, 6, 6, 6, 6, 6, 0]";
+  private static final int PITS = 14;
+
+  public static void main(String[] args) throws Exception {
+    final var resultFile = Path.of(args[0]);
+    final var clients = Integer.parseInt(args[1]);
+    final var duration = Duration.ofSeconds(Long.parseLong(args[2]));
+    final var applicationArguments = Arrays.copyOfRange(args, 3, args.length);
+
+    final var results = new ArrayList<String>();
+    results.add("clients=" + clients + " duration=" + duration.toSeconds() + "s arguments=" + Arrays.toString(applicationArguments));
+    for (var virtual : new boolean[]{false, true}) {
+      final var result = run(virtual, clients, duration, applicationArguments);
+      results.add(result);
+      System.out.println(result);
+    }
+    Files.createDirectories(resultFile.toAbsolutePath().getParent());
+    Files.write(resultFile, results);
+  }
+
+  private static String run(boolean virtual, int clients, Duration duration, String[] applicationArguments) throws Exception {
+    // the same connection limits on both runs, so only the threads serving them differ
+    final var arguments = Stream.concat(Stream.of(
+      "--server.port=0",
+      "--server.tomcat.max-connections=" + (clients + 1_000),
+      "--server.tomcat.accept-count=" + clients,
+      "--mancala.threads.virtual=" + virtual
+    ), Arrays.stream(applicationArguments)).toArray(String[]::new);
+    try (var context = (ServletWebServerApplicationContext) SpringApplication.run(MancalaApplication.class, arguments)) {
+      final var server = "http://localhost:" + context.getWebServer().getPort();
+      final var requests = new AtomicLong();
+      final var failures = new AtomicLong();
+      final var latencies = new ArrayList<long[]>(clients);
+      final var deadline = System.nanoTime() + duration.toNanos();
+      try (var executor = Executors.newVirtualThreadPerTaskExecutor();
+           var client = HttpClient.newBuilder().executor(executor).connectTimeout(Duration.ofSeconds(30)).build()) {
+        final var started = System.nanoTime();
+        final var tasks = new ArrayList<Future<long[]>>(clients);
+        for (int player = 0; player < clients; player++) {
+          final var game = URI.create(server + "/games/load-" + player);
+          tasks.add(executor.submit(() -> play(client, game, deadline, requests, failures)));
+        }
+        for (var task : tasks)
+          latencies.add(task.get());
+        final var elapsed = Duration.ofNanos(System.nanoTime() - started);
+        return summary(virtual, requests.get(), failures.get(), elapsed, latencies);
+      }
+    }
+  }
+
+  // every latency of the client in nanoseconds, one per request it sent before the deadline
+  private static long[] play(HttpClient client, URI game, long deadline, AtomicLong requests, AtomicLong failures) {
+    var latencies = new long[256];
+    var sent = 0;
+    var pit = 0;
+    var rejectedMoves = 0;
+    var needsBoard = true;
+    while (System.nanoTime() < deadline) {
+      final var move = !needsBoard && sent % 2 == 0;
+      final HttpRequest request;
+      if (rejectedMoves == PITS)
+        request = HttpRequest.newBuilder(game).DELETE().build();
+      else if (needsBoard)
+        request = json(URI.create(game + "/initialize"), INITIAL_BOARD);
+      else if (move)
+        request = json(URI.create(game + "/move"), Integer.toString(pit));
+      else
+        request = HttpRequest.newBuilder(URI.create(game + "/status")).GET().build();
+
+      final var start = System.nanoTime();
+      var status = 0;
+      try {
+        status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+      } catch (IOException e) {
+        failures.incrementAndGet();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      if (sent == latencies.length) latencies = Arrays.copyOf(latencies, sent * 2);
+      latencies[sent++] = System.nanoTime() - start;
+      requests.incrementAndGet();
+
+      // a rejected move means the pit is empty or not the player's: the next pit is tried, and the game starts over once none is left
+      if (rejectedMoves == PITS) {
+        rejectedMoves = 0;
+        needsBoard = true;
+      } else if (needsBoard) {
+        needsBoard = status != 200;
+      } else if (move && status != 200) {
+        pit = (pit + 1) % PITS;
+        rejectedMoves++;
+      } else if (move) {
+        rejectedMoves = 0;
+      }
+    }
+    return Arrays.copyOf(latencies, sent);
+  }
+
+  private static HttpRequest json(URI uri, String body) {
+    return HttpRequest.newBuilder(uri).header("Content-Type", "application/json").POST(ofString(body)).build();
+  }
+
+  private static String summary(boolean virtual, long requests, long failures, Duration elapsed, List<long[]> latencies) {
+    final var all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+    final var p50 = all.length == 0 ? 0 : all[(int) (all.length * 0.50)];
+    final var p99 = all.length == 0 ? 0 : all[Math.min(all.length - 1, (int) (all.length * 0.99))];
+    return "%-8s throughput=%.0f req/s requests=%d failures=%d p50=%.2f ms p99=%.2f ms".formatted(
+      virtual ? "virtual" : "platform",
+      requests / (elapsed.toNanos() / 1e9),
+      requests,
+      failures,
+      p50 / 1e6,
+      p99 / 1e6);
+  }
+}
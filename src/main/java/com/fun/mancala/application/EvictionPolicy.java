@@ -0,0 +1,15 @@
+package com.fun.mancala.application;
+
+import java.time.Duration;
+
+// When games are taken out of memory: once unused for longer than their timeout, a shorter one for the games that are done, and the
+// least recently used ones as soon as there are more games or more estimated bytes of them than allowed.
+public record EvictionPolicy(Duration idleTimeout, Duration finishedTimeout, int maximumGames, long maximumBytes) {
+  public static final EvictionPolicy NONE = new EvictionPolicy(Duration.ZERO, Duration.ZERO, Integer.MAX_VALUE, Long.MAX_VALUE);
+
+  // a zero timeout never evicts
+  public boolean hasTimedOut(boolean finished, long idleNanos) {
+    final var timeout = finished ? finishedTimeout : idleTimeout;
+    return !timeout.isZero() && idleNanos > timeout.toNanos();
+  }
+}
@@ -1,169 +1,855 @@
 package com.fun.mancala.application;
 
+import com.fun.mancala.application.events.GameInitializedEvent;
+import com.fun.mancala.application.events.MoveAppliedEvent;
+import com.fun.mancala.application.events.StatusRenderedEvent;
+import com.fun.mancala.application.exceptions.BoardBatchMoveException;
 import com.fun.mancala.application.exceptions.BoardInitializationException;
 import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.application.exceptions.GameVersionMismatchException;
+import com.fun.mancala.application.exceptions.RuleViolation;
+import com.fun.mancala.application.ports.EvictedGameStore;
+import com.fun.mancala.application.ports.GameJournal;
+import com.fun.mancala.application.ports.GameMetrics;
+import com.fun.mancala.application.ports.GameSnapshot;
+import com.fun.mancala.application.ports.GameSnapshotStore;
 import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.Game;
+import com.fun.mancala.domain.models.GamePosition;
+import com.fun.mancala.domain.models.GameState;
+import com.fun.mancala.domain.models.MoveOutcome;
 import com.fun.mancala.domain.models.Player;
-import com.fun.mancala.domain.models.Status;
+import com.fun.mancala.domain.models.RenderedStatus;
+import com.fun.mancala.domain.models.Zobrist;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.fun.mancala.application.exceptions.RuleViolation.ALREADY_INITIALIZED;
+import static com.fun.mancala.application.exceptions.RuleViolation.BASE_PIT;
+import static com.fun.mancala.application.exceptions.RuleViolation.EMPTY_PIT;
+import static com.fun.mancala.application.exceptions.RuleViolation.GAME_ENDED;
+import static com.fun.mancala.application.exceptions.RuleViolation.INVALID_GAME_ID;
+import static com.fun.mancala.application.exceptions.RuleViolation.INVALID_PIT;
+import static com.fun.mancala.application.exceptions.RuleViolation.MISPLACED_EMPTY_PITS;
+import static com.fun.mancala.application.exceptions.RuleViolation.MISSING_BOARD;
+import static com.fun.mancala.application.exceptions.RuleViolation.MISSING_PITS;
+import static com.fun.mancala.application.exceptions.RuleViolation.NEGATIVE_STONES;
+import static com.fun.mancala.application.exceptions.RuleViolation.NOT_INITIALIZED;
+import static com.fun.mancala.application.exceptions.RuleViolation.ODD_PITS;
+import static com.fun.mancala.application.exceptions.RuleViolation.OPPONENT_PIT;
+import static com.fun.mancala.application.exceptions.RuleViolation.TOO_FEW_PITS;
+import static com.fun.mancala.application.exceptions.RuleViolation.TOO_MANY_STONES;
 import static com.fun.mancala.domain.models.Player.ONE;
 import static com.fun.mancala.domain.models.Player.TWO;
 import static com.fun.mancala.domain.models.Status.DONE;
 import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @Service
 public class GameManager {
+  // the expected version of a move made on whatever version the game is at
+  public static final long ANY_VERSION = Long.MIN_VALUE;
   private static final int MAXIMUM_STONES = 10;
-  private Board board;
-  private Player player;
-  private Status status;
-  private Integer playerOneBase;
-  private Integer playerTwoBase;
-
-  public Board initialize(Integer[] initialBoard) throws BoardInitializationException {
-    verifyInitialization(initialBoard);
-    board = new Board(initialBoard);
-    player = ONE;
-    status = PLAYABLE;
-    playerOneBase = board.pits().length / 2 - 1;
-    playerTwoBase = board.pits().length - 1;
-    return board;
-  }
-
-  public void clearGame() {
-    board = null;
-  }
-
-  private void verifyInitialization(Integer[] initialBoard) throws BoardInitializationException {
-    if (board != null)
-      throw new BoardInitializationException("The board is already initialized.");
-    if (initialBoard == null)
-      throw new BoardInitializationException("Provide an initial state to the board.");
-    if (initialBoard.length % 2 != 0)
-      throw new BoardInitializationException("The amount of pits on board should be even.");
-    if (initialBoard.length < 6)
-      throw new BoardInitializationException("The board should have at least two pits plus a base per player.");
+  private static final Pattern GAME_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+  private static final Logger LOGGER = LoggerFactory.getLogger(GameManager.class);
+  private static final int EVICTION_SAMPLES = 8;
+  private static final int RELOAD_STRIPES = 64;
+  private static final int RETIRED_VERSION_STRIPES = 4096;
+  private final Map<String, Game> games = new ConcurrentHashMap<>();
+  private final Map<Game, List<GameWatcher>> watchers = new ConcurrentHashMap<>();
+  private final GameJournal journal;
+  private final GameSnapshotStore snapshots;
+  private final EvictionPolicy eviction;
+  private final EvictedGameStore evictedGames;
+  private final GameMetrics metrics;
+  private final AtomicLong estimatedBytes = new AtomicLong();
+  // ReentrantLocks like the games' own, as the games are spilled, brought back and snapshotted holding them
+  private final ReentrantLock evictionHandLock = new ReentrantLock();
+  private final ReentrantLock[] reloadLocks = Stream.generate(ReentrantLock::new).limit(RELOAD_STRIPES).toArray(ReentrantLock[]::new);
+  private final ReentrantLock snapshotLock = new ReentrantLock();
+  // per stripe of ids, the version past every version a cleared game of the stripe went through, so that an ETag of a cleared game
+  // never matches the game initialized again under its id
+  private final AtomicLongArray retiredVersions = new AtomicLongArray(RETIRED_VERSION_STRIPES);
+  private Iterator<Map.Entry<String, Game>> evictionHand = Collections.emptyIterator();
+  private final Restoration restoration;
+
+  public GameManager() {
+    this(GameJournal.NONE, GameSnapshotStore.NONE);
+  }
+
+  public GameManager(GameJournal journal, GameSnapshotStore snapshots) {
+    this(journal, snapshots, EvictionPolicy.NONE, EvictedGameStore.NONE);
+  }
+
+  public GameManager(GameJournal journal, GameSnapshotStore snapshots, EvictionPolicy eviction, EvictedGameStore evictedGames) {
+    this(journal, snapshots, eviction, evictedGames, GameMetrics.NONE);
+  }
+
+  @Autowired
+  public GameManager(
+    GameJournal journal,
+    GameSnapshotStore snapshots,
+    EvictionPolicy eviction,
+    EvictedGameStore evictedGames,
+    GameMetrics metrics
+  ) {
+    this.journal = journal;
+    this.snapshots = snapshots;
+    this.eviction = eviction;
+    this.evictedGames = evictedGames;
+    this.metrics = metrics;
+    this.restoration = restore();
+    games.values().forEach(game -> estimatedBytes.addAndGet(game.estimatedBytes()));
+  }
+
+  // the latest snapshot first, then only the part of the journal written after it
+  private Restoration restore() {
+    final var start = System.nanoTime();
+    final var checkpoint = snapshots.loadLatest(snapshot -> games.put(snapshot.gameId(), new Game(
+      new Board(snapshot.pits()), snapshot.player(), snapshot.status(), snapshot.version())));
+    final var snapshotGames = games.size();
+    final var replay = new JournalReplay();
+    journal.replay(checkpoint.orElse(0), replay);
+    final var restoration = new Restoration(snapshotGames, replay.replayedMoves, Duration.ofNanos(System.nanoTime() - start));
+    if (journal != GameJournal.NONE || snapshots != GameSnapshotStore.NONE)
+      LOGGER.info("Restored {} games from a snapshot and replayed {} journaled moves in {} ms.",
+        restoration.snapshotGames(), restoration.replayedMoves(), restoration.duration().toMillis());
+    return restoration;
+  }
+
+  public Restoration restoration() {
+    return restoration;
+  }
+
+  public Board initialize(String gameId, int[] initialBoard) throws BoardInitializationException {
+    final var violation = tryInitialize(gameId, initialBoard);
+    if (violation != null) throw initializationRejected(violation, initialBoard);
+    // the game plays a copy of the board, so the one given is handed back as it was initialized
+    return new Board(initialBoard);
+  }
+
+  // The same initialization, with the ordinary mistakes of a client given back instead of thrown, so rejecting a board costs no more
+  // than accepting one. Null once the game is initialized.
+  public RuleViolation tryInitialize(String gameId, int[] initialBoard) {
+    final var start = System.nanoTime();
+    final var event = GameInitializedEvent.begun();
+    final var violation = verifyInitialization(gameId, initialBoard);
+    if (violation != null) return violation;
+    return add(gameId, initialBoard, start, event) ? null : ALREADY_INITIALIZED;
+  }
+
+  // The journal is written while the game's lock is held, as a snapshot takes that lock before copying a game: either the copy
+  // is taken after the initialization was journaled before the checkpoint, or the initialization is journaled after the checkpoint.
+  // False when another game got the id first.
+  private boolean add(String gameId, int[] initialBoard, long start, GameInitializedEvent event) {
+    final var game = new Game(new Board(initialBoard.clone()));
+    game.lock().lock();
+    try {
+      // a cleared game may still be in the map, the clearing is already journaled once it is seen as cleared
+      final var existing = games.putIfAbsent(gameId, game);
+      if (existing != null && !(existing.isCleared() && games.replace(gameId, existing, game))) return false;
+      // read once the game is in the map, as the versions of a cleared game are retired before it is seen as cleared
+      final var stamp = game.beginChange();
+      game.setVersion(retiredVersions.get(retiredVersionStripeOf(gameId)));
+      game.endChange(stamp);
+      try {
+        journal.initialized(gameId, game.version(), initialBoard);
+      } catch (RuntimeException e) {
+        games.remove(gameId, game);
+        throw e;
+      }
+    } finally {
+      game.lock().unlock();
+    }
+    journal.awaitDurable();
+    estimatedBytes.addAndGet(game.estimatedBytes());
+    evictWhileOverBudget();
+    metrics.initialized(System.nanoTime() - start);
+    GameInitializedEvent.commit(event, gameId, initialBoard);
+    return true;
+  }
+
+  // Copies every live game and drops the journal segments the copy makes redundant. Moves made while the copy is taken end up either
+  // in the copy or after the checkpoint, and those in both are skipped on replay by their sequence.
+  public void snapshot() {
+    snapshotLock.lock();
+    try {
+      final var checkpoint = journal.checkpoint();
+      snapshots.save(checkpoint, games.entrySet().stream()
+        .map(entry -> snapshotOf(entry.getKey(), entry.getValue()))
+        .filter(Objects::nonNull));
+      journal.truncateBefore(checkpoint);
+    } finally {
+      snapshotLock.unlock();
+    }
+  }
+
+  private GameSnapshot snapshotOf(String gameId, Game game) {
+    game.lock().lock();
+    try {
+      if (game.isCleared() || game.isEvicted()) return null;
+      return new GameSnapshot(gameId, game.version(), game.player(), game.status(), game.board().pits().clone());
+    } finally {
+      game.lock().unlock();
+    }
+  }
+
+  // The game is journaled as cleared under its lock, as a move still holding the game would otherwise land in the journal after it
+  // was cleared, and only then marked cleared and taken out of the map. Neither the journal nor the watchers are called under the
+  // map's locks, and no move is told to the watchers after the game is cleared, so they are told of it once the lock is released.
+  public void clearGame(String gameId) {
+    if (gameId == null) return;
+    while (true) {
+      final var game = games.get(gameId);
+      if (game == null) break;
+      final List<GameWatcher> gameWatchers;
+      game.lock().lock();
+      try {
+        // an evicted game is already accounted for and spilled or journaled as cleared, and about to leave the map
+        if (game.isEvicted()) continue;
+        if (game.isCleared()) break;
+        journal.cleared(gameId);
+        retireVersionsOf(gameId, game.version());
+        game.clear();
+        estimatedBytes.addAndGet(-game.estimatedBytes());
+        gameWatchers = watchers.remove(game);
+      } finally {
+        game.lock().unlock();
+      }
+      games.remove(gameId, game);
+      if (gameWatchers != null) gameWatchers.forEach(GameWatcher::cleared);
+      break;
+    }
+    journal.awaitDurable();
+    final var spilled = evictedGames.read(gameId);
+    if (spilled != null) retireVersionsOf(gameId, spilled.version());
+    evictedGames.delete(gameId);
+  }
+
+  private void retireVersionsOf(String gameId, long version) {
+    retiredVersions.accumulateAndGet(retiredVersionStripeOf(gameId), version + 1, Math::max);
+  }
+
+  private static int retiredVersionStripeOf(String gameId) {
+    return Math.floorMod(gameId.hashCode(), RETIRED_VERSION_STRIPES);
+  }
+
+  // Looks the game up, bringing it back from where it was spilled if it was evicted, and marks it as used. Whoever gets a game that
+  // turns out to be evicted once its lock is taken has to look it up again.
+  private Game lookUp(String gameId) {
+    var game = games.get(gameId);
+    if (game == null && evictedGames != EvictedGameStore.NONE) game = reload(gameId);
+    if (game != null) game.touch(System.nanoTime());
+    return game;
+  }
+
+  // The spilled game is read outside the map's locks, as it may be on disk, under a lock shared only with the ids of the same stripe
+  // so that two lookups of the game never both miss it while it is being read. It is journaled as restored the way a game is journaled
+  // as initialized, as the snapshots taken while it was spilled dropped the records it was rebuilt from and its next moves are only
+  // replayed on top of it. Until that record is durable, the spilled copy may be all there is of the game, so it is only deleted once
+  // it is, under the game's lock and unless the game was spilled again or cleared meanwhile.
+  private Game reload(String gameId) {
+    final Game game;
+    final var reloadLock = reloadLockOf(gameId);
+    reloadLock.lock();
+    try {
+      final var live = games.get(gameId);
+      if (live != null) return live;
+      final var spilled = evictedGames.read(gameId);
+      if (spilled == null) return null;
+      game = new Game(new Board(spilled.pits().clone()), spilled.player(), spilled.status(), spilled.version());
+      game.lock().lock();
+      try {
+        // only a game initialized under the id since it was evicted could be there, and it replaces the spilled one
+        final var initialized = games.putIfAbsent(gameId, game);
+        if (initialized != null) return initialized;
+        try {
+          journal.restored(spilled);
+        } catch (RuntimeException e) {
+          games.remove(gameId, game);
+          throw e;
+        }
+      } finally {
+        game.lock().unlock();
+      }
+    } finally {
+      reloadLock.unlock();
+    }
+    journal.awaitDurable();
+    game.lock().lock();
+    try {
+      if (!game.isEvicted() && !game.isCleared()) evictedGames.delete(gameId);
+    } finally {
+      game.lock().unlock();
+    }
+    estimatedBytes.addAndGet(game.estimatedBytes());
+    evictWhileOverBudget();
+    return game;
+  }
+
+  private ReentrantLock reloadLockOf(String gameId) {
+    return reloadLocks[Math.floorMod(gameId.hashCode(), RELOAD_STRIPES)];
+  }
+
+  // takes out the games that have not been used for longer than their timeout, it is what the periodic sweep runs
+  public int evictIdleGames() {
+    final var now = System.nanoTime();
+    var evicted = 0;
+    for (var entry : games.entrySet()) {
+      final var game = entry.getValue();
+      if (eviction.hasTimedOut(game.status() == DONE, now - game.lastUsed()) && evict(entry.getKey(), game)) evicted++;
+    }
+    return evicted;
+  }
+
+  // only called without holding any game's lock, as evicting takes the locks of other games
+  private void evictWhileOverBudget() {
+    while (games.size() > eviction.maximumGames() || estimatedBytes.get() > eviction.maximumBytes())
+      if (!evictLeastRecentlyUsed()) return;
+  }
+
+  // An approximate LRU: of the next few games after the last one looked at, the ones that are done go first and then the one unused
+  // for the longest. Sampling keeps eviction from ever ordering all the games, and watched games are never evicted.
+  private boolean evictLeastRecentlyUsed() {
+    evictionHandLock.lock();
+    try {
+      Map.Entry<String, Game> victim = null;
+      for (int sampled = 0; sampled < EVICTION_SAMPLES; sampled++) {
+        if (!evictionHand.hasNext()) evictionHand = games.entrySet().iterator();
+        if (!evictionHand.hasNext()) break;
+        // the iterator may still hand out a game that was just taken out of the map
+        final var candidate = evictionHand.next();
+        if (candidate.getValue().isEvicted() || watchers.containsKey(candidate.getValue())) continue;
+        if (victim == null || evictsBefore(candidate.getValue(), victim.getValue())) victim = candidate;
+      }
+      if (victim == null) return false;
+      // a victim cleared or evicted meanwhile still counts as progress, the budget is checked again anyway
+      evict(victim.getKey(), victim.getValue());
+      return true;
+    } finally {
+      evictionHandLock.unlock();
+    }
+  }
+
+  private static boolean evictsBefore(Game game, Game other) {
+    final var done = game.status() == DONE;
+    if (done != (other.status() == DONE)) return done;
+    return game.lastUsed() - other.lastUsed() < 0;
+  }
+
+  // A spilled game is brought back as it was, otherwise it is gone as if it was cleared, journal included so it is not restored. It
+  // leaves the map only once its lock is released, as clearing a game takes the map's lock before the game's lock.
+  private boolean evict(String gameId, Game game) {
+    game.lock().lock();
+    try {
+      if (game.isCleared() || game.isEvicted() || watchers.containsKey(game)) return false;
+      if (evictedGames == EvictedGameStore.NONE) {
+        journal.cleared(gameId);
+        retireVersionsOf(gameId, game.version());
+      } else evictedGames.save(new GameSnapshot(gameId, game.version(), game.player(), game.status(), game.board().pits().clone()));
+      game.evict();
+    } finally {
+      game.lock().unlock();
+    }
+    games.remove(gameId, game);
+    estimatedBytes.addAndGet(-game.estimatedBytes());
+    return true;
+  }
+
+  public int liveGames() {
+    return games.size();
+  }
+
+  public long estimatedBytes() {
+    return estimatedBytes.get();
+  }
+
+  // the first rule the initialization breaks, null when it breaks none
+  private RuleViolation verifyInitialization(String gameId, int[] initialBoard) {
+    if (gameId == null || !GAME_ID.matcher(gameId).matches()) return INVALID_GAME_ID;
+    final var existing = lookUp(gameId);
+    if (existing != null && !existing.isCleared()) return ALREADY_INITIALIZED;
+    if (initialBoard == null) return MISSING_BOARD;
+    if (initialBoard.length % 2 != 0) return ODD_PITS;
+    if (initialBoard.length < 6) return TOO_FEW_PITS;
     var emptyPits = 0;
-    final var p1Base = Integer.valueOf(initialBoard.length / 2 - 1);
-    final var p2Base = Integer.valueOf(initialBoard.length - 1);
-    for (Integer pit = 0; pit < initialBoard.length; pit++) {
-      if (initialBoard[pit].compareTo(MAXIMUM_STONES) > 0)
-        throw new BoardInitializationException("There are too many stones on pit "+ pit +". The maximum amount of stones is "+ MAXIMUM_STONES +". Fix the initialization board and retry.");
-      if (initialBoard[pit].compareTo(0) < 0)
-        throw new BoardInitializationException("There are negative amount of stones on pit "+ pit +". Fix the initialization board and retry.");
-      if (initialBoard[pit].equals(0) && (++emptyPits > 2 || (!pit.equals(p1Base) && !pit.equals(p2Base))))
-        throw new BoardInitializationException("The board should have only two empty pits at the right of each player.");
-    }
-  }
-
-  public Board moveStonesFrom(Integer pit) throws BoardMoveException {
-    validateMoveFrom(pit);
-
-    var stones = board.pits()[pit];
-    Integer lastModifiedPitStoneCount = null;
-    board.pits()[pit] = 0;
-    while (stones > 0) {
-      ++pit;
-      if ((player.equals(ONE) && pit.equals(playerTwoBase)) || (player.equals(TWO) && pit.equals(playerOneBase)))
+    final var p1Base = initialBoard.length / 2 - 1;
+    final var p2Base = initialBoard.length - 1;
+    for (int pit = 0; pit < initialBoard.length; pit++) {
+      if (initialBoard[pit] > MAXIMUM_STONES) return TOO_MANY_STONES;
+      if (initialBoard[pit] < 0) return NEGATIVE_STONES;
+      if (initialBoard[pit] == 0 && (++emptyPits > 2 || (pit != p1Base && pit != p2Base))) return MISPLACED_EMPTY_PITS;
+    }
+    return null;
+  }
+
+  // only thrown initializations tell the pit that broke the rule, looked for again as the board is already known to break it
+  private static BoardInitializationException initializationRejected(RuleViolation violation, int[] initialBoard) {
+    final var pit = pitOf(violation, initialBoard);
+    return pit < 0 ? new BoardInitializationException(violation) : new BoardInitializationException(violation, detailOfPit(violation, pit));
+  }
+
+  // the first pit of the board that broke a rule about the stones, or -1 for the rules about anything else
+  public static int pitOf(RuleViolation violation, int[] initialBoard) {
+    return switch (violation) {
+      case TOO_MANY_STONES -> firstPit(initialBoard, stones -> stones > MAXIMUM_STONES);
+      case NEGATIVE_STONES -> firstPit(initialBoard, stones -> stones < 0);
+      default -> -1;
+    };
+  }
+
+  // The detail of a rule about the stones, told with the pit that broke it. The pits are few, so answers may be cached per pit.
+  public static String detailOfPit(RuleViolation violation, int pit) {
+    return switch (violation) {
+      case TOO_MANY_STONES -> "There are too many stones on pit " + pit + ". The maximum amount of stones is " + MAXIMUM_STONES
+        + ". Fix the initialization board and retry.";
+      case NEGATIVE_STONES -> "There are negative amount of stones on pit " + pit + ". Fix the initialization board and retry.";
+      default -> violation.detail();
+    };
+  }
+
+  private static int firstPit(int[] board, IntPredicate stones) {
+    var pit = 0;
+    while (!stones.test(board[pit])) pit++;
+    return pit;
+  }
+
+  public Board moveStonesFrom(String gameId, int pit) throws BoardMoveException {
+    return moveStonesFrom(gameId, pit, ANY_VERSION);
+  }
+
+  // the move is only made on the expected version of the game, so of two clients moving from the same version only the first one does
+  public Board moveStonesFrom(String gameId, int pit, long expectedVersion) throws BoardMoveException {
+    final var moved = new Board[1];
+    final var violation = tryMoveStonesFrom(gameId, pit, expectedVersion, moved);
+    if (violation != null) throw new BoardMoveException(violation, detailOf(violation, gameId));
+    return moved[0];
+  }
+
+  // The same move, with the ordinary mistakes of a client given back instead of thrown, so rejecting a move costs no more than making
+  // it. Null once the move is made. Moving from another version than the expected one is a conflict rather than a mistake, and is
+  // still thrown with the current version.
+  public RuleViolation tryMoveStonesFrom(String gameId, int pit, long expectedVersion) throws GameVersionMismatchException {
+    return tryMoveStonesFrom(gameId, pit, expectedVersion, null);
+  }
+
+  // the board the move left is copied into moved, when given, before another move can change it
+  private RuleViolation tryMoveStonesFrom(String gameId, int pit, long expectedVersion, Board[] moved) throws GameVersionMismatchException {
+    final var start = System.nanoTime();
+    final var event = MoveAppliedEvent.begun();
+    while (true) {
+      final var game = lookUp(gameId);
+      if (game == null) return NOT_INITIALIZED;
+      // one lock per game: moves on different games never contend with each other
+      game.lock().lock();
+      try {
+        if (game.isEvicted()) continue;
+        verifyVersion(game, expectedVersion);
+        final var violation = validateMoveFrom(game, pit);
+        if (violation != null) return violation;
+        final var stonesSown = game.board().pits()[pit];
+        final var outcome = applyMove(gameId, game, pit);
+        metrics.moved(System.nanoTime() - start, outcome);
+        MoveAppliedEvent.commit(event, gameId, pit, stonesSown, outcome, game.version());
+        if (moved != null) moved[0] = boardOf(game);
+      } finally {
+        game.lock().unlock();
+      }
+      journal.awaitDurable();
+      return null;
+    }
+  }
+
+  private static void verifyVersion(Game game, long expectedVersion) throws GameVersionMismatchException {
+    if (expectedVersion != ANY_VERSION && expectedVersion != game.version() && !game.isCleared())
+      throw new GameVersionMismatchException(game.version());
+  }
+
+  // A move already validated, made, journaled and told to the watchers under the game's lock. The move is answered only once the
+  // journal is durable, which is waited for after the lock is released, so the other moves of the game are not held by the disk.
+  private int applyMove(String gameId, Game game, int pit) {
+    final var gameWatchers = watchers.get(game);
+    final var before = gameWatchers == null ? null : game.board().pits().clone();
+    final var outcome = moveStonesFrom(game, pit);
+    try {
+      journal.moved(gameId, game.version(), pit);
+      if (gameWatchers != null) publish(gameWatchers, game, before);
+    } finally {
+      game.setRenderedStatus(null);
+    }
+    return outcome;
+  }
+
+  // all the moves are applied under a single acquisition of the game's lock, the ones before a failing move stay applied
+  public Board moveStonesFrom(String gameId, int[] pits) throws BoardMoveException {
+    return moveStonesFrom(gameId, pits, ANY_VERSION);
+  }
+
+  // the whole batch is made on the expected version of the game or not at all
+  public Board moveStonesFrom(String gameId, int[] pits, long expectedVersion) throws BoardMoveException {
+    while (true) {
+      final var game = lookUp(gameId);
+      if (game == null) throw new BoardMoveException(NOT_INITIALIZED);
+      if (pits == null) throw new BoardMoveException(MISSING_PITS);
+      final Board moved;
+      // the moves before a failing one stay applied, so they are durable before the failure is answered too
+      try {
+        game.lock().lock();
+        try {
+          if (game.isEvicted()) continue;
+          verifyVersion(game, expectedVersion);
+          final var gameWatchers = watchers.get(game);
+          try {
+            for (int move = 0; move < pits.length; move++) {
+              final var start = System.nanoTime();
+              final var event = MoveAppliedEvent.begun();
+              final var violation = validateMoveFrom(game, pits[move]);
+              if (violation != null) throw new BoardBatchMoveException(move, violation, detailOf(violation, game));
+              final var before = gameWatchers == null ? null : game.board().pits().clone();
+              final var stonesSown = game.board().pits()[pits[move]];
+              final var outcome = moveStonesFrom(game, pits[move]);
+              journal.moved(gameId, game.version(), pits[move]);
+              if (gameWatchers != null) publish(gameWatchers, game, before);
+              metrics.moved(System.nanoTime() - start, outcome);
+              MoveAppliedEvent.commit(event, gameId, pits[move], stonesSown, outcome, game.version());
+            }
+          } finally {
+            game.setRenderedStatus(null);
+          }
+          moved = boardOf(game);
+        } finally {
+          game.lock().unlock();
+        }
+      } finally {
+        journal.awaitDurable();
+      }
+      return moved;
+    }
+  }
+
+  // The watcher gets the whole game right away and then every move as it is made, both under the game's lock so none is missed in
+  // between. Only watched games pay for working out what changed on a move.
+  public void watch(String gameId, GameWatcher watcher) throws BoardInitializationException {
+    while (true) {
+      final var game = lookUp(gameId);
+      if (game == null)
+        throw new BoardInitializationException(NOT_INITIALIZED);
+      game.lock().lock();
+      try {
+        if (game.isEvicted()) continue;
+        if (game.isCleared())
+          throw new BoardInitializationException(NOT_INITIALIZED);
+        // a watcher failing on the whole game is not kept to fail on every move
+        watcher.updated(updateOf(game, null));
+        watchers.computeIfAbsent(game, watched -> new CopyOnWriteArrayList<>()).add(watcher);
+        return;
+      } finally {
+        game.lock().unlock();
+      }
+    }
+  }
+
+  public void unwatch(String gameId, GameWatcher watcher) {
+    final var game = games.get(gameId);
+    if (game == null) return;
+    game.lock().lock();
+    try {
+      final var gameWatchers = watchers.get(game);
+      if (gameWatchers != null && gameWatchers.remove(watcher) && gameWatchers.isEmpty())
+        watchers.remove(game);
+    } finally {
+      game.lock().unlock();
+    }
+  }
+
+  // One update per move, shared by all the watchers of the game. A watcher that fails is dropped, as the move is already made and the
+  // other watchers are still owed it.
+  private void publish(List<GameWatcher> gameWatchers, Game game, int[] before) {
+    final var update = updateOf(game, before);
+    for (var watcher : gameWatchers) {
+      try {
+        watcher.updated(update);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Dropped a watcher of a game that failed to take version {}.", update.version(), e);
+        gameWatchers.remove(watcher);
+        if (gameWatchers.isEmpty()) watchers.remove(game, gameWatchers);
+      }
+    }
+  }
+
+  private GameUpdate updateOf(Game game, int[] before) {
+    final var pits = game.board().pits();
+    var changes = 0;
+    for (int pit = 0; pit < pits.length; pit++)
+      if (before == null || before[pit] != pits[pit]) changes++;
+    final var changedPits = new int[changes];
+    final var stones = new int[changes];
+    for (int pit = 0, change = 0; pit < pits.length; pit++) {
+      if (before == null || before[pit] != pits[pit]) {
+        changedPits[change] = pit;
+        stones[change++] = pits[pit];
+      }
+    }
+    return new GameUpdate(game.version(), changedPits, stones, game.player(), game.status());
+  }
+
+  // what a move already validated did, as the bits of MoveOutcome; readers copying the game retry the copies the move overlapped
+  private int moveStonesFrom(Game game, int pit) {
+    final var change = game.beginChange();
+    try {
+      game.incrementVersion();
+
+      // everything below works on primitives only, so a move allocates nothing
+      final var pits = game.board().pits();
+      final var skippedBase = game.opponentBaseOf(game.player());
+      var stones = pits[pit];
+      var lastModifiedPitStoneCount = 0;
+      final var nonEmptyPits = game.nonEmptyPits();
+      var changedKeys = Zobrist.key(pit, stones);
+      pits[pit] = 0;
+      nonEmptyPits.clear(pit);
+      while (stones > 0) {
         ++pit;
-      if (pit >= board.pits().length) pit = 0;
-      stones--;
-      lastModifiedPitStoneCount = board.pits()[pit];
-      board.pits()[pit]++;
-    }
-
-    captureStonesIfApplicable(pit, lastModifiedPitStoneCount);
-    rotatePlayerIfApplicable(pit);
-    return board;
-  }
-
-  private void validateMoveFrom(Integer pit) throws BoardMoveException {
-    if (board == null)
-      throw new BoardMoveException("The board has not been initialized yet.");
-    if (status.equals(DONE))
-      throw new BoardMoveException("Game has ended. Player " + player + " won.");
-    if ((player.equals(ONE) && pit.equals(playerOneBase)) || (player.equals(TWO) && pit.equals(playerTwoBase)))
-      throw new BoardMoveException("The stones at the base should not be moved.");
-    if ((player.equals(ONE) && pit > playerOneBase) || (player.equals(TWO) && pit <= playerOneBase))
-      throw new BoardMoveException("Those stones are not yours to move.");
-    if (board.pits()[pit].equals(0))
-      throw new BoardMoveException("Choose a pit with stones.");
-  }
-
-  private void captureStonesIfApplicable(Integer pit, Integer lastModifiedPitStoneCount) {
-    if (!pit.equals(playerOneBase) && !pit.equals(playerTwoBase) &&
-      lastModifiedPitStoneCount != null && lastModifiedPitStoneCount.equals(0) &&
-      ((player.equals(ONE) && pit < playerOneBase) || (player.equals(TWO) && pit > playerOneBase))
+        if (pit == skippedBase)
+          ++pit;
+        if (pit >= pits.length) pit = 0;
+        stones--;
+        lastModifiedPitStoneCount = pits[pit]++;
+        if (lastModifiedPitStoneCount == 0) nonEmptyPits.set(pit);
+        changedKeys ^= Zobrist.change(pit, lastModifiedPitStoneCount, lastModifiedPitStoneCount + 1);
+      }
+      game.updateZobristHash(changedKeys);
+
+      final var captured = captureStonesIfApplicable(game, pit, lastModifiedPitStoneCount);
+      return rotatePlayerIfApplicable(game, pit) | (captured ? MoveOutcome.CAPTURE : 0);
+    } finally {
+      game.endChange(change);
+    }
+  }
+
+  // the pits keep changing under the game's lock, so only a copy of them is handed out of it
+  private static Board boardOf(Game game) {
+    return new Board(game.board().pits().clone());
+  }
+
+  // the first rule the move breaks, null when it breaks none
+  private RuleViolation validateMoveFrom(Game game, int pit) {
+    final var player = game.player();
+    if (game.isCleared()) return NOT_INITIALIZED;
+    if (game.status() == DONE) return GAME_ENDED;
+    if (pit < 0 || pit >= game.board().pits().length) return INVALID_PIT;
+    if (pit == game.baseOf(player)) return BASE_PIT;
+    if ((player == ONE && pit > game.playerOneBase()) || (player == TWO && pit <= game.playerOneBase())) return OPPONENT_PIT;
+    if (game.board().pits()[pit] == 0) return EMPTY_PIT;
+    return null;
+  }
+
+  // a move on a game that has ended is told who won it
+  private static String detailOf(RuleViolation violation, Game game) {
+    return detailOfWinner(violation, game.player());
+  }
+
+  private String detailOf(RuleViolation violation, String gameId) {
+    return detailOfWinner(violation, violation == GAME_ENDED ? winnerOf(gameId) : null);
+  }
+
+  // The detail of a move on a game that has ended, told with its winner, the detail of the rule without one. The winners are two, so
+  // answers may be cached per winner.
+  public static String detailOfWinner(RuleViolation violation, Player winner) {
+    return violation == GAME_ENDED && winner != null ? "Game has ended. Player " + winner + " won." : violation.detail();
+  }
+
+  // the game is looked for again once the move was rejected, as an ended game keeps its winner until it is cleared; null while it is
+  // played or once it is gone
+  public Player winnerOf(String gameId) {
+    final var game = games.get(gameId);
+    return game == null || game.isCleared() || game.status() != DONE ? null : game.player();
+  }
+
+  private boolean captureStonesIfApplicable(Game game, int pit, int lastModifiedPitStoneCount) {
+    final var pits = game.board().pits();
+    final var player = game.player();
+    final var playerOneBase = game.playerOneBase();
+    if (pit != playerOneBase && pit != game.playerTwoBase() &&
+      lastModifiedPitStoneCount == 0 &&
+      ((player == ONE && pit < playerOneBase) || (player == TWO && pit > playerOneBase))
     ) {
       var capturedPit = switch (player) {
         // oh, math... Y U DO BE LIKE DAT?!
         case ONE -> pit + playerOneBase + 1;
         case TWO -> pit - playerOneBase - 1;
       };
-      var capturedStones = board.pits()[capturedPit] + board.pits()[pit];
-      board.pits()[pit] = 0;
-      board.pits()[capturedPit] = 0;
-      switch (player) {
-        case ONE -> board.pits()[playerOneBase] += capturedStones;
-        case TWO -> board.pits()[playerTwoBase] += capturedStones;
-      }
+      var capturedStones = pits[capturedPit] + pits[pit];
+      final var base = game.baseOf(player);
+      game.updateZobristHash(Zobrist.key(pit, pits[pit]) ^ Zobrist.key(capturedPit, pits[capturedPit])
+        ^ Zobrist.change(base, pits[base], pits[base] + capturedStones));
+      pits[pit] = 0;
+      pits[capturedPit] = 0;
+      pits[base] += capturedStones;
+      game.nonEmptyPits().clear(pit);
+      game.nonEmptyPits().clear(capturedPit);
+      game.nonEmptyPits().set(base);
+      return true;
+    }
+    return false;
+  }
+
+  private int rotatePlayerIfApplicable(Game game, int pit) {
+    final var player = game.player();
+    if (!hasStonesToMove(game, ONE) || !hasStonesToMove(game, TWO)) {
+      game.setStatus(DONE);
+      return MoveOutcome.FINISHED;
     }
+    if (pit == game.baseOf(player)) return MoveOutcome.EXTRA_TURN;
+    // which also XORs the key of player TWO in or out of the hash
+    game.setPlayer(switch (player) {
+      case ONE -> TWO;
+      case TWO -> ONE;
+    });
+    return 0;
+  }
+
+  // a side has stones to move when its first pit with stones, if any, comes before its base
+  private static boolean hasStonesToMove(Game game, Player player) {
+    final var firstPit = player == ONE ? 0 : game.playerOneBase() + 1;
+    final var firstNonEmptyPit = game.nonEmptyPits().nextSetBit(firstPit);
+    return firstNonEmptyPit >= 0 && firstNonEmptyPit < game.baseOf(player);
+  }
+
+  // the pits the player on turn can play, none once the game is done
+  public int[] legalMoves(String gameId) throws BoardInitializationException {
+    final var game = lookUp(gameId);
+    if (game == null || game.isCleared())
+      throw new BoardInitializationException(NOT_INITIALIZED);
+    final var position = game.position();
+    if (position.status() == DONE) return new int[0];
+    final var firstPit = position.player() == ONE ? 0 : position.playerOneBase() + 1;
+    return position.nonEmptyPits().get(firstPit, position.baseOf(position.player())).stream().map(pit -> pit + firstPit).toArray();
+  }
+
+  // the game packed as it is now, for searching it without holding it; throws an IllegalArgumentException if the board does not fit
+  public GameState state(String gameId) throws BoardInitializationException {
+    final var position = positionOf(gameId);
+    return GameState.of(position.board(), position.player(), position.status());
+  }
+
+  // the Zobrist hash of the position, kept up to date by every move, for keying positions of any board without packing them
+  public long zobristHash(String gameId) throws BoardInitializationException {
+    return positionOf(gameId).zobristHash();
   }
 
-  private void rotatePlayerIfApplicable(Integer pit) {
-    var stonesOnPlayerOnePits = 0;
-    var stonesOnPlayerTwoPits = 0;
-    for (int i = 0; i < playerOneBase; i++) {
-      stonesOnPlayerOnePits += board.pits()[i];
-      stonesOnPlayerTwoPits += board.pits()[i + playerOneBase + 1];
+  // a copy of the game as it is now, for boards too large to be packed
+  public Game copyOf(String gameId) throws BoardInitializationException {
+    final var position = positionOf(gameId);
+    return new Game(new Board(position.board().pits().clone()), position.player(), position.status(), position.version());
+  }
+
+  // the position as of the last move, which is read without the game's lock so a reader never waits for a move in progress
+  private GamePosition positionOf(String gameId) throws BoardInitializationException {
+    final var game = lookUp(gameId);
+    if (game == null)
+      throw new BoardInitializationException(NOT_INITIALIZED);
+    return game.position();
+  }
+
+  public String gameStatus(String gameId) {
+    return new String(encodedGameStatus(gameId), UTF_8);
+  }
+
+  // the returned bytes are shared between callers and must not be modified
+  public byte[] encodedGameStatus(String gameId) {
+    return renderedGameStatus(gameId).encoded();
+  }
+
+  // Rendered from the position as of the last move, and kept until the next one. Readers rendering the same position at once may
+  // each render it, and one rendering an older position may replace a newer one, which is only rendered again: neither ever waits for
+  // a move.
+  public RenderedStatus renderedGameStatus(String gameId) {
+    final var game = lookUp(gameId);
+    if (game == null)
+      throw new BoardInitializationException(NOT_INITIALIZED);
+    final var position = game.position();
+    final var rendered = game.renderedStatus();
+    if (rendered != null && rendered.version() == position.version()) return rendered;
+    final var start = System.nanoTime();
+    final var event = new StatusRenderedEvent();
+    event.begin();
+    final var status = new RenderedStatus(position.version(), render(position).getBytes(UTF_8));
+    game.setRenderedStatus(status);
+    metrics.statusRendered(System.nanoTime() - start);
+    event.commit(gameId, status.version(), status.encoded().length);
+    return status;
+  }
+
+  private String render(GamePosition position) {
+    final var pits = position.board().pits();
+    final var playerOneBase = position.playerOneBase();
+    final var playerTwoBase = position.playerTwoBase();
+    final var gameStatus = position.status() == PLAYABLE? "Current" : "Final";
+    final var text = new StringBuilder(128 + 8 * pits.length);
+    text.append(gameStatus).append(" Board:\n");
+    appendPits(text.append("  Player ONE: "), pits, 0, playerOneBase);
+    appendPits(text.append("  Player TWO: "), pits, playerOneBase + 1, playerTwoBase);
+    text.append(gameStatus).append(" Score:\n");
+    text.append("  Player ONE: ").append(pits[playerOneBase]).append('\n');
+    text.append("  Player TWO: ").append(pits[playerTwoBase]).append('\n');
+    text.append(gameStatus).append(" Player: ").append(position.player()).append('\n');
+    text.append("Game: ").append(position.status()).append('\n');
+    return text.toString();
+  }
+
+  private void appendPits(StringBuilder text, int[] pits, int firstPit, int base) {
+    for (int pit = firstPit; pit < base; pit++)
+      text.append("| ").append(pits[pit]).append(' ');
+    text.append("|| ").append(pits[base]).append(" |\n");
+  }
+
+  // rebuilds the games through the same rules, the sequence skips the moves a restored game already went through
+  private class JournalReplay implements GameJournal.Replay {
+    private long replayedMoves;
+
+    @Override
+    public void initialized(String gameId, long version, int[] initialBoard) {
+      games.put(gameId, new Game(new Board(initialBoard), ONE, PLAYABLE, version));
     }
-    if (stonesOnPlayerOnePits == 0 || stonesOnPlayerTwoPits == 0) {
-      status = DONE;
-    } else {
-      if ((player.equals(ONE) && !pit.equals(playerOneBase)) ||
-        (player.equals(TWO) && !pit.equals(playerTwoBase))) {
-        player = switch (player) {
-          case ONE -> TWO;
-          case TWO -> ONE;
-        };
+
+    @Override
+    public void moved(String gameId, long sequence, int pit) {
+      final var game = games.get(gameId);
+      if (game != null && sequence == game.version() + 1) {
+        final var violation = validateMoveFrom(game, pit);
+        if (violation != null) throw new BoardMoveException(violation, detailOf(violation, game));
+        moveStonesFrom(game, pit);
+        replayedMoves++;
       }
     }
-  }
 
-  public String gameStatus() {
-    if (board == null)
-      throw new BoardInitializationException("The board has not been initialized yet.");
-    final var gameStatus = status.equals(PLAYABLE)? "Current" : "Final";
-    final var playerOneScore = board.pits()[playerOneBase];
-    final var playerTwoScore = board.pits()[playerTwoBase];
-    StringBuilder playerOneBoard = new StringBuilder();
-    StringBuilder playerTwoBoard = new StringBuilder();
-    for (int i = 0; i < playerOneBase; i++) {
-      playerOneBoard.append("| %d ".formatted(board.pits()[i]));
-      playerTwoBoard.append("| %d ".formatted(board.pits()[i + playerOneBase + 1]));
-    }
-    playerOneBoard.append("|| %d |".formatted(board.pits()[playerOneBase]));
-    playerTwoBoard.append("|| %d |".formatted(board.pits()[playerTwoBase]));
-    return """
-      %s Board:
-        Player ONE: %s
-        Player TWO: %s
-      %s Score:
-        Player ONE: %d
-        Player TWO: %d
-      %s Player: %s
-      Game: %s
-      """.formatted(
-      gameStatus,
-      playerOneBoard.toString(),
-      playerTwoBoard.toString(),
-      gameStatus,
-      playerOneScore,
-      playerTwoScore,
-      gameStatus,
-      player,
-      status
-    );
+    @Override
+    public void cleared(String gameId) {
+      final var game = games.remove(gameId);
+      if (game != null) retireVersionsOf(gameId, game.version());
+    }
+
+    @Override
+    public void restored(GameSnapshot game) {
+      games.put(game.gameId(), new Game(new Board(game.pits()), game.player(), game.status(), game.version()));
+    }
   }
 }
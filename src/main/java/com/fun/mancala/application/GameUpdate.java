@@ -0,0 +1,34 @@
+package com.fun.mancala.application;
+
+import com.fun.mancala.domain.models.Player;
+import com.fun.mancala.domain.models.Status;
+
+import java.util.Arrays;
+
+// The state a game reached at a version, as the pits that changed since the previous version and their new amount of stones. The
+// first update a watcher gets carries every pit, so it can start from nothing.
+public record GameUpdate(long version, int[] pits, int[] stones, Player player, Status status) {
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    GameUpdate that = (GameUpdate) o;
+    return version == that.version && Arrays.equals(pits, that.pits) && Arrays.equals(stones, that.stones) && player == that.player && status == that.status;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * Long.hashCode(version) + Arrays.hashCode(pits)) + Arrays.hashCode(stones);
+  }
+
+  @Override
+  public String toString() {
+    return "GameUpdate{" +
+      "version=" + version +
+      ", pits=" + Arrays.toString(pits) +
+      ", stones=" + Arrays.toString(stones) +
+      ", player=" + player +
+      ", status=" + status +
+      '}';
+  }
+}
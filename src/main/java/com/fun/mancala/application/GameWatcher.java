@@ -0,0 +1,9 @@
+package com.fun.mancala.application;
+
+// Told about every change of a game while holding the game's lock, so it must hand the update over instead of doing slow work.
+public interface GameWatcher {
+  void updated(GameUpdate update);
+
+  // the game is gone, and the watcher with it
+  void cleared();
+}
@@ -0,0 +1,7 @@
+package com.fun.mancala.application;
+
+import java.time.Duration;
+
+// what it took to rebuild the games on startup, the replayed moves only grow with the moves made since the last snapshot
+public record Restoration(long snapshotGames, long replayedMoves, Duration duration) {
+}
@@ -0,0 +1,203 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.application.ports.EndgameTablebase;
+import com.fun.mancala.domain.models.GameState;
+
+import java.time.Duration;
+
+import static com.fun.mancala.application.ai.TranspositionTable.EXACT;
+import static com.fun.mancala.application.ai.TranspositionTable.LOWER_BOUND;
+import static com.fun.mancala.application.ai.TranspositionTable.MISS;
+import static com.fun.mancala.application.ai.TranspositionTable.UPPER_BOUND;
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Status.DONE;
+
+// Negamax with alpha-beta pruning over packed GameStates, deepened one ply at a time until the time budget runs out. The positions
+// are two words each and the move lists are allocated once per ply, so a node costs no more than applying a move.
+// Scores are from the point of view of the player to move: the difference between the bases, or a win for whoever empties a side,
+// since that is the player the GameManager declares the winner of the game. Landing on the own base keeps the turn, and so the sign.
+// Positions the endgame tablebase covers are not searched any further, as their value is already known.
+// Not thread-safe, as it reuses its move lists from one search to the next, but several searches can share a transposition table.
+public class AlphaBetaSearch {
+  public static final int WIN = 1_000_000;
+  static final int MAXIMUM_DEPTH = 64;
+  private static final int INFINITY = WIN + 1;
+  // any win found by the search or read from the tablebase, which counts up to a byte of moves past the deepest ply
+  private static final int DECIDED = WIN - MAXIMUM_DEPTH - Byte.MAX_VALUE - 1;
+  private static final int NO_PIT = 0xFF;
+  private static final int NODES_BETWEEN_CLOCK_CHECKS = 4096;
+  private final TranspositionTable table;
+  private final EndgameTablebase tablebase;
+  private final int[][] moves = new int[MAXIMUM_DEPTH + 1][GameState.MAXIMUM_PITS];
+  private final int[][] priorities = new int[MAXIMUM_DEPTH + 1][GameState.MAXIMUM_PITS];
+  private long nodes;
+  private long deadline;
+  private boolean stopped;
+  private volatile boolean aborted;
+
+  public AlphaBetaSearch(int transpositionTableEntries) {
+    this(transpositionTableEntries, EndgameTablebase.NONE);
+  }
+
+  public AlphaBetaSearch(int transpositionTableEntries, EndgameTablebase tablebase) {
+    this(new TranspositionTable(transpositionTableEntries), tablebase);
+  }
+
+  AlphaBetaSearch(TranspositionTable table, EndgameTablebase tablebase) {
+    this.table = table;
+    this.tablebase = tablebase;
+  }
+
+  public SearchResult search(GameState root, Duration budget) {
+    return search(root, budget, MAXIMUM_DEPTH);
+  }
+
+  // the depth limit makes a search reproducible, whatever the speed of the machine running it
+  public SearchResult search(GameState root, Duration budget, int maximumDepth) {
+    aborted = false;
+    return search(root, budget, maximumDepth, 1);
+  }
+
+  // Deepens from the given depth on, until the budget runs out or the search is aborted. Aborting is left to the caller to undo, so a
+  // search aborted before it even started stops right away.
+  SearchResult search(GameState root, Duration budget, int maximumDepth, int firstDepth) {
+    if (root.status() == DONE)
+      throw new IllegalArgumentException("A finished game has no moves to search.");
+    final var start = System.nanoTime();
+    deadline = start + budget.toNanos();
+    nodes = 0;
+    stopped = aborted;
+    var bestPit = orderedMoves(root, 0, NO_PIT) > 0 ? moves[0][0] : NO_PIT;
+    var bestScore = evaluate(root);
+    var completedDepth = 0;
+    for (int depth = Math.max(firstDepth, 1); depth <= Math.min(maximumDepth, MAXIMUM_DEPTH) && !stopped; depth++) {
+      final var count = orderedMoves(root, 0, bestPit);
+      var alpha = -INFINITY;
+      var iterationPit = NO_PIT;
+      for (int move = 0; move < count && !stopped; move++) {
+        final var pit = moves[0][move];
+        final var score = scoreOf(root, root.move(pit), depth - 1, alpha, INFINITY, 1);
+        if (stopped) break;
+        if (score > alpha) {
+          alpha = score;
+          iterationPit = pit;
+        }
+      }
+      // The previous best move is searched first, so even an interrupted iteration is worth keeping once that one is done: any other
+      // move it picked did better at the new depth.
+      if (iterationPit != NO_PIT) {
+        bestPit = iterationPit;
+        bestScore = alpha;
+      }
+      if (!stopped) completedDepth = depth;
+      if (Math.abs(bestScore) > DECIDED) break;
+    }
+    return new SearchResult(bestPit, bestScore, completedDepth, nodes, Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  public void clear() {
+    table.clear();
+  }
+
+  // stops the running search, from any thread, at its next clock check
+  void abort() {
+    aborted = true;
+  }
+
+  void resume() {
+    aborted = false;
+  }
+
+  private int negamax(GameState state, int depth, int alpha, int beta, int ply) {
+    if (++nodes % NODES_BETWEEN_CLOCK_CHECKS == 0 && (aborted || System.nanoTime() > deadline)) stopped = true;
+    if (stopped) return 0;
+    // the move that ended the game was made by the player still on turn
+    if (state.status() == DONE) return WIN - ply;
+    // the tablebase counts the moves left until the game ends, and the game ends on the turn of its winner
+    final var known = tablebase.probe(state);
+    if (known != EndgameTablebase.UNKNOWN) return known > 0 ? WIN - ply - known : -(WIN - ply + known);
+    if (depth == 0 || ply == MAXIMUM_DEPTH) return evaluate(state);
+
+    final var originalAlpha = alpha;
+    final var entry = table.probe(state);
+    var hashPit = NO_PIT;
+    if (entry != MISS) {
+      hashPit = TranspositionTable.bestPit(entry);
+      if (TranspositionTable.depth(entry) >= depth) {
+        final var score = fromTable(TranspositionTable.score(entry), ply);
+        final var bound = TranspositionTable.bound(entry);
+        if (bound == EXACT) return score;
+        if (bound == LOWER_BOUND) alpha = Math.max(alpha, score);
+        else if (bound == UPPER_BOUND) beta = Math.min(beta, score);
+        if (alpha >= beta) return score;
+      }
+    }
+
+    final var count = orderedMoves(state, ply, hashPit);
+    var best = -INFINITY;
+    var bestPit = NO_PIT;
+    for (int move = 0; move < count; move++) {
+      final var pit = moves[ply][move];
+      final var score = scoreOf(state, state.move(pit), depth - 1, alpha, beta, ply + 1);
+      if (stopped) return 0;
+      if (score > best) {
+        best = score;
+        bestPit = pit;
+      }
+      if (score > alpha) alpha = score;
+      if (alpha >= beta) break;
+    }
+    final var bound = best <= originalAlpha ? UPPER_BOUND : best >= beta ? LOWER_BOUND : EXACT;
+    table.store(state, toTable(best, ply), depth, bound, bestPit);
+    return best;
+  }
+
+  // the child is scored for whoever is on turn there, which is still the parent's player after landing on the own base
+  private int scoreOf(GameState parent, GameState child, int depth, int alpha, int beta, int ply) {
+    return child.player() == parent.player()
+      ? negamax(child, depth, alpha, beta, ply)
+      : -negamax(child, depth, -beta, -alpha, ply);
+  }
+
+  private static int evaluate(GameState state) {
+    final var ownBase = state.player() == ONE ? state.playerOneBase() : state.playerTwoBase();
+    final var opponentBase = state.player() == ONE ? state.playerTwoBase() : state.playerOneBase();
+    return state.stones(ownBase) - state.stones(opponentBase);
+  }
+
+  // Fills the move list of the ply with the playable pits, best candidates first: the one the table remembers, then the ones that land
+  // on the own base and keep the turn, then the closest to the base, which usually leave the opponent fewer stones.
+  private int orderedMoves(GameState state, int ply, int hashPit) {
+    final var pits = state.pits();
+    final var ownBase = state.player() == ONE ? state.playerOneBase() : state.playerTwoBase();
+    final var ring = pits - 1;
+    final var plyMoves = moves[ply];
+    final var plyPriorities = priorities[ply];
+    var count = 0;
+    for (int pit = ownBase - 1; pit >= 0 && pit >= ownBase - state.playerOneBase(); pit--) {
+      if (!state.isPlayable(pit)) continue;
+      final var distance = ownBase - pit;
+      final var stones = state.stones(pit);
+      final var priority = pit == hashPit ? 3 : stones >= distance && (stones - distance) % ring == 0 ? 2 : 1;
+      // insertion sort, on six pits at most
+      var slot = count++;
+      while (slot > 0 && plyPriorities[slot - 1] < priority) {
+        plyMoves[slot] = plyMoves[slot - 1];
+        plyPriorities[slot] = plyPriorities[slot - 1];
+        slot--;
+      }
+      plyMoves[slot] = pit;
+      plyPriorities[slot] = priority;
+    }
+    return count;
+  }
+
+  // wins are kept in the table relative to the position, and made relative to the root again when read
+  private static int toTable(int score, int ply) {
+    return score > DECIDED ? score + ply : score < -DECIDED ? score - ply : score;
+  }
+
+  private static int fromTable(int score, int ply) {
+    return score > DECIDED ? score - ply : score < -DECIDED ? score + ply : score;
+  }
+}
@@ -0,0 +1,120 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.exceptions.BoardInitializationException;
+import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.application.ports.EndgameTablebase;
+import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.Game;
+import com.fun.mancala.domain.models.GameState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fun.mancala.application.exceptions.RuleViolation.GAME_ENDED;
+import static com.fun.mancala.domain.models.Status.DONE;
+
+// Takes the turn of whichever player is on turn, with the best pit a parallel alpha-beta search finds within the budget. The searches
+// and their transposition tables are kept between turns and handed to one turn at a time, up to a fixed amount of them that the turns
+// beyond wait for, and all of their helpers share one pool of as many threads as processors. The helpers of a turn that could not start
+// before its main search ended are skipped, so turns keep to their budgets however many of them share the pool.
+// Positions with few stones left are not searched but read from the endgame tablebase, which also tells how a game ends under perfect play.
+// Boards too large to be packed for alpha-beta are played with a Monte-Carlo tree search instead, pooled the same way.
+@Service
+public class ComputerPlayer implements Closeable {
+  private final GameManager gameManager;
+  private final EndgameTablebase tablebase;
+  private final ExecutorService helpers;
+  private final SearchPool<ParallelSearch> searches;
+  private final SearchPool<MonteCarloTreeSearch> monteCarloSearches;
+
+  // zero threads use every available processor
+  public ComputerPlayer(GameManager gameManager,
+                        EndgameTablebase tablebase,
+                        @Value("${mancala.ai.transposition-table-entries}") int transpositionTableEntries,
+                        @Value("${mancala.ai.monte-carlo-nodes}") int monteCarloNodes,
+                        @Value("${mancala.ai.threads}") int threads,
+                        @Value("${mancala.ai.searches}") int searches) {
+    this.gameManager = gameManager;
+    this.tablebase = tablebase;
+    final var processors = Runtime.getRuntime().availableProcessors();
+    final var searchThreads = threads > 0 ? threads : processors;
+    final var helperNumber = new AtomicInteger();
+    this.helpers = Executors.newFixedThreadPool(processors, runnable -> {
+      final var thread = new Thread(runnable, "computer-player-" + helperNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.searches = new SearchPool<>(searches, () -> new ParallelSearch(searchThreads, transpositionTableEntries, tablebase, helpers));
+    this.monteCarloSearches = new SearchPool<>(searches, () -> new MonteCarloTreeSearch(monteCarloNodes, searchThreads));
+  }
+
+  // The game is copied once, and both searches think about that very copy, packed first when the board fits. The move is made only on
+  // the version that was copied, so a move made by anyone else while the computer thinks is a conflict, and the turn is not played
+  // over it with a pit chosen for another position.
+  public Board play(String gameId, Duration budget) throws BoardMoveException {
+    final var game = gameManager.copyOf(gameId);
+    if (game.status() == DONE)
+      throw new BoardMoveException(GAME_ENDED, "Game has ended. Player " + game.player() + " won.");
+    return gameManager.moveStonesFrom(gameId, bestPit(game, budget), game.version());
+  }
+
+  private int bestPit(Game game, Duration budget) {
+    final GameState state;
+    try {
+      state = GameState.of(game);
+    } catch (IllegalArgumentException e) {
+      return search(game, budget).pit();
+    }
+    return search(state, budget).pit();
+  }
+
+  // a lookup in the tablebase for the position and each of its moves, no search at all
+  public Evaluation evaluate(String gameId) throws BoardInitializationException {
+    final GameState state;
+    try {
+      state = gameManager.state(gameId);
+    } catch (IllegalArgumentException e) {
+      return Evaluation.UNSOLVED;
+    }
+    if (state.status() == DONE) return new Evaluation(true, state.player(), 0, null);
+    final var value = tablebase.probe(state);
+    if (value == EndgameTablebase.UNKNOWN) return Evaluation.UNSOLVED;
+    var bestPit = -1;
+    for (int pit = 0; pit < state.pits() && bestPit < 0; pit++) {
+      if (!state.isPlayable(pit)) continue;
+      final var child = state.move(pit);
+      if (TablebaseSolver.valueOfMove(state, child, child.status() == DONE ? EndgameTablebase.UNKNOWN : tablebase.probe(child)) == value)
+        bestPit = pit;
+    }
+    return new Evaluation(true, TablebaseSolver.winnerOf(state, value), Math.abs(value), bestPit);
+  }
+
+  public SearchResult search(GameState state, Duration budget) {
+    final var search = searches.acquire();
+    try {
+      return search.search(state, budget);
+    } finally {
+      searches.release(search);
+    }
+  }
+
+  public PlayoutResult search(Game game, Duration budget) {
+    final var search = monteCarloSearches.acquire();
+    try {
+      return search.search(game, budget);
+    } finally {
+      monteCarloSearches.release(search);
+    }
+  }
+
+  @Override
+  public void close() {
+    helpers.shutdownNow();
+  }
+}
@@ -0,0 +1,9 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.Player;
+
+// The outcome of a game under perfect play from its current position: who wins, in how many more moves, and the pit the player on turn
+// should play. Positions the endgame tablebase does not cover are not solved, and then the rest is unknown.
+public record Evaluation(boolean solved, Player winner, Integer moves, Integer pit) {
+  static final Evaluation UNSOLVED = new Evaluation(false, null, null, null);
+}
@@ -0,0 +1,199 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.Game;
+import com.fun.mancala.domain.models.Player;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.fun.mancala.domain.models.Status.DONE;
+
+// Monte-Carlo tree search for boards of any size, where no evaluation is good enough for alpha-beta: random games are played to their
+// end from the most promising positions, and the move whose games were won the most is played. The playouts run on virtual threads,
+// each on a PlayoutBoard of its own, and all of them grow a single tree kept in arrays allocated up front:
+//   - the visits and wins of a node are packed into one long, updated with a single atomic addition, and a visit is counted on the
+//     way down, so that the other threads see a game in flight as a loss and spread over other nodes;
+//   - a node is expanded by the thread that claims it with a compare-and-set, and the others play out from it meanwhile;
+//   - children are one block of consecutive nodes, taken from the arrays with an atomic counter, and once these are full the tree
+//     stops growing while the playouts go on.
+// Wins are counted for the player who made the move into the node. Not thread-safe, one search at a time.
+public class MonteCarloTreeSearch {
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final int EXPANSION_VISITS = 8;
+  private static final int MAXIMUM_PATH = 1 << 12;
+  private static final int ROOT = 0;
+  private static final int UNEXPANDED = 0;
+  private static final int EXPANDING = -1;
+  private static final int FULL = -2;
+  private static final long VISIT = 1L << 32;
+  private static final long WIN = 1;
+  private static final byte NOBODY = -1;
+  private final int capacity;
+  private final AtomicLongArray stats;
+  private final AtomicIntegerArray firstChild;
+  private final int[] childCount;
+  private final int[] pitOf;
+  private final byte[] moverOf;
+  private final AtomicInteger used = new AtomicInteger();
+  private final Worker[] workers;
+
+  public MonteCarloTreeSearch(int nodes, int threads) {
+    if (nodes < 2)
+      throw new IllegalArgumentException("A Monte-Carlo tree needs room for at least two nodes.");
+    if (threads < 1)
+      throw new IllegalArgumentException("A Monte-Carlo tree search needs at least one thread.");
+    this.capacity = nodes;
+    this.stats = new AtomicLongArray(nodes);
+    this.firstChild = new AtomicIntegerArray(nodes);
+    this.childCount = new int[nodes];
+    this.pitOf = new int[nodes];
+    this.moverOf = new byte[nodes];
+    this.workers = new Worker[threads];
+    for (int thread = 0; thread < threads; thread++)
+      workers[thread] = new Worker();
+  }
+
+  public PlayoutResult search(Game game, Duration budget) {
+    if (game.status() == DONE)
+      throw new IllegalArgumentException("A finished game has no moves to search.");
+    final var start = System.nanoTime();
+    final var deadline = start + budget.toNanos();
+    final var board = game.board().pits().clone();
+    final var player = game.player();
+    clear();
+    // the root is expanded up front, so even a budget too short for a single playout has a move to answer
+    final var rootBoard = new PlayoutBoard(board.length);
+    rootBoard.reset(board, player);
+    if (!expand(ROOT, rootBoard))
+      throw new IllegalArgumentException("A Monte-Carlo tree of " + capacity + " nodes has no room for the moves of this board.");
+
+    final var running = new ArrayList<Future<?>>(workers.length);
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (var worker : workers)
+        running.add(executor.submit(() -> worker.run(board, player, deadline)));
+    }
+    for (var worker : running)
+      waitFor(worker);
+
+    var playouts = 0L;
+    for (var worker : workers)
+      playouts += worker.playouts;
+    // the most visited move, which the search trusted the most, rather than the one with the best rate over a handful of games
+    final var first = firstChild.get(ROOT);
+    var best = first;
+    for (int child = first; child < first + childCount[ROOT]; child++)
+      if (visits(child) > visits(best)) best = child;
+    final var winRate = visits(best) == 0 ? 0 : (double) wins(best) / visits(best);
+    return new PlayoutResult(pitOf[best], winRate, playouts, Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  private void clear() {
+    for (int node = 0; node < Math.min(used.get(), capacity); node++) {
+      stats.set(node, 0);
+      firstChild.set(node, UNEXPANDED);
+    }
+    moverOf[ROOT] = NOBODY;
+    used.set(1);
+  }
+
+  private long visits(int node) {
+    return stats.get(node) >>> 32;
+  }
+
+  private long wins(int node) {
+    return stats.get(node) & 0xFFFFFFFFL;
+  }
+
+  // upper confidence bound of the children, unvisited ones first
+  private int select(int node) {
+    final var first = firstChild.get(node);
+    final var logVisits = Math.log(Math.max(1, visits(node)));
+    var best = first;
+    var bestBound = Double.NEGATIVE_INFINITY;
+    for (int child = first; child < first + childCount[node]; child++) {
+      final var childStats = stats.get(child);
+      final var visits = childStats >>> 32;
+      if (visits == 0) return child;
+      final var bound = (double) (childStats & 0xFFFFFFFFL) / visits + EXPLORATION * Math.sqrt(logVisits / visits);
+      if (bound > bestBound) {
+        bestBound = bound;
+        best = child;
+      }
+    }
+    return best;
+  }
+
+  // adds a child per playable pit of the position on the board, unless another thread is already at it or the tree is full
+  private boolean expand(int node, PlayoutBoard board) {
+    if (!firstChild.compareAndSet(node, UNEXPANDED, EXPANDING)) return false;
+    final var firstPit = board.firstPit();
+    final var ownBase = board.ownBase();
+    var count = 0;
+    for (int pit = firstPit; pit < ownBase; pit++)
+      if (board.stones(pit) > 0) count++;
+    final var first = used.getAndAdd(count);
+    if (first + count > capacity) {
+      firstChild.set(node, FULL);
+      return false;
+    }
+    final var mover = (byte) board.player().ordinal();
+    for (int pit = firstPit, child = first; pit < ownBase; pit++) {
+      if (board.stones(pit) == 0) continue;
+      pitOf[child] = pit;
+      moverOf[child] = mover;
+      child++;
+    }
+    childCount[node] = count;
+    // publishes the children written above to the threads that read it
+    firstChild.set(node, first);
+    return true;
+  }
+
+  private static void waitFor(Future<?> worker) {
+    try {
+      worker.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("A playout failed.", e.getCause());
+    }
+  }
+
+  private final class Worker {
+    private final int[] path = new int[MAXIMUM_PATH];
+    private PlayoutBoard board;
+    private long playouts;
+
+    // the board of the playouts is only created again for a board of another size
+    void run(int[] root, Player player, long deadline) {
+      if (board == null || board.pits() != root.length) board = new PlayoutBoard(root.length);
+      playouts = 0;
+      while (System.nanoTime() < deadline) {
+        board.reset(root, player);
+        var depth = 0;
+        var node = ROOT;
+        stats.getAndAdd(ROOT, VISIT);
+        path[depth++] = ROOT;
+        while (!board.isDone() && depth < MAXIMUM_PATH) {
+          final var first = firstChild.get(node);
+          if (first == UNEXPANDED && visits(node) >= EXPANSION_VISITS && expand(node, board)) continue;
+          if (first <= 0) break;
+          node = select(node);
+          board.move(pitOf[node]);
+          stats.getAndAdd(node, VISIT);
+          path[depth++] = node;
+        }
+        final var winner = (byte) board.playOut().ordinal();
+        for (int step = 0; step < depth; step++)
+          if (moverOf[path[step]] == winner) stats.getAndAdd(path[step], WIN);
+        playouts++;
+      }
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.application.ports.EndgameTablebase;
+import com.fun.mancala.domain.models.GameState;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.fun.mancala.domain.models.Status.DONE;
+
+// Lazy SMP: one alpha-beta search per thread deepens the same root at once, all of them over a single shared transposition table. The
+// helpers share no other state and do not split the tree; they fill the table with the positions the main search is about to need,
+// and every other helper starts a ply deeper so they do not all walk the same iteration in step. The main search runs on the calling
+// thread and its end stops the helpers, and the deepest completed result wins, the main one on a tie.
+// Not thread-safe, one search at a time, like the AlphaBetaSearch it is made of.
+public class ParallelSearch {
+  private final TranspositionTable table;
+  private final AlphaBetaSearch[] searches;
+  private final ExecutorService helpers;
+
+  public ParallelSearch(int threads, int transpositionTableEntries, ExecutorService helpers) {
+    this(threads, transpositionTableEntries, EndgameTablebase.NONE, helpers);
+  }
+
+  // the helpers run on the given executor, which may be shared by many parallel searches
+  public ParallelSearch(int threads, int transpositionTableEntries, EndgameTablebase tablebase, ExecutorService helpers) {
+    if (threads < 1)
+      throw new IllegalArgumentException("A parallel search needs at least one thread.");
+    this.table = new TranspositionTable(transpositionTableEntries);
+    this.searches = new AlphaBetaSearch[threads];
+    for (int thread = 0; thread < threads; thread++)
+      searches[thread] = new AlphaBetaSearch(table, tablebase);
+    this.helpers = helpers;
+  }
+
+  public SearchResult search(GameState root, Duration budget) {
+    return search(root, budget, AlphaBetaSearch.MAXIMUM_DEPTH);
+  }
+
+  public SearchResult search(GameState root, Duration budget, int maximumDepth) {
+    if (root.status() == DONE)
+      throw new IllegalArgumentException("A finished game has no moves to search.");
+    final var start = System.nanoTime();
+    final var running = new ArrayList<Helper>(searches.length - 1);
+    for (int helper = 1; helper < searches.length; helper++) {
+      final var search = searches[helper];
+      final var firstDepth = 1 + helper % 2;
+      final var started = new AtomicBoolean();
+      search.resume();
+      running.add(new Helper(started, helpers.submit(() -> started.compareAndSet(false, true)
+        ? search.search(root, budget, maximumDepth, firstDepth)
+        : null)));
+    }
+    SearchResult best;
+    try {
+      best = searches[0].search(root, budget, maximumDepth);
+    } finally {
+      for (int helper = 1; helper < searches.length; helper++)
+        searches[helper].abort();
+    }
+    // The helpers that started are waited for even when they are no longer needed, as their searches are reused by the next call. Those
+    // still queued behind the helpers of other searches are skipped instead, so a turn never outlasts its budget waiting for them: once
+    // they run they find they were skipped and leave their search alone.
+    var nodes = best.nodes();
+    for (var helper : running) {
+      if (helper.started().compareAndSet(false, true)) {
+        helper.result().cancel(false);
+        continue;
+      }
+      final var result = resultOf(helper.result());
+      nodes += result.nodes();
+      if (result.depth() > best.depth()) best = result;
+    }
+    return new SearchResult(best.pit(), best.score(), best.depth(), nodes, Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  public void clear() {
+    table.clear();
+  }
+
+  private record Helper(AtomicBoolean started, Future<SearchResult> result) {
+  }
+
+  private static SearchResult resultOf(Future<SearchResult> helper) {
+    var interrupted = false;
+    try {
+      while (true) {
+        try {
+          return helper.get();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          throw new IllegalStateException("A helper search failed.", e.getCause());
+        }
+      }
+    } finally {
+      if (interrupted) Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.Player;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+
+// The rules of the GameManager on a plain array of pits that is reset and played over and over, so a playout allocates nothing. The
+// stones on each side are counted as they are sown and captured, so whether a side is empty is known without adding them up again.
+// Not thread-safe, every playing thread has its own.
+final class PlayoutBoard {
+  private final int[] pits;
+  private final int playerOneBase;
+  private final int playerTwoBase;
+  private int playerOneStones;
+  private int playerTwoStones;
+  private Player player;
+  private boolean done;
+
+  PlayoutBoard(int pits) {
+    this.pits = new int[pits];
+    this.playerOneBase = pits / 2 - 1;
+    this.playerTwoBase = pits - 1;
+  }
+
+  int pits() {
+    return pits.length;
+  }
+
+  void reset(int[] board, Player player) {
+    System.arraycopy(board, 0, pits, 0, pits.length);
+    playerOneStones = 0;
+    playerTwoStones = 0;
+    for (int pit = 0; pit < playerOneBase; pit++) {
+      playerOneStones += pits[pit];
+      playerTwoStones += pits[pit + playerOneBase + 1];
+    }
+    this.player = player;
+    this.done = playerOneStones == 0 || playerTwoStones == 0;
+  }
+
+  Player player() {
+    return player;
+  }
+
+  boolean isDone() {
+    return done;
+  }
+
+  int stones(int pit) {
+    return pits[pit];
+  }
+
+  int firstPit() {
+    return player == ONE ? 0 : playerOneBase + 1;
+  }
+
+  int ownBase() {
+    return player == ONE ? playerOneBase : playerTwoBase;
+  }
+
+  // plays random moves until a side is empty, and returns the winner, the player who emptied it
+  Player playOut() {
+    final var random = ThreadLocalRandom.current();
+    while (!done) {
+      var choice = random.nextInt(player == ONE ? playerOneStones : playerTwoStones);
+      // the pit holding the chosen stone, so pits with more stones are played more often, as players usually do
+      var pit = firstPit();
+      while (choice >= pits[pit])
+        choice -= pits[pit++];
+      move(pit);
+    }
+    return player;
+  }
+
+  void move(int pit) {
+    final var skippedBase = player == ONE ? playerTwoBase : playerOneBase;
+    var stones = pits[pit];
+    if (player == ONE) playerOneStones -= stones;
+    else playerTwoStones -= stones;
+    pits[pit] = 0;
+    var lastModifiedPitStoneCount = 0;
+    while (stones > 0) {
+      ++pit;
+      if (pit == skippedBase)
+        ++pit;
+      if (pit >= pits.length) pit = 0;
+      stones--;
+      lastModifiedPitStoneCount = pits[pit]++;
+      if (pit < playerOneBase) playerOneStones++;
+      else if (pit > playerOneBase && pit < playerTwoBase) playerTwoStones++;
+    }
+
+    final var ownBase = ownBase();
+    if (lastModifiedPitStoneCount == 0 && (player == ONE ? pit < playerOneBase : pit > playerOneBase && pit < playerTwoBase)) {
+      final var capturedPit = player == ONE ? pit + playerOneBase + 1 : pit - playerOneBase - 1;
+      if (player == ONE) {
+        playerOneStones -= pits[pit];
+        playerTwoStones -= pits[capturedPit];
+      } else {
+        playerTwoStones -= pits[pit];
+        playerOneStones -= pits[capturedPit];
+      }
+      pits[ownBase] += pits[capturedPit] + pits[pit];
+      pits[pit] = 0;
+      pits[capturedPit] = 0;
+    }
+
+    if (playerOneStones == 0 || playerTwoStones == 0) done = true;
+    else if (pit != ownBase) player = player == ONE ? TWO : ONE;
+  }
+}
@@ -0,0 +1,10 @@
+package com.fun.mancala.application.ai;
+
+import java.time.Duration;
+
+// The pit to play, the share of the playouts through it won by the player to move, and how many playouts the budget allowed
+public record PlayoutResult(int pit, double winRate, long playouts, Duration elapsed) {
+  public long playoutsPerSecond() {
+    return elapsed.isZero() ? playouts : playouts * 1_000_000_000L / elapsed.toNanos();
+  }
+}
@@ -0,0 +1,60 @@
+package com.fun.mancala.application.ai;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Up to a fixed amount of searches, created as turns first need them and handed to one turn at a time. A turn that finds all of them
+// busy waits for one to be released, so a burst of turns never holds more tables and trees than the pool allows.
+final class SearchPool<T> {
+  private final BlockingQueue<T> idle;
+  private final Supplier<T> factory;
+  private final int maximum;
+  private final AtomicInteger created = new AtomicInteger();
+
+  SearchPool(int maximum, Supplier<T> factory) {
+    if (maximum < 1) throw new IllegalArgumentException("At least one search should be pooled.");
+    this.idle = new ArrayBlockingQueue<>(maximum);
+    this.factory = factory;
+    this.maximum = maximum;
+  }
+
+  // waits for an idle search when none can be created, an interruption is only kept for the caller to see
+  T acquire() {
+    final var search = idle.poll();
+    if (search != null) return search;
+    for (var count = created.get(); count < maximum; count = created.get())
+      if (created.compareAndSet(count, count + 1)) return newSearch();
+    var interrupted = false;
+    try {
+      while (true) {
+        try {
+          return idle.take();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) Thread.currentThread().interrupt();
+    }
+  }
+
+  // a search that fails to be created leaves room for another one
+  private T newSearch() {
+    try {
+      return factory.get();
+    } catch (RuntimeException | Error e) {
+      created.decrementAndGet();
+      throw e;
+    }
+  }
+
+  void release(T search) {
+    idle.offer(search);
+  }
+
+  int created() {
+    return created.get();
+  }
+}
@@ -0,0 +1,10 @@
+package com.fun.mancala.application.ai;
+
+import java.time.Duration;
+
+// The pit to play and its score for the player to move, from the deepest search that was completed within the budget
+public record SearchResult(int pit, int score, int depth, long nodes, Duration elapsed) {
+  public long nodesPerSecond() {
+    return elapsed.isZero() ? nodes : nodes * 1_000_000_000L / elapsed.toNanos();
+  }
+}
@@ -0,0 +1,72 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.GameState;
+
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+
+// Ranks the positions of a board with up to a maximum of stones in play, the ones on the pits but not on the bases, into a dense range.
+// The bases are left out, as their stones never go back into play and so do not change how the game goes on. The stones of the pits
+// are ranked in lexicographic order among all the ways to spread that many stones or fewer, through a table of how many ways come
+// before every amount on every pit, and the player on turn is the last bit.
+public final class TablebaseIndex {
+  private final int pits;
+  private final int maximumStones;
+  private final int playerOneBase;
+  private final long positions;
+  // [pit in play][stones still to spread][stones on the pit] = the ways to spread the rest ranked before that amount on the pit
+  private final long[][][] offsets;
+
+  public TablebaseIndex(int pits, int maximumStones) {
+    if (pits < 6 || pits > GameState.MAXIMUM_PITS || pits % 2 != 0)
+      throw new IllegalArgumentException("A tablebase covers boards of an even amount of 6 to " + GameState.MAXIMUM_PITS + " pits.");
+    if (maximumStones < 1 || maximumStones > GameState.MAXIMUM_TOTAL_STONES)
+      throw new IllegalArgumentException("A tablebase covers 1 to " + GameState.MAXIMUM_TOTAL_STONES + " stones in play.");
+    this.pits = pits;
+    this.maximumStones = maximumStones;
+    this.playerOneBase = pits / 2 - 1;
+    final var pitsInPlay = pits - 2;
+    this.positions = ways(pitsInPlay, maximumStones);
+    this.offsets = new long[pitsInPlay][maximumStones + 1][maximumStones + 1];
+    for (int pit = 0; pit < pitsInPlay; pit++)
+      for (int left = 0; left <= maximumStones; left++)
+        for (int stones = 1; stones <= left; stones++)
+          offsets[pit][left][stones] = offsets[pit][left][stones - 1] + ways(pitsInPlay - 1 - pit, left - stones + 1);
+  }
+
+  public int pits() {
+    return pits;
+  }
+
+  public int maximumStones() {
+    return maximumStones;
+  }
+
+  public long size() {
+    return positions * 2;
+  }
+
+  // the rank of the position, or -1 when it is finished, of another board or has too many stones in play
+  public long indexOf(GameState state) {
+    if (state.pits() != pits || state.status() == DONE) return -1;
+    var left = maximumStones;
+    long rank = 0;
+    var pitInPlay = 0;
+    for (int pit = 0; pit < pits - 1; pit++) {
+      if (pit == playerOneBase) continue;
+      final var stones = state.stones(pit);
+      if (stones > left) return -1;
+      rank += offsets[pitInPlay++][left][stones];
+      left -= stones;
+    }
+    return rank * 2 + (state.player() == TWO ? 1 : 0);
+  }
+
+  // the ways to spread up to the given stones over the given pits, the binomial coefficient of (stones + pits) over pits
+  private static long ways(int pits, int stones) {
+    long ways = 1;
+    for (int pit = 1; pit <= pits; pit++)
+      ways = ways * (stones + pit) / pit;
+    return ways;
+  }
+}
@@ -0,0 +1,109 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.GameState;
+import com.fun.mancala.domain.models.Player;
+
+import java.nio.ByteBuffer;
+
+import static com.fun.mancala.application.ports.EndgameTablebase.UNKNOWN;
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+
+// Retrograde analysis of every position with up to the maximum of stones in play, from the fewest stones up. No move puts stones back
+// in play, so a position only leads to positions of its own amount of stones or fewer. Within the same amount, a move that drops no
+// stone on a base keeps all its stones on the mover's side and only moves them forward, so the positions of one amount can never lead
+// back to each other either: the game has no cycles, every position is a win or a loss, and each one is solved once all the positions
+// its moves lead to are. The winner of a game is whoever makes the move that empties a side.
+// Values are EndgameTablebase values, one signed byte per position at its TablebaseIndex rank, and zero for the ranks that are not
+// positions of a game being played, those with a side already empty.
+public final class TablebaseSolver {
+  private final TablebaseIndex index;
+  private final int[] pitsInPlay;
+  private ByteBuffer values;
+
+  public TablebaseSolver(TablebaseIndex index) {
+    this.index = index;
+    final var playerOneBase = index.pits() / 2 - 1;
+    this.pitsInPlay = new int[index.pits() - 2];
+    for (int pit = 0, inPlay = 0; pit < index.pits() - 1; pit++)
+      if (pit != playerOneBase) pitsInPlay[inPlay++] = pit;
+  }
+
+  // fills the values, which should be zeroed and hold as many bytes as the index has positions
+  public void solve(ByteBuffer values) {
+    if (values.capacity() < index.size())
+      throw new IllegalArgumentException("The tablebase needs " + index.size() + " bytes of values.");
+    this.values = values;
+    final var board = new int[index.pits()];
+    for (int stones = 2; stones <= index.maximumStones(); stones++)
+      solveSpreads(board, 0, stones);
+  }
+
+  // walks every way of spreading the stones over the pits in play, from the given one on
+  private void solveSpreads(int[] board, int pitInPlay, int stones) {
+    final var pit = pitsInPlay[pitInPlay];
+    if (pitInPlay == pitsInPlay.length - 1) {
+      board[pit] = stones;
+      if (bothSidesHaveStones(board)) {
+        valueOf(GameState.of(new Board(board), ONE, PLAYABLE));
+        valueOf(GameState.of(new Board(board), TWO, PLAYABLE));
+      }
+      board[pit] = 0;
+      return;
+    }
+    for (int onPit = 0; onPit <= stones; onPit++) {
+      board[pit] = onPit;
+      solveSpreads(board, pitInPlay + 1, stones - onPit);
+    }
+    board[pit] = 0;
+  }
+
+  private int valueOf(GameState state) {
+    final var position = (int) index.indexOf(state);
+    final int solved = values.get(position);
+    if (solved != UNKNOWN) return solved;
+    var best = UNKNOWN;
+    for (int pit = 0; pit < state.pits(); pit++) {
+      if (!state.isPlayable(pit)) continue;
+      final var child = state.move(pit);
+      final var value = valueOfMove(state, child, child.status() == DONE ? UNKNOWN : valueOf(child));
+      if (isBetter(value, best)) best = value;
+    }
+    if (Math.abs(best) > Byte.MAX_VALUE)
+      throw new IllegalStateException("A game of more than " + Byte.MAX_VALUE + " moves does not fit the tablebase.");
+    values.put(position, (byte) best);
+    return best;
+  }
+
+  // the value of a position through one of its moves, given the value of the position the move leads to
+  static int valueOfMove(GameState state, GameState child, int childValue) {
+    // the move that ended the game was made by its winner
+    if (child.status() == DONE) return 1;
+    final var value = child.player() == state.player() ? childValue : -childValue;
+    return value > 0 ? value + 1 : value - 1;
+  }
+
+  // a win beats any loss, the sooner the better, and a loss is better the later it comes
+  static boolean isBetter(int value, int best) {
+    if (best == UNKNOWN) return true;
+    return (value > 0) == (best > 0) ? value < best : value > 0;
+  }
+
+  private boolean bothSidesHaveStones(int[] board) {
+    final var playerOneBase = board.length / 2 - 1;
+    var playerOne = 0;
+    var playerTwo = 0;
+    for (int pit = 0; pit < board.length - 1; pit++) {
+      if (pit < playerOneBase) playerOne += board[pit];
+      else if (pit > playerOneBase) playerTwo += board[pit];
+    }
+    return playerOne > 0 && playerTwo > 0;
+  }
+
+  static Player winnerOf(GameState state, int value) {
+    return value > 0 ? state.player() : state.player() == ONE ? TWO : ONE;
+  }
+}
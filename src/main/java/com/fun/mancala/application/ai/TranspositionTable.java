@@ -0,0 +1,88 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.GameState;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+// Fixed amount of entries allocated up front, each the two words of a position and its search result packed into a third one:
+//   score (32 bits) | depth (8 bits) | bound (2 bits) | best pit (8 bits)
+// A position goes to a single slot, and always replaces whatever was there.
+// Many searches can share a table without locks: the position words are stored xored with the result, so an entry torn by two threads
+// writing it at once does not match any position and reads as a miss. Every word is read and written whole, but no order is enforced.
+final class TranspositionTable {
+  private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+  static final int EXACT = 1;
+  static final int LOWER_BOUND = 2;
+  static final int UPPER_BOUND = 3;
+  static final long MISS = 0;
+  private final long[] lows;
+  private final long[] highs;
+  private final long[] results;
+  private final int mask;
+
+  // the amount of entries is rounded down to a power of two
+  TranspositionTable(int entries) {
+    if (entries < 1)
+      throw new IllegalArgumentException("A transposition table should have at least one entry.");
+    final var size = Integer.highestOneBit(entries);
+    this.lows = new long[size];
+    this.highs = new long[size];
+    this.results = new long[size];
+    this.mask = size - 1;
+  }
+
+  // the packed result stored for the position, or MISS
+  long probe(GameState state) {
+    final var slot = slotOf(state);
+    final var result = (long) WORDS.getOpaque(results, slot);
+    final var matches = ((long) WORDS.getOpaque(lows, slot) ^ result) == state.low()
+      && ((long) WORDS.getOpaque(highs, slot) ^ result) == state.high();
+    return matches ? result : MISS;
+  }
+
+  void store(GameState state, int score, int depth, int bound, int bestPit) {
+    final var slot = slotOf(state);
+    final var result = (long) score << 32 | (long) depth << 16 | (long) bound << 8 | bestPit;
+    WORDS.setOpaque(results, slot, result);
+    WORDS.setOpaque(lows, slot, state.low() ^ result);
+    WORDS.setOpaque(highs, slot, state.high() ^ result);
+  }
+
+  // not meant to run while a search is using the table
+  void clear() {
+    Arrays.fill(lows, 0);
+    Arrays.fill(highs, 0);
+    Arrays.fill(results, MISS);
+  }
+
+  int size() {
+    return results.length;
+  }
+
+  static int score(long result) {
+    return (int) (result >> 32);
+  }
+
+  static int depth(long result) {
+    return (int) (result >>> 16) & 0xFF;
+  }
+
+  static int bound(long result) {
+    return (int) (result >>> 8) & 0x3;
+  }
+
+  static int bestPit(long result) {
+    return (int) result & 0xFF;
+  }
+
+  private int slotOf(GameState state) {
+    // a 64 bits finalizer, so that positions differing in a single pit spread over the whole table
+    var hash = state.low() * 0x9E3779B97F4A7C15L ^ state.high();
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    return (int) hash & mask;
+  }
+}
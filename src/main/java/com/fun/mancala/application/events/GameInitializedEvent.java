@@ -0,0 +1,49 @@
+package com.fun.mancala.application.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Only created while a recording takes it, as MoveAppliedEvent, so an initialization allocates nothing for an unused event.
+@Name("com.fun.mancala.GameInitialized")
+@Label("Game Initialized")
+@Category("Mancala")
+@Description("A game initialized from its board")
+@StackTrace(false)
+public class GameInitializedEvent extends Event {
+  private static final EventType TYPE = EventType.getEventType(GameInitializedEvent.class);
+  @Label("Game Id")
+  private String gameId;
+  @Label("Pits")
+  private int pits;
+  @Label("Stones")
+  private int stones;
+
+  // null when no recording takes the event
+  public static GameInitializedEvent begun() {
+    if (!TYPE.isEnabled()) return null;
+    final var event = new GameInitializedEvent();
+    event.begin();
+    return event;
+  }
+
+  // the event may not have begun
+  public static void commit(GameInitializedEvent event, String gameId, int[] initialBoard) {
+    if (event != null) event.commit(gameId, initialBoard);
+  }
+
+  private void commit(String gameId, int[] initialBoard) {
+    end();
+    if (shouldCommit()) {
+      this.gameId = gameId;
+      this.pits = initialBoard.length;
+      for (var pitStones : initialBoard)
+        this.stones += pitStones;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.fun.mancala.application.events;
+
+import com.fun.mancala.domain.models.MoveOutcome;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Begun as a move is asked for and committed once it is journaled and its watchers are told, so its duration includes waiting for the
+// game. It is only created while a recording takes it, as a move is too large for the JIT to always leave an unused event unallocated.
+@Name("com.fun.mancala.MoveApplied")
+@Label("Move Applied")
+@Category("Mancala")
+@Description("A move made on a game")
+@StackTrace(false)
+public class MoveAppliedEvent extends Event {
+  private static final EventType TYPE = EventType.getEventType(MoveAppliedEvent.class);
+  @Label("Game Id")
+  private String gameId;
+  @Label("Pit")
+  private int pit;
+  @Label("Stones Sown")
+  private int stonesSown;
+  @Label("Capture")
+  private boolean capture;
+  @Label("Turn Passed")
+  @Description("Whether the other player is on turn after the move")
+  private boolean turnPassed;
+  @Label("Version")
+  @Description("The version of the game the move made")
+  private long version;
+
+  // null when no recording takes the event
+  public static MoveAppliedEvent begun() {
+    if (!TYPE.isEnabled()) return null;
+    final var event = new MoveAppliedEvent();
+    event.begin();
+    return event;
+  }
+
+  // the event may not have begun, and the outcome is made of the bits of MoveOutcome
+  public static void commit(MoveAppliedEvent event, String gameId, int pit, int stonesSown, int outcome, long version) {
+    if (event != null) event.commit(gameId, pit, stonesSown, outcome, version);
+  }
+
+  private void commit(String gameId, int pit, int stonesSown, int outcome, long version) {
+    end();
+    if (shouldCommit()) {
+      this.gameId = gameId;
+      this.pit = pit;
+      this.stonesSown = stonesSown;
+      this.capture = MoveOutcome.captured(outcome);
+      this.turnPassed = MoveOutcome.passedTurn(outcome);
+      this.version = version;
+      commit();
+    }
+  }
+}
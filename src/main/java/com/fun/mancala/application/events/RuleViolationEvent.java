@@ -0,0 +1,35 @@
+package com.fun.mancala.application.events;
+
+import com.fun.mancala.application.exceptions.RuleViolation;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// an instant event, committed where the rejection is described rather than where it is thrown, so a batch is reported only once
+@Name("com.fun.mancala.RuleViolation")
+@Label("Rule Violation")
+@Category("Mancala")
+@Description("A request rejected for breaking a rule of the game")
+@StackTrace(false)
+public class RuleViolationEvent extends Event {
+  private static final EventType TYPE = EventType.getEventType(RuleViolationEvent.class);
+  @Label("Reason")
+  private String reason;
+  @Label("Message")
+  private String message;
+
+  // off in the shipped settings, so a rejection allocates nothing unless a recording takes it
+  public static void commit(RuleViolation violation, String message) {
+    if (!TYPE.isEnabled()) return;
+    final var event = new RuleViolationEvent();
+    if (event.shouldCommit()) {
+      event.reason = violation.name();
+      event.message = message;
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.fun.mancala.application.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// only the statuses actually rendered, the ones served as they were last rendered are not worth an event
+@Name("com.fun.mancala.StatusRendered")
+@Label("Status Rendered")
+@Category("Mancala")
+@Description("The status of a game rendered after a change of the game")
+@StackTrace(false)
+public class StatusRenderedEvent extends Event {
+  @Label("Game Id")
+  private String gameId;
+  @Label("Version")
+  private long version;
+  @Label("Size")
+  @DataAmount
+  private int size;
+
+  public void commit(String gameId, long version, int size) {
+    end();
+    if (shouldCommit()) {
+      this.gameId = gameId;
+      this.version = version;
+      this.size = size;
+      commit();
+    }
+  }
+}
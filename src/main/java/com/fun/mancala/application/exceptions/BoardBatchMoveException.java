@@ -0,0 +1,14 @@
+package com.fun.mancala.application.exceptions;
+
+public class BoardBatchMoveException extends BoardMoveException {
+  private final int failedMove;
+
+  public BoardBatchMoveException(int failedMove, RuleViolation violation, String message) {
+    super(violation, message);
+    this.failedMove = failedMove;
+  }
+
+  public int getFailedMove() {
+    return failedMove;
+  }
+}
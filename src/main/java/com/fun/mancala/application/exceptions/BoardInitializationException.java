@@ -1,7 +1,19 @@
 package com.fun.mancala.application.exceptions;
 
+// an ordinary mistake of a client, described back to it and never logged, so it is thrown without filling in a stack trace
 public class BoardInitializationException extends RuntimeException {
-  public BoardInitializationException(String message) {
-    super(message);
+  private final RuleViolation violation;
+
+  public BoardInitializationException(RuleViolation violation) {
+    this(violation, violation.detail());
+  }
+
+  public BoardInitializationException(RuleViolation violation, String message) {
+    super(message, null, false, false);
+    this.violation = violation;
+  }
+
+  public RuleViolation getViolation() {
+    return violation;
   }
 }
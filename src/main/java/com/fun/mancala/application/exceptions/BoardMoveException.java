@@ -1,7 +1,19 @@
 package com.fun.mancala.application.exceptions;
 
+// an ordinary mistake of a client, described back to it and never logged, so it is thrown without filling in a stack trace
 public class BoardMoveException extends RuntimeException {
-  public BoardMoveException(String message) {
-    super(message);
+  private final RuleViolation violation;
+
+  public BoardMoveException(RuleViolation violation) {
+    this(violation, violation.detail());
+  }
+
+  public BoardMoveException(RuleViolation violation, String message) {
+    super(message, null, false, false);
+    this.violation = violation;
+  }
+
+  public RuleViolation getViolation() {
+    return violation;
   }
 }
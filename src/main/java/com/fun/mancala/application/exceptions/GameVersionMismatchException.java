@@ -0,0 +1,15 @@
+package com.fun.mancala.application.exceptions;
+
+// a move meant for another version of the game than the current one, because some other move got there first
+public class GameVersionMismatchException extends BoardMoveException {
+  private final long currentVersion;
+
+  public GameVersionMismatchException(long currentVersion) {
+    super(RuleViolation.VERSION_MISMATCH, "The game has moved on to version " + currentVersion + ". Read its status and retry.");
+    this.currentVersion = currentVersion;
+  }
+
+  public long getCurrentVersion() {
+    return currentVersion;
+  }
+}
@@ -0,0 +1,34 @@
+package com.fun.mancala.application.exceptions;
+
+// The kinds of ordinary mistakes of a client that a game rejects, one per reason given back, with the detail that describes any of
+// them. Some exceptions describe their mistake further, e.g. with the pit that broke the rule.
+public enum RuleViolation {
+  INVALID_GAME_ID("The game id should have between 1 and 64 letters, digits, '-' or '_'."),
+  ALREADY_INITIALIZED("The board is already initialized."),
+  MISSING_BOARD("Provide an initial state to the board."),
+  ODD_PITS("The amount of pits on board should be even."),
+  TOO_FEW_PITS("The board should have at least two pits plus a base per player."),
+  TOO_MANY_STONES("There are too many stones on a pit. Fix the initialization board and retry."),
+  NEGATIVE_STONES("There are negative amount of stones on a pit. Fix the initialization board and retry."),
+  MISPLACED_EMPTY_PITS("The board should have only two empty pits at the right of each player."),
+  NOT_INITIALIZED("The board has not been initialized yet."),
+  GAME_ENDED("Game has ended."),
+  BASE_PIT("The stones at the base should not be moved."),
+  OPPONENT_PIT("Those stones are not yours to move."),
+  EMPTY_PIT("Choose a pit with stones."),
+  INVALID_PIT("Choose a pit on the board."),
+  MISSING_PIT("Provide the pit to move the stones from."),
+  MISSING_PITS("Provide the pits to move the stones from."),
+  VERSION_MISMATCH("The game has moved on. Read its status and retry."),
+  INVALID_BUDGET("The computer cannot think for that long.");
+
+  private final String detail;
+
+  RuleViolation(String detail) {
+    this.detail = detail;
+  }
+
+  public String detail() {
+    return detail;
+  }
+}
@@ -0,0 +1,13 @@
+package com.fun.mancala.application.ports;
+
+import com.fun.mancala.domain.models.GameState;
+
+// The outcome of perfect play from every position with few stones left in play, solved ahead of time. A value is signed for the player
+// on turn, positive when they win and negative when they lose, and its magnitude is the amount of moves left until the game ends.
+public interface EndgameTablebase {
+  int UNKNOWN = 0;
+  EndgameTablebase NONE = state -> UNKNOWN;
+
+  // the value of the position, or UNKNOWN when the tablebase does not cover it
+  int probe(GameState state);
+}
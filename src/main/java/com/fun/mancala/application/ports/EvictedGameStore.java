@@ -0,0 +1,28 @@
+package com.fun.mancala.application.ports;
+
+// Where the games evicted from memory are spilled to, to be brought back the next time they are used.
+public interface EvictedGameStore {
+  EvictedGameStore NONE = new EvictedGameStore() {
+    @Override
+    public void save(GameSnapshot game) {
+      // nothing is kept, an evicted game is gone
+    }
+
+    @Override
+    public GameSnapshot read(String gameId) {
+      return null;
+    }
+
+    @Override
+    public void delete(String gameId) {
+      // nothing was kept
+    }
+  };
+
+  void save(GameSnapshot game);
+
+  // the spilled game, which is kept until it is deleted, or null if there is none
+  GameSnapshot read(String gameId);
+
+  void delete(String gameId);
+}
@@ -0,0 +1,77 @@
+package com.fun.mancala.application.ports;
+
+// Every change to a game, in the order the GameManager applied it, so the games can be rebuilt by replaying it through the rules.
+public interface GameJournal {
+  GameJournal NONE = new GameJournal() {
+    @Override
+    public void initialized(String gameId, long version, int[] initialBoard) {
+      // nothing is kept
+    }
+
+    @Override
+    public void moved(String gameId, long sequence, int pit) {
+      // nothing is kept
+    }
+
+    @Override
+    public void cleared(String gameId) {
+      // nothing is kept
+    }
+
+    @Override
+    public void restored(GameSnapshot game) {
+      // nothing is kept
+    }
+
+    @Override
+    public void awaitDurable() {
+      // nothing is kept
+    }
+
+    @Override
+    public long checkpoint() {
+      return 0;
+    }
+
+    @Override
+    public void truncateBefore(long checkpoint) {
+      // nothing is kept
+    }
+
+    @Override
+    public void replay(long fromCheckpoint, Replay replay) {
+      // nothing to replay
+    }
+  };
+
+  // the version is the one the game starts at, past the versions of the games cleared before under its id
+  void initialized(String gameId, long version, int[] initialBoard);
+
+  // the sequence is the number of moves of the game, this one included
+  void moved(String gameId, long sequence, int pit);
+
+  void cleared(String gameId);
+
+  // a game brought back from where it was spilled, as it was when spilled: the records it was rebuilt from may be gone already
+  void restored(GameSnapshot game);
+
+  // returns once every change journaled before the call is on disk, called without holding any game's lock
+  void awaitDurable();
+
+  // everything journaled after this call is found replaying from the returned checkpoint
+  long checkpoint();
+
+  void truncateBefore(long checkpoint);
+
+  void replay(long fromCheckpoint, Replay replay);
+
+  interface Replay {
+    void initialized(String gameId, long version, int[] initialBoard);
+
+    void moved(String gameId, long sequence, int pit);
+
+    void cleared(String gameId);
+
+    void restored(GameSnapshot game);
+  }
+}
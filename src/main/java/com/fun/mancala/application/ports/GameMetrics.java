@@ -0,0 +1,38 @@
+package com.fun.mancala.application.ports;
+
+import com.fun.mancala.application.exceptions.RuleViolation;
+
+// Where the GameManager reports how long its operations take and what the moves did. It is called on the path of every move, so an
+// implementation should record without allocating or waiting.
+public interface GameMetrics {
+  GameMetrics NONE = new GameMetrics() {
+    @Override
+    public void initialized(long nanos) {
+      // nothing is recorded
+    }
+
+    @Override
+    public void moved(long nanos, int outcome) {
+      // nothing is recorded
+    }
+
+    @Override
+    public void statusRendered(long nanos) {
+      // nothing is recorded
+    }
+
+    @Override
+    public void rejected(RuleViolation violation) {
+      // nothing is recorded
+    }
+  };
+
+  void initialized(long nanos);
+
+  // the outcome is made of the bits of MoveOutcome
+  void moved(long nanos, int outcome);
+
+  void statusRendered(long nanos);
+
+  void rejected(RuleViolation violation);
+}
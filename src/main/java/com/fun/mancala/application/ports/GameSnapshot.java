@@ -0,0 +1,32 @@
+package com.fun.mancala.application.ports;
+
+import com.fun.mancala.domain.models.Player;
+import com.fun.mancala.domain.models.Status;
+
+import java.util.Arrays;
+
+public record GameSnapshot(String gameId, long version, Player player, Status status, int[] pits) {
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    GameSnapshot that = (GameSnapshot) o;
+    return version == that.version && gameId.equals(that.gameId) && player == that.player && status == that.status && Arrays.equals(pits, that.pits);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * gameId.hashCode() + Long.hashCode(version)) + Arrays.hashCode(pits);
+  }
+
+  @Override
+  public String toString() {
+    return "GameSnapshot{" +
+      "gameId=" + gameId +
+      ", version=" + version +
+      ", player=" + player +
+      ", status=" + status +
+      ", pits=" + Arrays.toString(pits) +
+      '}';
+  }
+}
@@ -0,0 +1,25 @@
+package com.fun.mancala.application.ports;
+
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Copies of all the live games, tagged with the journal checkpoint from which the moves made after the copy can be replayed.
+public interface GameSnapshotStore {
+  GameSnapshotStore NONE = new GameSnapshotStore() {
+    @Override
+    public void save(long checkpoint, Stream<GameSnapshot> games) {
+      // nothing is kept
+    }
+
+    @Override
+    public OptionalLong loadLatest(Consumer<GameSnapshot> games) {
+      return OptionalLong.empty();
+    }
+  };
+
+  void save(long checkpoint, Stream<GameSnapshot> games);
+
+  // feeds the games of the newest snapshot and returns its checkpoint, or nothing if there is no snapshot yet
+  OptionalLong loadLatest(Consumer<GameSnapshot> games);
+}
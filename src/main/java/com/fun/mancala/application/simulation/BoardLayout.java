@@ -0,0 +1,29 @@
+package com.fun.mancala.application.simulation;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+// A board of the given pits with the same stones on every pit but the bases, written as pits x stones, e.g. 14x4
+public record BoardLayout(int pits, int stonesPerPit) {
+  private static final Pattern LAYOUT = Pattern.compile("(\\d+)x(\\d+)");
+
+  public static BoardLayout parse(String layout) {
+    final var matcher = LAYOUT.matcher(layout.trim());
+    if (!matcher.matches())
+      throw new IllegalArgumentException("A board layout is written as pits x stones per pit, e.g. 14x4, not " + layout + ".");
+    return new BoardLayout(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+  }
+
+  public int[] initialBoard() {
+    final var board = new int[pits];
+    Arrays.fill(board, stonesPerPit);
+    board[pits / 2 - 1] = 0;
+    board[pits - 1] = 0;
+    return board;
+  }
+
+  @Override
+  public String toString() {
+    return pits + "x" + stonesPerPit;
+  }
+}
@@ -0,0 +1,78 @@
+package com.fun.mancala.application.simulation;
+
+import com.fun.mancala.domain.models.Player;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+
+// What happened over many games of one layout. Every thread fills its own and they are combined at the end, so counting needs no
+// synchronization. Games longer than the histogram are all counted in its last bucket.
+public class LayoutStatistics {
+  static final int MAXIMUM_RECORDED_LENGTH = 10_000;
+  private final long[] lengths = new long[MAXIMUM_RECORDED_LENGTH + 1];
+  private long games;
+  private long moves;
+  private long captures;
+  private long extraTurns;
+  private long firstPlayerWins;
+  private long longestGame;
+
+  public void add(long gameMoves, long gameCaptures, long gameExtraTurns, Player winner) {
+    games++;
+    moves += gameMoves;
+    captures += gameCaptures;
+    extraTurns += gameExtraTurns;
+    if (winner == ONE) firstPlayerWins++;
+    lengths[(int) Math.min(gameMoves, MAXIMUM_RECORDED_LENGTH)]++;
+    longestGame = Math.max(longestGame, gameMoves);
+  }
+
+  public void combine(LayoutStatistics other) {
+    games += other.games;
+    moves += other.moves;
+    captures += other.captures;
+    extraTurns += other.extraTurns;
+    firstPlayerWins += other.firstPlayerWins;
+    for (int length = 0; length < lengths.length; length++)
+      lengths[length] += other.lengths[length];
+    longestGame = Math.max(longestGame, other.longestGame);
+  }
+
+  public long games() {
+    return games;
+  }
+
+  public long moves() {
+    return moves;
+  }
+
+  public double meanLength() {
+    return games == 0 ? 0 : (double) moves / games;
+  }
+
+  // the length within which the given share of the games ended
+  public long lengthPercentile(double percentile) {
+    final var rank = (long) Math.ceil(percentile / 100 * games);
+    var seen = 0L;
+    for (int length = 0; length < lengths.length; length++) {
+      seen += lengths[length];
+      if (seen >= rank && seen > 0) return length;
+    }
+    return 0;
+  }
+
+  public long longestGame() {
+    return longestGame;
+  }
+
+  public double capturesPerMove() {
+    return moves == 0 ? 0 : (double) captures / moves;
+  }
+
+  public double extraTurnsPerMove() {
+    return moves == 0 ? 0 : (double) extraTurns / moves;
+  }
+
+  public double firstPlayerWinRate() {
+    return games == 0 ? 0 : (double) firstPlayerWins / games;
+  }
+}
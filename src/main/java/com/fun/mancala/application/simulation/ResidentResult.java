@@ -0,0 +1,18 @@
+package com.fun.mancala.application.simulation;
+
+import java.time.Duration;
+
+// the games played all at once, and the collections of the whole JVM while they were played
+public record ResidentResult(
+  BoardLayout layout,
+  int games,
+  long moves,
+  long offHeapBytes,
+  Duration elapsed,
+  long collections,
+  Duration collectionTime
+) {
+  public double movesPerSecond() {
+    return moves / (Math.max(elapsed.toNanos(), 1) / 1e9);
+  }
+}
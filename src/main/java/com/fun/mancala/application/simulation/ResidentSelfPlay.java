@@ -0,0 +1,86 @@
+package com.fun.mancala.application.simulation;
+
+import com.fun.mancala.domain.models.GameSlab;
+import com.fun.mancala.domain.models.GameState;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+
+// Keeps all the games of a layout resident at once in a GameSlab and plays them a random move at a time in turns, each game its move
+// before any game gets its next, until every game is done. A move is played on a GameState read from the game's record, through the
+// same rules as any other packed game, and written back, so however many games are resident the heap only holds the few short-lived
+// copies of the moves being played. Only the layouts a GameState packs are played.
+public class ResidentSelfPlay {
+  private static final int RECORDS_PER_SLAB = 1 << 20;
+  private static final int GAMES_PER_TASK = 1 << 14;
+
+  public static boolean fits(BoardLayout layout) {
+    return layout.pits() <= GameState.MAXIMUM_PITS && layout.stonesPerPit() * (layout.pits() - 2) <= GameState.MAXIMUM_TOTAL_STONES;
+  }
+
+  public ResidentResult play(BoardLayout layout, int games) {
+    if (!fits(layout))
+      throw new IllegalArgumentException("Only boards of up to " + GameState.MAXIMUM_PITS + " pits and " +
+        GameState.MAXIMUM_TOTAL_STONES + " stones are played resident, not " + layout + ".");
+    final var slab = new GameSlab(layout.pits(), RECORDS_PER_SLAB);
+    final var initialBoard = layout.initialBoard();
+    for (int game = 0; game < games; game++)
+      slab.allocate(initialBoard);
+
+    final var collectionsBefore = collections();
+    final var collectionTimeBefore = collectionTime();
+    final var start = System.nanoTime();
+    var moves = 0L;
+    var playing = games;
+    while (playing > 0) {
+      final var turn = IntStream.range(0, (games + GAMES_PER_TASK - 1) / GAMES_PER_TASK)
+        .parallel()
+        .mapToObj(task -> playTurn(slab, task * GAMES_PER_TASK, Math.min((task + 1) * GAMES_PER_TASK, games)))
+        .reduce(new long[2], (first, second) -> new long[]{first[0] + second[0], first[1] + second[1]});
+      moves += turn[0];
+      playing = (int) turn[1];
+    }
+    return new ResidentResult(layout, games, moves, slab.offHeapBytes(), Duration.ofNanos(System.nanoTime() - start),
+      collections() - collectionsBefore, Duration.ofMillis(collectionTime() - collectionTimeBefore));
+  }
+
+  // one move on every game of the records from (inclusive) to (exclusive) that is not done, and the moves and games still playing
+  private static long[] playTurn(GameSlab slab, int from, int to) {
+    final var game = slab.view();
+    final var random = ThreadLocalRandom.current();
+    var moves = 0L;
+    var playing = 0L;
+    for (int record = from; record < to; record++) {
+      if (game.at(record).status() != PLAYABLE) continue;
+      final var state = GameState.of(game.toBoard(), game.player(), game.status());
+      final var moved = state.move(randomPit(state, random));
+      slab.write(record, moved.toBoard().pits(), moved.player(), moved.status(), game.version() + 1);
+      moves++;
+      if (moved.status() == PLAYABLE) playing++;
+    }
+    return new long[]{moves, playing};
+  }
+
+  private static int randomPit(GameState game, ThreadLocalRandom random) {
+    final var firstPit = game.player() == ONE ? 0 : game.pits() / 2;
+    final var pitsPerPlayer = game.pits() / 2 - 1;
+    var pit = firstPit + random.nextInt(pitsPerPlayer);
+    while (!game.isPlayable(pit))
+      pit = pit + 1 == firstPit + pitsPerPlayer ? firstPit : pit + 1;
+    return pit;
+  }
+
+  private static long collections() {
+    return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+  }
+
+  private static long collectionTime() {
+    return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+  }
+}
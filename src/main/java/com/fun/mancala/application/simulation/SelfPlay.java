@@ -0,0 +1,101 @@
+package com.fun.mancala.application.simulation;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ai.AlphaBetaSearch;
+import com.fun.mancala.domain.models.Player;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+
+// Plays whole games against itself through the moveStonesFrom of a GameManager, as many at once as the common fork/join pool has
+// threads, and gathers the statistics of every layout. Both players either pick a random pit with stones, or the pit an alpha-beta
+// search finds at a fixed depth, so the results do not depend on the speed of the machine. The search always finds the same pit, so
+// searched games open with a few random moves to tell them apart.
+// The turn is followed from where the last stone of every move lands, which also tells the captures and the extra turns apart; a
+// mistake in following it would make the GameManager reject the next move.
+public class SelfPlay {
+  private static final Duration NO_LIMIT = Duration.ofDays(1);
+  private static final int TRANSPOSITION_TABLE_ENTRIES = 1 << 16;
+  static final int RANDOM_OPENING_MOVES = 4;
+  private final GameManager gameManager;
+  private final int searchDepth;
+  private final ThreadLocal<AlphaBetaSearch> searches = ThreadLocal.withInitial(() -> new AlphaBetaSearch(TRANSPOSITION_TABLE_ENTRIES));
+
+  // a search depth of zero plays random moves
+  public SelfPlay(GameManager gameManager, int searchDepth) {
+    this.gameManager = gameManager;
+    this.searchDepth = searchDepth;
+  }
+
+  public SimulationResult play(BoardLayout layout, long games) {
+    final var start = System.nanoTime();
+    final var statistics = LongStream.range(0, games)
+      .parallel()
+      .collect(LayoutStatistics::new, (gameStatistics, game) -> play(layout, game, gameStatistics), LayoutStatistics::combine);
+    return new SimulationResult(layout, statistics, Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  private void play(BoardLayout layout, long game, LayoutStatistics statistics) {
+    final var gameId = "self-play-" + layout + "-" + game;
+    final var playerOneBase = layout.pits() / 2 - 1;
+    final var playerTwoBase = layout.pits() - 1;
+    var pits = gameManager.initialize(gameId, layout.initialBoard()).pits();
+    var player = ONE;
+    var moves = 0L;
+    var captures = 0L;
+    var extraTurns = 0L;
+    try {
+      while (true) {
+        final var pit = searchDepth == 0 || moves < RANDOM_OPENING_MOVES
+          ? randomPit(pits, player, playerOneBase)
+          : searchedPit(gameId);
+        final var lastPit = lastPitOf(pits, pit, player == ONE ? playerTwoBase : playerOneBase);
+        pits = gameManager.moveStonesFrom(gameId, pit).pits();
+        moves++;
+        final var ownSide = player == ONE ? lastPit < playerOneBase : lastPit > playerOneBase && lastPit < playerTwoBase;
+        // the last stone always stays on its pit, unless it captured
+        if (ownSide && pits[lastPit] == 0) captures++;
+        if (sideIsEmpty(pits, 0, playerOneBase) || sideIsEmpty(pits, playerOneBase + 1, playerTwoBase)) break;
+        if (lastPit == (player == ONE ? playerOneBase : playerTwoBase)) extraTurns++;
+        else player = player == ONE ? TWO : ONE;
+      }
+      statistics.add(moves, captures, extraTurns, player);
+    } finally {
+      gameManager.clearGame(gameId);
+    }
+  }
+
+  private static int randomPit(int[] pits, Player player, int playerOneBase) {
+    final var firstPit = player == ONE ? 0 : playerOneBase + 1;
+    var playable = 0;
+    for (int pit = firstPit; pit < firstPit + playerOneBase; pit++)
+      if (pits[pit] > 0) playable++;
+    var choice = ThreadLocalRandom.current().nextInt(playable);
+    for (int pit = firstPit; ; pit++)
+      if (pits[pit] > 0 && choice-- == 0) return pit;
+  }
+
+  private int searchedPit(String gameId) {
+    return searches.get().search(gameManager.state(gameId), NO_LIMIT, searchDepth).pit();
+  }
+
+  // where the last stone of the pit lands, stepping over the skipped base like the sowing does
+  private static int lastPitOf(int[] pits, int pit, int skippedBase) {
+    var last = pit;
+    for (int stones = pits[pit]; stones > 0; stones--) {
+      last = (last + 1) % pits.length;
+      if (last == skippedBase) last = (last + 1) % pits.length;
+    }
+    return last;
+  }
+
+  private static boolean sideIsEmpty(int[] pits, int from, int to) {
+    for (int pit = from; pit < to; pit++)
+      if (pits[pit] > 0) return false;
+    return true;
+  }
+}
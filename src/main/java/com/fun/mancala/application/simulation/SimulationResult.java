@@ -0,0 +1,17 @@
+package com.fun.mancala.application.simulation;
+
+import java.time.Duration;
+
+public record SimulationResult(BoardLayout layout, LayoutStatistics statistics, Duration elapsed) {
+  public double gamesPerSecond() {
+    return statistics.games() / seconds();
+  }
+
+  public double movesPerSecond() {
+    return statistics.moves() / seconds();
+  }
+
+  private double seconds() {
+    return Math.max(elapsed.toNanos(), 1) / 1e9;
+  }
+}
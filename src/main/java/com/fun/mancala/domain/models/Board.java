@@ -2,7 +2,7 @@ package com.fun.mancala.domain.models;
 
 import java.util.Arrays;
 
-public record Board(Integer[] pits) {
+public record Board(int[] pits) {
   // overridden methods added because sonar...
   @Override
   public boolean equals(Object o) {
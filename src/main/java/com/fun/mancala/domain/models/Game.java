@@ -0,0 +1,200 @@
+package com.fun.mancala.domain.models;
+
+import java.util.BitSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+
+// mutable on purpose: the GameManager owns it, guards every change with the game's lock and brackets it with beginChange and endChange
+public class Game {
+  // the objects of a game, its id and its entry in the games map, plus its int and rendered text per pit
+  private static final int ESTIMATED_BYTES_PER_GAME = 400;
+  private static final int ESTIMATED_BYTES_PER_PIT = 12;
+  private static final long TOUCH_GRANULARITY_NANOS = 1_000_000;
+  // a ReentrantLock rather than the game's monitor, as the journal and the spilled games are written holding it, and a virtual thread
+  // waiting on the disk under a monitor would pin its carrier thread
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Board board;
+  private final BitSet nonEmptyPits;
+  private final int playerOneBase;
+  private final int playerTwoBase;
+  private Player player;
+  private Status status;
+  private long zobristHash;
+  private long version;
+  // read without the game's lock when a game is initialized again under the same id
+  private volatile boolean cleared;
+  // read without the game's lock when picking what to evict
+  private volatile boolean evicted;
+  private final int estimatedBytes;
+  private volatile long lastUsed;
+  // held for write only while a move changes the game, so readers copy it without the game's lock
+  private final StampedLock changes = new StampedLock();
+  // read without the game's lock, so a reader never waits for a move
+  private volatile GamePosition position;
+  private volatile RenderedStatus renderedStatus;
+
+  public Game(Board board) {
+    this.board = board;
+    this.nonEmptyPits = new BitSet(board.pits().length);
+    for (int pit = 0; pit < board.pits().length; pit++)
+      if (board.pits()[pit] > 0) nonEmptyPits.set(pit);
+    this.playerOneBase = board.pits().length / 2 - 1;
+    this.playerTwoBase = board.pits().length - 1;
+    this.player = ONE;
+    this.status = PLAYABLE;
+    this.zobristHash = Zobrist.hashOf(board.pits(), ONE);
+    this.estimatedBytes = ESTIMATED_BYTES_PER_GAME + ESTIMATED_BYTES_PER_PIT * board.pits().length;
+    this.lastUsed = System.nanoTime();
+  }
+
+  // a game brought back from a snapshot, as it was after that many moves
+  public Game(Board board, Player player, Status status, long version) {
+    this(board);
+    setPlayer(player);
+    this.status = status;
+    this.version = version;
+  }
+
+  public ReentrantLock lock() {
+    return lock;
+  }
+
+  public Board board() {
+    return board;
+  }
+
+  // one bit per pit with stones, kept up to date by whoever changes the pits, so the playable pits and the empty sides are found a
+  // word at a time instead of pit by pit
+  public BitSet nonEmptyPits() {
+    return nonEmptyPits;
+  }
+
+  public int playerOneBase() {
+    return playerOneBase;
+  }
+
+  public int playerTwoBase() {
+    return playerTwoBase;
+  }
+
+  public int baseOf(Player player) {
+    return player == ONE ? playerOneBase : playerTwoBase;
+  }
+
+  public int opponentBaseOf(Player player) {
+    return player == ONE ? playerTwoBase : playerOneBase;
+  }
+
+  public Player player() {
+    return player;
+  }
+
+  public void setPlayer(Player player) {
+    if (player != this.player) zobristHash ^= Zobrist.PLAYER_TWO;
+    this.player = player;
+  }
+
+  public Status status() {
+    return status;
+  }
+
+  public void setStatus(Status status) {
+    this.status = status;
+  }
+
+  // the position key, kept up to date by whoever changes the pits through updateZobristHash
+  public long zobristHash() {
+    return zobristHash;
+  }
+
+  public void updateZobristHash(long changedKeys) {
+    zobristHash ^= changedKeys;
+  }
+
+  // the amount of moves applied to the game, counted from the version it started at
+  public long version() {
+    return version;
+  }
+
+  // a game initialized under the id of a cleared one starts past the versions the cleared one went through
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  public void incrementVersion() {
+    version++;
+  }
+
+  public boolean isCleared() {
+    return cleared;
+  }
+
+  public void clear() {
+    cleared = true;
+  }
+
+  // an evicted game was taken out of memory, whoever still holds it has to look the game up again
+  public boolean isEvicted() {
+    return evicted;
+  }
+
+  public void evict() {
+    evicted = true;
+  }
+
+  // a rough count of the heap the game takes, which does not change as it is played
+  public int estimatedBytes() {
+    return estimatedBytes;
+  }
+
+  // the System.nanoTime of the last use, only written again a millisecond later so that readers of a busy game do not keep writing it
+  public long lastUsed() {
+    return lastUsed;
+  }
+
+  public void touch(long now) {
+    if (now - lastUsed > TOUCH_GRANULARITY_NANOS) lastUsed = now;
+  }
+
+  // Marks the start of a change of the pits, player, status or version, done under the game's lock. It never allocates nor waits, as
+  // the readers of the position never take it.
+  public long beginChange() {
+    return changes.writeLock();
+  }
+
+  public void endChange(long stamp) {
+    changes.unlockWrite(stamp);
+  }
+
+  // The game as it was between two changes, read without the game's lock: it is copied optimistically and copied again if a change
+  // overlapped the copy, and the copy is kept for the readers that come before the next change. A reader only ever spins for the
+  // few instructions of a change in progress, never for the lock, the journal or the watchers of a move.
+  public GamePosition position() {
+    while (true) {
+      final var stamp = changes.tryOptimisticRead();
+      if (stamp == 0) {
+        Thread.onSpinWait();
+        continue;
+      }
+      final var published = position;
+      if (published != null && published.version() == version && changes.validate(stamp)) return published;
+      final var copy = GamePosition.of(this);
+      if (changes.validate(stamp)) {
+        position = copy;
+        return copy;
+      }
+    }
+  }
+
+  // the status last rendered, of whichever position it was rendered from
+  public RenderedStatus renderedStatus() {
+    return renderedStatus;
+  }
+
+  public void setRenderedStatus(RenderedStatus renderedStatus) {
+    this.renderedStatus = renderedStatus;
+  }
+}
@@ -0,0 +1,28 @@
+package com.fun.mancala.domain.models;
+
+import java.util.BitSet;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+
+// A game as it was after that many moves, copied by its readers so that they never wait for the next one. Its board and bits are
+// copies that nobody changes once copied.
+public record GamePosition(long version, Player player, Status status, long zobristHash, Board board, BitSet nonEmptyPits) {
+  // may be copied while the game changes, in which case the copy is thrown away by whoever made it: the bits are copied through their
+  // words, as cloning a BitSet may trim the one cloned
+  public static GamePosition of(Game game) {
+    return new GamePosition(game.version(), game.player(), game.status(), game.zobristHash(),
+      new Board(game.board().pits().clone()), BitSet.valueOf(game.nonEmptyPits().toLongArray()));
+  }
+
+  public int playerOneBase() {
+    return board.pits().length / 2 - 1;
+  }
+
+  public int playerTwoBase() {
+    return board.pits().length - 1;
+  }
+
+  public int baseOf(Player player) {
+    return player == ONE ? playerOneBase() : playerTwoBase();
+  }
+}
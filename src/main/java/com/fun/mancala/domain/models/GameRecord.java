@@ -0,0 +1,69 @@
+package com.fun.mancala.domain.models;
+
+import java.nio.ByteBuffer;
+
+import static com.fun.mancala.domain.models.GameSlab.DONE;
+import static com.fun.mancala.domain.models.GameSlab.FLAGS_OFFSET;
+import static com.fun.mancala.domain.models.GameSlab.PLAYER_TWO;
+import static com.fun.mancala.domain.models.GameSlab.STONES_OFFSET;
+import static com.fun.mancala.domain.models.GameSlab.VERSION_OFFSET;
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+
+// A view of one record of a GameSlab, that reads the game right in the slab. It keeps nothing of the game itself, so a single view is
+// moved over as many records as needed instead of creating an object per game. It knows no rules: a game is played elsewhere and
+// written back through GameSlab.write.
+public class GameRecord {
+  private final GameSlab slab;
+  private ByteBuffer buffer;
+  private int offset;
+  private int record;
+
+  GameRecord(GameSlab slab) {
+    this.slab = slab;
+  }
+
+  public GameRecord at(int record) {
+    if (!slab.isInUse(record))
+      throw new IllegalArgumentException("Record " + record + " does not keep a game.");
+    this.record = record;
+    this.buffer = slab.slab(record);
+    this.offset = slab.offset(record);
+    return this;
+  }
+
+  public int record() {
+    return record;
+  }
+
+  public int pits() {
+    return slab.pits();
+  }
+
+  public int stones(int pit) {
+    return Short.toUnsignedInt(buffer.getShort(offset + STONES_OFFSET + Short.BYTES * pit));
+  }
+
+  public Player player() {
+    return (flags() & PLAYER_TWO) == 0 ? ONE : TWO;
+  }
+
+  public Status status() {
+    return (flags() & DONE) == 0 ? Status.PLAYABLE : Status.DONE;
+  }
+
+  public long version() {
+    return buffer.getLong(offset + VERSION_OFFSET);
+  }
+
+  public Board toBoard() {
+    final var pits = new int[pits()];
+    for (int pit = 0; pit < pits.length; pit++)
+      pits[pit] = stones(pit);
+    return new Board(pits);
+  }
+
+  private byte flags() {
+    return buffer.get(offset + FLAGS_OFFSET);
+  }
+}
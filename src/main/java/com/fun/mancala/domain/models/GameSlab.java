@@ -0,0 +1,131 @@
+package com.fun.mancala.domain.models;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+// Games of one board size kept outside the heap, as fixed-size records in direct buffers of a power of two records each, so that
+// millions of them add no objects for the garbage collector to trace. A game is known by the number of its record, from which its slab
+// and offset are computed, is read through a GameRecord placed on it and is written with write. A record is laid out as:
+//   version (8 bytes) | flags (1 byte) | unused (1 byte) | stones (2 bytes per pit)
+// padded to a multiple of 8 bytes. A free record keeps the number of the next free one in place of its version, so freed records are
+// reused without any list of them on the heap.
+// Not thread-safe: allocating and freeing records is up to a single thread at a time, records can be written by different threads as
+// long as no two of them touch the same record.
+public class GameSlab {
+  public static final int MAXIMUM_STONES = 0xFFFF;
+  static final int VERSION_OFFSET = 0;
+  static final int FLAGS_OFFSET = Long.BYTES;
+  static final int STONES_OFFSET = FLAGS_OFFSET + 2;
+  static final byte IN_USE = 1;
+  static final byte PLAYER_TWO = 1 << 1;
+  static final byte DONE = 1 << 2;
+  private static final int NO_RECORD = -1;
+
+  private final int pits;
+  private final int recordSize;
+  private final int recordsPerSlabShift;
+  private final List<ByteBuffer> slabs = new ArrayList<>();
+  private int nextUnused;
+  private int firstFree = NO_RECORD;
+  private int size;
+
+  // recordsPerSlab is rounded up to a power of two, and a slab cannot hold more than 2 GB
+  public GameSlab(int pits, int recordsPerSlab) {
+    if (pits < 6 || pits % 2 != 0)
+      throw new IllegalArgumentException("A board has an even amount of pits, at least two plus a base per player.");
+    this.pits = pits;
+    this.recordSize = (STONES_OFFSET + Short.BYTES * pits + Long.BYTES - 1) / Long.BYTES * Long.BYTES;
+    this.recordsPerSlabShift = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(recordsPerSlab, 2) - 1);
+    if ((long) recordSize << recordsPerSlabShift > Integer.MAX_VALUE)
+      throw new IllegalArgumentException("A slab of " + (1 << recordsPerSlabShift) + " records of " + recordSize + " bytes is too large.");
+  }
+
+  public int pits() {
+    return pits;
+  }
+
+  public int recordSize() {
+    return recordSize;
+  }
+
+  // the games kept, not counting the freed records
+  public int size() {
+    return size;
+  }
+
+  public long offHeapBytes() {
+    return (long) slabs.size() * recordSize << recordsPerSlabShift;
+  }
+
+  // a new game at version zero with player ONE on turn, whose record number is returned
+  public int allocate(int[] initialBoard) {
+    verify(initialBoard);
+    final int record;
+    if (firstFree != NO_RECORD) {
+      record = firstFree;
+      firstFree = (int) slab(record).getLong(offset(record) + VERSION_OFFSET);
+    } else {
+      if (nextUnused == Integer.MAX_VALUE)
+        throw new IllegalStateException("A slab store cannot keep more than " + Integer.MAX_VALUE + " games.");
+      record = nextUnused++;
+      if (record >> recordsPerSlabShift == slabs.size())
+        slabs.add(ByteBuffer.allocateDirect(recordSize << recordsPerSlabShift));
+    }
+    size++;
+    write(record, initialBoard, Player.ONE, Status.PLAYABLE, 0);
+    return record;
+  }
+
+  public void write(int record, int[] board, Player player, Status status, long version) {
+    verify(board);
+    final var slab = slab(record);
+    final var offset = offset(record);
+    for (int pit = 0; pit < pits; pit++)
+      slab.putShort(offset + STONES_OFFSET + Short.BYTES * pit, (short) board[pit]);
+    slab.putLong(offset + VERSION_OFFSET, version);
+    slab.put(offset + FLAGS_OFFSET, (byte) (IN_USE | (player == Player.TWO ? PLAYER_TWO : 0) | (status == Status.DONE ? DONE : 0)));
+  }
+
+  public void free(int record) {
+    if (!isInUse(record))
+      throw new IllegalArgumentException("Record " + record + " does not keep a game.");
+    final var slab = slab(record);
+    final var offset = offset(record);
+    slab.put(offset + FLAGS_OFFSET, (byte) 0);
+    slab.putLong(offset + VERSION_OFFSET, firstFree);
+    firstFree = record;
+    size--;
+  }
+
+  public boolean isInUse(int record) {
+    return record >= 0 && record < nextUnused && (slab(record).get(offset(record) + FLAGS_OFFSET) & IN_USE) != 0;
+  }
+
+  // a flyweight, placed on a record with at and moved to another one as often as needed
+  public GameRecord view() {
+    return new GameRecord(this);
+  }
+
+  private void verify(int[] board) {
+    if (board.length != pits)
+      throw new IllegalArgumentException("This slab keeps boards of " + pits + " pits, not " + board.length + ".");
+    var totalStones = 0;
+    for (int pit = 0; pit < pits; pit++) {
+      if (board[pit] < 0)
+        throw new IllegalArgumentException("There are negative amount of stones on pit " + pit + ".");
+      totalStones += board[pit];
+    }
+    // no pit can then ever hold more than the two bytes it has
+    if (totalStones > MAXIMUM_STONES)
+      throw new IllegalArgumentException("Only boards of up to " + MAXIMUM_STONES + " stones can be kept.");
+  }
+
+  ByteBuffer slab(int record) {
+    return slabs.get(record >>> recordsPerSlabShift);
+  }
+
+  int offset(int record) {
+    return (record & ((1 << recordsPerSlabShift) - 1)) * recordSize;
+  }
+}
@@ -0,0 +1,170 @@
+package com.fun.mancala.domain.models;
+
+import java.util.Arrays;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+
+// A whole game packed into two words: one byte lane per pit, pits 0 to 7 in low and 8 to 13 in high, and the last two lanes of high
+// keep the amount of pits and the player and status flags. The stones of a board never add up to more than 255, so no lane can ever
+// carry into its neighbour, and sowing and capturing are done as lane-wide additions instead of pit by pit.
+public record GameState(long low, long high) {
+  public static final int MAXIMUM_PITS = 14;
+  public static final int MAXIMUM_TOTAL_STONES = 0xFF;
+  private static final int LANES_PER_WORD = Long.BYTES;
+  private static final long ONE_PER_LANE = 0x0101010101010101L;
+  private static final int SIZE_SHIFT = 48;
+  private static final long PLAYER_TWO_FLAG = 1L << 56;
+  private static final long DONE_FLAG = 1L << 57;
+
+  public static GameState of(Game game) {
+    return of(game.board(), game.player(), game.status());
+  }
+
+  public static GameState of(Board board, Player player, Status status) {
+    final var pits = board.pits();
+    if (pits.length > MAXIMUM_PITS)
+      throw new IllegalArgumentException("Only boards of up to " + MAXIMUM_PITS + " pits can be packed.");
+    var totalStones = 0;
+    long low = 0;
+    long high = (long) pits.length << SIZE_SHIFT;
+    for (int pit = 0; pit < pits.length; pit++) {
+      if (pits[pit] < 0)
+        throw new IllegalArgumentException("There are negative amount of stones on pit " + pit + ".");
+      totalStones += pits[pit];
+      if (pit < LANES_PER_WORD) low |= (long) pits[pit] << shift(pit);
+      else high |= (long) pits[pit] << shift(pit);
+    }
+    if (totalStones > MAXIMUM_TOTAL_STONES)
+      throw new IllegalArgumentException("Only boards of up to " + MAXIMUM_TOTAL_STONES + " stones can be packed.");
+    if (player == TWO) high |= PLAYER_TWO_FLAG;
+    if (status == DONE) high |= DONE_FLAG;
+    return new GameState(low, high);
+  }
+
+  public Board toBoard() {
+    final var pits = new int[pits()];
+    for (int pit = 0; pit < pits.length; pit++)
+      pits[pit] = stones(pit);
+    return new Board(pits);
+  }
+
+  public int pits() {
+    return (int) (high >>> SIZE_SHIFT) & 0xFF;
+  }
+
+  public int stones(int pit) {
+    return (int) ((pit < LANES_PER_WORD ? low : high) >>> shift(pit)) & 0xFF;
+  }
+
+  public Player player() {
+    return (high & PLAYER_TWO_FLAG) == 0 ? ONE : TWO;
+  }
+
+  public Status status() {
+    return (high & DONE_FLAG) == 0 ? PLAYABLE : DONE;
+  }
+
+  public int playerOneBase() {
+    return pits() / 2 - 1;
+  }
+
+  public int playerTwoBase() {
+    return pits() - 1;
+  }
+
+  public boolean isPlayable(int pit) {
+    final var player = player();
+    final var firstPit = player == ONE ? 0 : playerOneBase() + 1;
+    final var base = player == ONE ? playerOneBase() : playerTwoBase();
+    return status() == PLAYABLE && pit >= firstPit && pit < base && stones(pit) > 0;
+  }
+
+  // same rules as the GameManager: sow skipping the opponent's base, capture on an own empty pit, repeat turn on the own base
+  public GameState move(int pit) {
+    if (!isPlayable(pit))
+      throw new IllegalArgumentException("Pit " + pit + " cannot be played.");
+    final var pits = pits();
+    final var player = player();
+    final var ownBase = player == ONE ? playerOneBase() : playerTwoBase();
+    final var skippedBase = player == ONE ? playerTwoBase() : playerOneBase();
+    final var stones = stones(pit);
+    var lo = low & ~lane(pit, 0, 0xFF);
+    var hi = high & ~lane(pit, 1, 0xFF);
+
+    // every full lap around the board drops one stone on each pit but the skipped base, all of them at once
+    final var ring = pits - 1;
+    final var laps = stones / ring;
+    final var remainder = stones % ring;
+    if (laps > 0) {
+      lo += laps * (lanes(0, pits, 0) & ~lane(skippedBase, 0, 1));
+      hi += laps * (lanes(0, pits, 1) & ~lane(skippedBase, 1, 1));
+    }
+
+    // a full lap ends on the pit it started from, otherwise the remaining stones cover the next pits, stepping over the skipped one
+    var lastPit = pit;
+    if (remainder > 0) {
+      final var distanceToSkippedBase = Math.floorMod(skippedBase - pit, pits);
+      final var end = pit + remainder + (distanceToSkippedBase <= remainder ? 1 : 0);
+      lo += (lanes(pit + 1, Math.min(end + 1, pits), 0) | lanes(0, end + 1 - pits, 0)) & ~lane(skippedBase, 0, 1);
+      hi += (lanes(pit + 1, Math.min(end + 1, pits), 1) | lanes(0, end + 1 - pits, 1)) & ~lane(skippedBase, 1, 1);
+      lastPit = end % pits;
+    }
+
+    final var ownSide = player == ONE ? lastPit < ownBase : lastPit > playerOneBase() && lastPit < ownBase;
+    if (ownSide && stonesIn(lo, hi, lastPit) == 1) {
+      final var capturedPit = player == ONE ? lastPit + playerOneBase() + 1 : lastPit - playerOneBase() - 1;
+      final long captured = stonesIn(lo, hi, capturedPit) + 1L;
+      lo = lo & ~lane(lastPit, 0, 0xFF) & ~lane(capturedPit, 0, 0xFF);
+      hi = hi & ~lane(lastPit, 1, 0xFF) & ~lane(capturedPit, 1, 0xFF);
+      lo += lane(ownBase, 0, captured);
+      hi += lane(ownBase, 1, captured);
+    }
+
+    if (sideIsEmpty(lo, hi, 0, playerOneBase()) || sideIsEmpty(lo, hi, playerOneBase() + 1, playerTwoBase()))
+      hi |= DONE_FLAG;
+    else if (lastPit != ownBase)
+      hi ^= PLAYER_TWO_FLAG;
+    return new GameState(lo, hi);
+  }
+
+  private static boolean sideIsEmpty(long lo, long hi, int from, int to) {
+    return (lo & 0xFF * lanes(from, to, 0)) == 0 && (hi & 0xFF * lanes(from, to, 1)) == 0;
+  }
+
+  private static int stonesIn(long lo, long hi, int pit) {
+    return (int) ((pit < LANES_PER_WORD ? lo : hi) >>> shift(pit)) & 0xFF;
+  }
+
+  // the value placed on the lane of the pit if it lives in the given word, zero otherwise
+  private static long lane(int pit, int word, long value) {
+    return pit / LANES_PER_WORD == word ? value << shift(pit) : 0;
+  }
+
+  // one stone on every lane of the given word that belongs to the pits from (inclusive) to (exclusive)
+  private static long lanes(int from, int to, int word) {
+    final var first = Math.max(from - word * LANES_PER_WORD, 0);
+    final var last = Math.min(to - word * LANES_PER_WORD, LANES_PER_WORD);
+    if (first >= last) return 0;
+    return ONE_PER_LANE & lowBits(last * Byte.SIZE) & ~lowBits(first * Byte.SIZE);
+  }
+
+  private static long lowBits(int bits) {
+    return bits >= Long.SIZE ? -1L : (1L << bits) - 1;
+  }
+
+  private static int shift(int pit) {
+    return (pit % LANES_PER_WORD) * Byte.SIZE;
+  }
+
+  @Override
+  public String toString() {
+    return "GameState{" +
+      "pits=" + Arrays.toString(toBoard().pits()) +
+      ", player=" + player() +
+      ", status=" + status() +
+      '}';
+  }
+}
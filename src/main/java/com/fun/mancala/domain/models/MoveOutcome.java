@@ -0,0 +1,28 @@
+package com.fun.mancala.domain.models;
+
+// What a move did besides sowing, as bits of an int, so that telling it to whoever is interested allocates nothing.
+public final class MoveOutcome {
+  public static final int CAPTURE = 1;
+  public static final int EXTRA_TURN = 1 << 1;
+  public static final int FINISHED = 1 << 2;
+
+  private MoveOutcome() {
+  }
+
+  public static boolean captured(int outcome) {
+    return (outcome & CAPTURE) != 0;
+  }
+
+  public static boolean earnedExtraTurn(int outcome) {
+    return (outcome & EXTRA_TURN) != 0;
+  }
+
+  public static boolean finished(int outcome) {
+    return (outcome & FINISHED) != 0;
+  }
+
+  // the other player is on turn, unless the move earned another one or ended the game
+  public static boolean passedTurn(int outcome) {
+    return (outcome & (EXTRA_TURN | FINISHED)) == 0;
+  }
+}
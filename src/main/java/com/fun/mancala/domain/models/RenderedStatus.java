@@ -0,0 +1,5 @@
+package com.fun.mancala.domain.models;
+
+// the status text of a game as it was after that many moves, encoded once and shared by every reader until the next move
+public record RenderedStatus(long version, byte[] encoded) {
+}
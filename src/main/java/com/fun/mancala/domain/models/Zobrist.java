@@ -0,0 +1,38 @@
+package com.fun.mancala.domain.models;
+
+import static com.fun.mancala.domain.models.Player.TWO;
+
+// Zobrist keys of positions: the hash of a position is the XOR of one key per pit and amount of stones on it, and of the key of player
+// TWO when it is on turn, so a move only XORs out the old keys and in the new ones of the pits it changes.
+// Boards go up to hundreds of pits and thousands of stones, too many for a table of random keys, so every key is mixed out of its pit
+// and stones instead, which also keeps the keys the same from one run to the next. An empty pit has no key, so only the stones count.
+public final class Zobrist {
+  public static final long PLAYER_TWO = mix(-1L);
+
+  private Zobrist() {
+  }
+
+  public static long key(int pit, int stones) {
+    return stones == 0 ? 0 : mix((long) pit << 32 | stones);
+  }
+
+  // the key of a pit going from some amount of stones to another
+  public static long change(int pit, int stonesBefore, int stonesAfter) {
+    return key(pit, stonesBefore) ^ key(pit, stonesAfter);
+  }
+
+  public static long hashOf(int[] pits, Player player) {
+    var hash = player == TWO ? PLAYER_TWO : 0;
+    for (int pit = 0; pit < pits.length; pit++)
+      hash ^= key(pit, pits[pit]);
+    return hash;
+  }
+
+  // the finalizer of SplitMix64
+  private static long mix(long value) {
+    var z = value + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -1,11 +1,14 @@
 package com.fun.mancala.infra.adapters.controllers;
 
 import com.fun.mancala.application.GameManager;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Profile("!reactive")
 public class DeleteGame {
   private final GameManager gameManager;
 
@@ -13,9 +16,9 @@ public class DeleteGame {
     this.gameManager = gameManager;
   }
 
-  @DeleteMapping()
-  public ResponseEntity<Void> deleteGame() {
-    gameManager.clearGame();
+  @DeleteMapping("/games/{gameId}")
+  public ResponseEntity<Void> deleteGame(@PathVariable String gameId) {
+    gameManager.clearGame(gameId);
     return ResponseEntity.noContent().build();
   }
 }
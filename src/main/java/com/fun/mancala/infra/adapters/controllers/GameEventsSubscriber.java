@@ -0,0 +1,127 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.application.GameUpdate;
+import com.fun.mancala.application.GameWatcher;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+// One SSE stream of a game. The GameManager hands the updates over under the game's lock, into a bounded buffer that a thread of
+// its own writes to the client, and a client that lets the buffer fill up is dropped instead of it growing.
+// A "state" event carries every pit and a "move" event only the pits that changed, both with the game version as their id. A client
+// resuming from the current version just gets the next moves, and one resuming from an older version gets a single "state" event
+// with the game as it is now, instead of every move it missed.
+class GameEventsSubscriber implements GameWatcher {
+  static final int MAXIMUM_PENDING_EVENTS = 64;
+  private static final SseEmitter.SseEventBuilder END = SseEmitter.event();
+  private final SseEmitter emitter;
+  private final Encoding encoding;
+  private final BlockingQueue<SseEmitter.SseEventBuilder> pending = new ArrayBlockingQueue<>(MAXIMUM_PENDING_EVENTS + 1);
+  private final Long lastEventId;
+  private boolean first = true;
+  private volatile boolean dropped;
+
+  GameEventsSubscriber(SseEmitter emitter, Encoding encoding, Long lastEventId) {
+    this.emitter = emitter;
+    this.encoding = encoding;
+    this.lastEventId = lastEventId;
+  }
+
+  // the first update is the whole game, which the client already has if it saw that very version
+  @Override
+  public void updated(GameUpdate update) {
+    final var whole = first;
+    first = false;
+    if (dropped || whole && lastEventId != null && lastEventId == update.version()) return;
+    if (pending.size() >= MAXIMUM_PENDING_EVENTS) {
+      drop();
+      return;
+    }
+    pending.add(SseEmitter.event()
+      .id(Long.toString(update.version()))
+      .name(whole ? "state" : "move")
+      .data(encoding.jsonOf(update), APPLICATION_JSON));
+  }
+
+  // the buffer keeps one more slot than the events it holds, so the end of the stream always fits
+  @Override
+  public void cleared() {
+    if (dropped) return;
+    if (pending.size() >= MAXIMUM_PENDING_EVENTS) {
+      drop();
+      return;
+    }
+    pending.add(SseEmitter.event().name("cleared").data("The board has been cleared."));
+    pending.add(END);
+  }
+
+  boolean isDropped() {
+    return dropped;
+  }
+
+  // writes the buffered events until the stream ends, on a thread of its own since writing blocks on slow clients
+  void send() {
+    try {
+      for (var event = pending.take(); event != END && !dropped; event = pending.take())
+        emitter.send(event);
+      emitter.complete();
+    } catch (IOException e) {
+      emitter.completeWithError(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      emitter.complete();
+    }
+  }
+
+  // stops the stream, once the GameManager no longer hands it updates or while it does under the game's lock
+  void drop() {
+    dropped = true;
+    pending.clear();
+    pending.offer(END);
+  }
+
+  // the last update of a game and its JSON, shared by all the streams of the game and dropped along with the last of them
+  static final class Encoding {
+    private int subscribers;
+    private GameUpdate update;
+    private String json;
+
+    Encoding join() {
+      subscribers++;
+      return this;
+    }
+
+    Encoding leave() {
+      return --subscribers == 0 ? null : this;
+    }
+
+    synchronized String jsonOf(GameUpdate update) {
+      if (update != this.update) {
+        this.update = update;
+        this.json = render(update);
+      }
+      return json;
+    }
+
+    private static String render(GameUpdate update) {
+      final var json = new StringBuilder(64 + 8 * update.pits().length);
+      json.append("{\"version\":").append(update.version());
+      appendArray(json.append(",\"pits\":"), update.pits());
+      appendArray(json.append(",\"stones\":"), update.stones());
+      json.append(",\"player\":\"").append(update.player()).append('"');
+      json.append(",\"status\":\"").append(update.status()).append("\"}");
+      return json.toString();
+    }
+
+    private static void appendArray(StringBuilder json, int[] values) {
+      json.append('[');
+      for (int value = 0; value < values.length; value++)
+        json.append(value == 0 ? "" : ",").append(values[value]);
+      json.append(']');
+    }
+  }
+}
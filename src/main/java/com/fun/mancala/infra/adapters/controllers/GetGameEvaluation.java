@@ -0,0 +1,26 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.application.ai.ComputerPlayer;
+import com.fun.mancala.application.ai.Evaluation;
+import com.fun.mancala.application.exceptions.BoardInitializationException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("!reactive")
+public class GetGameEvaluation {
+  private final ComputerPlayer computerPlayer;
+
+  public GetGameEvaluation(ComputerPlayer computerPlayer) {
+    this.computerPlayer = computerPlayer;
+  }
+
+  // how the game ends under perfect play, read from the endgame tablebase when it covers the current position
+  @GetMapping("/games/{gameId}/evaluation")
+  public ResponseEntity<Evaluation> getGameEvaluation(@PathVariable String gameId) throws BoardInitializationException {
+    return ResponseEntity.ok(computerPlayer.evaluate(gameId));
+  }
+}
@@ -0,0 +1,47 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.exceptions.BoardInitializationException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RestController
+@Profile("!reactive")
+public class GetGameEvents {
+  private final GameManager gameManager;
+  private final Map<String, GameEventsSubscriber.Encoding> encodings = new ConcurrentHashMap<>();
+
+  public GetGameEvents(GameManager gameManager) {
+    this.gameManager = gameManager;
+  }
+
+  // the stream never times out, it ends when the client goes away, falls behind or the game is cleared
+  @GetMapping(path = "/games/{gameId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter getGameEvents(@PathVariable String gameId, @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) throws BoardInitializationException {
+    final var emitter = new SseEmitter(0L);
+    final var encoding = encodings.compute(gameId, (id, shared) -> (shared == null ? new GameEventsSubscriber.Encoding() : shared).join());
+    final var subscriber = new GameEventsSubscriber(emitter, encoding, lastEventId);
+    final Runnable unsubscribe = () -> {
+      gameManager.unwatch(gameId, subscriber);
+      subscriber.drop();
+      encodings.computeIfPresent(gameId, (id, shared) -> shared.leave());
+    };
+    emitter.onCompletion(unsubscribe);
+    try {
+      gameManager.watch(gameId, subscriber);
+    } catch (BoardInitializationException e) {
+      unsubscribe.run();
+      throw e;
+    }
+    Thread.startVirtualThread(subscriber::send);
+    return emitter;
+  }
+}
@@ -0,0 +1,25 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.exceptions.BoardInitializationException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("!reactive")
+public class GetGameMoves {
+  private final GameManager gameManager;
+
+  public GetGameMoves(GameManager gameManager) {
+    this.gameManager = gameManager;
+  }
+
+  // the pits the player on turn can play, so clients do not have to find them by trying moves that get rejected
+  @GetMapping("/games/{gameId}/moves")
+  public ResponseEntity<int[]> getGameMoves(@PathVariable String gameId) throws BoardInitializationException {
+    return ResponseEntity.ok(gameManager.legalMoves(gameId));
+  }
+}
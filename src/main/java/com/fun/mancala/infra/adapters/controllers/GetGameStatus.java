@@ -2,20 +2,33 @@ package com.fun.mancala.infra.adapters.controllers;
 
 import com.fun.mancala.application.GameManager;
 import com.fun.mancala.application.exceptions.BoardInitializationException;
+import com.fun.mancala.infra.adapters.http.GameVersions;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 @RestController
+@Profile("!reactive")
 public class GetGameStatus {
+  private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, UTF_8);
   private final GameManager gameManager;
 
   public GetGameStatus(GameManager gameManager) {
     this.gameManager = gameManager;
   }
 
-  @GetMapping("/status")
-  public ResponseEntity<String> getGameStatus() throws BoardInitializationException {
-    return ResponseEntity.ok(gameManager.gameStatus());
+  // the status is served as the bytes cached by the GameManager, so polling it formats and encodes nothing, tagged with its version
+  @GetMapping("/games/{gameId}/status")
+  public ResponseEntity<byte[]> getGameStatus(@PathVariable String gameId) throws BoardInitializationException {
+    final var status = gameManager.renderedGameStatus(gameId);
+    return ResponseEntity.ok()
+      .contentType(TEXT_PLAIN_UTF8)
+      .eTag(GameVersions.eTagOf(status.version()))
+      .body(status.encoded());
   }
 }
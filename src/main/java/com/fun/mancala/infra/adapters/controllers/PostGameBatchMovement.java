@@ -0,0 +1,41 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.infra.adapters.http.GameVersions;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@RestController
+@Profile("!reactive")
+public class PostGameBatchMovement {
+  private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, UTF_8);
+  private final GameManager gameManager;
+
+  public PostGameBatchMovement(GameManager gameManager) {
+    this.gameManager = gameManager;
+  }
+
+  @PostMapping("/games/{gameId}/move/batch")
+  public ResponseEntity<byte[]> postGameBatchMovement(
+    @PathVariable String gameId,
+    @RequestBody int[] pits,
+    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) throws BoardMoveException {
+    gameManager.moveStonesFrom(gameId, pits, GameVersions.expectedVersionOf(ifMatch));
+    final var status = gameManager.renderedGameStatus(gameId);
+    return ResponseEntity.ok()
+      .contentType(TEXT_PLAIN_UTF8)
+      .eTag(GameVersions.eTagOf(status.version()))
+      .body(status.encoded());
+  }
+}
@@ -0,0 +1,45 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ai.ComputerPlayer;
+import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.infra.adapters.http.ComputerBudgets;
+import com.fun.mancala.infra.adapters.http.GameVersions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@RestController
+@Profile("!reactive")
+public class PostGameComputerMovement {
+  private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, UTF_8);
+  private final GameManager gameManager;
+  private final ComputerPlayer computerPlayer;
+  private final Duration defaultBudget;
+
+  public PostGameComputerMovement(GameManager gameManager, ComputerPlayer computerPlayer, @Value("${mancala.ai.budget}") Duration defaultBudget) {
+    this.gameManager = gameManager;
+    this.computerPlayer = computerPlayer;
+    this.defaultBudget = defaultBudget;
+  }
+
+  // the computer plays the turn of whoever is on turn, thinking for the given milliseconds at most
+  @PostMapping("/games/{gameId}/move/computer")
+  public ResponseEntity<byte[]> postGameComputerMovement(@PathVariable String gameId, @RequestParam(required = false) Long budget) throws BoardMoveException {
+    computerPlayer.play(gameId, ComputerBudgets.budgetOf(budget, defaultBudget));
+    final var status = gameManager.renderedGameStatus(gameId);
+    return ResponseEntity.ok()
+      .contentType(TEXT_PLAIN_UTF8)
+      .eTag(GameVersions.eTagOf(status.version()))
+      .body(status.encoded());
+  }
+}
@@ -1,23 +1,38 @@
 package com.fun.mancala.infra.adapters.controllers;
 
 import com.fun.mancala.application.GameManager;
-import com.fun.mancala.application.exceptions.BoardInitializationException;
+import com.fun.mancala.infra.adapters.http.GameVersions;
+import com.fun.mancala.infra.adapters.http.RuleViolationProblems;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 @RestController
+@Profile("!reactive")
 public class PostGameInitialization {
+  private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, UTF_8);
   private final GameManager gameManager;
+  private final RuleViolationProblems problems;
 
-  public PostGameInitialization(GameManager gameManager) {
+  public PostGameInitialization(GameManager gameManager, RuleViolationProblems problems) {
     this.gameManager = gameManager;
+    this.problems = problems;
   }
 
-  @PostMapping("/initialize")
-  public ResponseEntity<String> postGameInitialization(@RequestBody Integer[] initialBoard) throws BoardInitializationException {
-    gameManager.initialize(initialBoard);
-    return ResponseEntity.ok(gameManager.gameStatus());
+  @PostMapping("/games/{gameId}/initialize")
+  public ResponseEntity<byte[]> postGameInitialization(@PathVariable String gameId, @RequestBody int[] initialBoard) {
+    final var violation = gameManager.tryInitialize(gameId, initialBoard);
+    if (violation != null) return problems.rejectedInitialization(violation, GameManager.pitOf(violation, initialBoard));
+    final var status = gameManager.renderedGameStatus(gameId);
+    return ResponseEntity.ok()
+      .contentType(TEXT_PLAIN_UTF8)
+      .eTag(GameVersions.eTagOf(status.version()))
+      .body(status.encoded());
   }
 }
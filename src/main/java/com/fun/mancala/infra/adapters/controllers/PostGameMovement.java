@@ -1,23 +1,48 @@
 package com.fun.mancala.infra.adapters.controllers;
 
 import com.fun.mancala.application.GameManager;
-import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.application.exceptions.GameVersionMismatchException;
+import com.fun.mancala.application.exceptions.RuleViolation;
+import com.fun.mancala.infra.adapters.http.GameVersions;
+import com.fun.mancala.infra.adapters.http.RuleViolationProblems;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 @RestController
+@Profile("!reactive")
 public class PostGameMovement {
+  private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, UTF_8);
   private final GameManager gameManager;
+  private final RuleViolationProblems problems;
 
-  public PostGameMovement(GameManager gameManager) {
+  public PostGameMovement(GameManager gameManager, RuleViolationProblems problems) {
     this.gameManager = gameManager;
+    this.problems = problems;
   }
 
-  @PostMapping("/move")
-  public ResponseEntity<String> postGameMovement(@RequestBody Integer pit) throws BoardMoveException {
-    gameManager.moveStonesFrom(pit);
-    return ResponseEntity.ok(gameManager.gameStatus());
+  // a move that breaks a rule is answered with the problem of the rule, without throwing, as bots send plenty of them, a null pit too
+  @PostMapping("/games/{gameId}/move")
+  public ResponseEntity<byte[]> postGameMovement(
+    @PathVariable String gameId,
+    @RequestBody(required = false) Integer pit,
+    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) throws GameVersionMismatchException {
+    if (pit == null) return problems.rejectedMove(RuleViolation.MISSING_PIT);
+    final var violation = gameManager.tryMoveStonesFrom(gameId, pit, GameVersions.expectedVersionOf(ifMatch));
+    if (violation != null) return problems.rejectedMove(violation, gameManager.winnerOf(gameId));
+    final var status = gameManager.renderedGameStatus(gameId);
+    return ResponseEntity.ok()
+      .contentType(TEXT_PLAIN_UTF8)
+      .eTag(GameVersions.eTagOf(status.version()))
+      .body(status.encoded());
   }
 }
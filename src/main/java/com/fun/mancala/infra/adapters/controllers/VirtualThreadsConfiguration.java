@@ -0,0 +1,21 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+
+// Every request, and so the GameManager work it does, runs on its own virtual thread instead of Tomcat's bounded pool of platform
+// threads, so requests blocked on the disk or waiting for a game no longer cap how many are served at once. The games, the journal and
+// the spilled games are guarded by ReentrantLocks rather than monitors, so a request waiting on the disk holding one of them unmounts
+// from its carrier thread instead of pinning it.
+@Configuration
+@ConditionalOnProperty(name = "mancala.threads.virtual", havingValue = "true")
+public class VirtualThreadsConfiguration {
+  @Bean
+  public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+    return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+  }
+}
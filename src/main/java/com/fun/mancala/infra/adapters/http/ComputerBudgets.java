@@ -0,0 +1,22 @@
+package com.fun.mancala.infra.adapters.http;
+
+import com.fun.mancala.application.exceptions.BoardMoveException;
+
+import java.time.Duration;
+
+import static com.fun.mancala.application.exceptions.RuleViolation.INVALID_BUDGET;
+
+// The thinking time a request gives the computer, in milliseconds, the same for the servlet controllers and the reactive routes.
+public final class ComputerBudgets {
+  private static final long MAXIMUM_BUDGET_MILLIS = 10_000;
+
+  private ComputerBudgets() {
+  }
+
+  // the milliseconds asked for, or the default budget when none were
+  public static Duration budgetOf(Long budget, Duration defaultBudget) throws BoardMoveException {
+    if (budget != null && (budget < 1 || budget > MAXIMUM_BUDGET_MILLIS))
+      throw new BoardMoveException(INVALID_BUDGET, "The computer can think for 1 to " + MAXIMUM_BUDGET_MILLIS + " milliseconds.");
+    return budget == null ? defaultBudget : Duration.ofMillis(budget);
+  }
+}
@@ -0,0 +1,59 @@
+package com.fun.mancala.infra.adapters.http;
+
+import com.fun.mancala.application.events.RuleViolationEvent;
+import com.fun.mancala.application.exceptions.BoardBatchMoveException;
+import com.fun.mancala.application.exceptions.BoardInitializationException;
+import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.application.exceptions.GameVersionMismatchException;
+import com.fun.mancala.application.exceptions.RuleViolation;
+import com.fun.mancala.application.ports.GameMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+import java.net.URI;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+
+// RFC-7807 not fully implemented, but at least returned. The thrown rejections are described, counted and recorded here, for the
+// servlet controllers and the reactive routes alike. The rules the GameManager gives back instead of throwing are described by
+// RuleViolationProblems.
+public class GameProblems {
+  private static final String BASE_PROBLEM_URL = "http://localhost/errors/";
+  private final GameMetrics metrics;
+
+  public GameProblems(GameMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  public ProblemDetail problemOf(RuntimeException error) {
+    return switch (error) {
+      case BoardBatchMoveException e -> {
+        var problem = rejected(BAD_REQUEST, e.getViolation(), e);
+        problem.setProperty("failedMove", e.getFailedMove());
+        yield problem;
+      }
+      case GameVersionMismatchException e -> {
+        var problem = rejected(PRECONDITION_FAILED, e.getViolation(), e);
+        problem.setProperty("currentVersion", e.getCurrentVersion());
+        yield problem;
+      }
+      case BoardMoveException e -> rejected(BAD_REQUEST, e.getViolation(), e);
+      case BoardInitializationException e -> rejected(BAD_REQUEST, e.getViolation(), e);
+      default -> problemOf(INTERNAL_SERVER_ERROR, "Something went wrong, please retry.", error);
+    };
+  }
+
+  private ProblemDetail rejected(HttpStatus status, RuleViolation violation, RuntimeException e) {
+    metrics.rejected(violation);
+    RuleViolationEvent.commit(violation, e.getMessage());
+    return problemOf(status, e.getMessage(), e);
+  }
+
+  private static ProblemDetail problemOf(HttpStatus status, String detail, RuntimeException e) {
+    var problem = ProblemDetail.forStatusAndDetail(status, detail);
+    problem.setType(URI.create(BASE_PROBLEM_URL + e.getClass().getSimpleName()));
+    return problem;
+  }
+}
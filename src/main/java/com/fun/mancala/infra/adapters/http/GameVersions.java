@@ -0,0 +1,25 @@
+package com.fun.mancala.infra.adapters.http;
+
+import com.fun.mancala.application.GameManager;
+
+import java.util.regex.Pattern;
+
+// The version of a game is its entity tag: the status answers it in the ETag header, and a move sent with it in If-Match is only
+// made if no other move got there first. Only a single strong tag is understood, and any other tag matches no version at all.
+public final class GameVersions {
+  private static final Pattern STRONG_VERSION_TAG = Pattern.compile("\"(\\d{1,18})\"");
+  private static final long NO_VERSION = -1;
+
+  private GameVersions() {
+  }
+
+  public static String eTagOf(long version) {
+    return "\"" + version + "\"";
+  }
+
+  public static long expectedVersionOf(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return GameManager.ANY_VERSION;
+    final var matcher = STRONG_VERSION_TAG.matcher(ifMatch.trim());
+    return matcher.matches() ? Long.parseLong(matcher.group(1)) : NO_VERSION;
+  }
+}
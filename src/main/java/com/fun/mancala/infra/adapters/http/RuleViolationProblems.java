@@ -0,0 +1,115 @@
+package com.fun.mancala.infra.adapters.http;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.events.RuleViolationEvent;
+import com.fun.mancala.application.exceptions.BoardInitializationException;
+import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.application.exceptions.RuleViolation;
+import com.fun.mancala.application.ports.GameMetrics;
+import com.fun.mancala.domain.models.Player;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.fun.mancala.application.exceptions.RuleViolation.GAME_ENDED;
+import static com.fun.mancala.application.exceptions.RuleViolation.NEGATIVE_STONES;
+import static com.fun.mancala.application.exceptions.RuleViolation.TOO_MANY_STONES;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+
+// The problems the rules given back by the GameManager are answered with, built and encoded once: one per rule, and one per winner of
+// a game that has ended or per pit of a board that broke a rule about the stones, with the same detail the GameManager throws them
+// with. They are the same problems the MancalaExceptionHandler describes for the thrown rejections, and are counted and recorded the
+// same way, so a rejected move costs about as much as a made one. Only boards larger than the cached pits get their problem built.
+@Component
+public class RuleViolationProblems {
+  private static final String BASE_PROBLEM_URL = "http://localhost/errors/";
+  private static final ObjectMapper JSON = JsonMapper.builder().serializationInclusion(JsonInclude.Include.NON_NULL).build();
+  private static final int CACHED_PITS = 256;
+  private final GameMetrics metrics;
+  private final List<Problem> moveProblems;
+  private final List<Problem> endedGameProblems;
+  private final List<Problem> initializationProblems;
+  private final Map<RuleViolation, List<Problem>> stonesProblems = new EnumMap<>(RuleViolation.class);
+
+  public RuleViolationProblems() {
+    this(GameMetrics.NONE);
+  }
+
+  @Autowired
+  public RuleViolationProblems(GameMetrics metrics) {
+    this.metrics = metrics;
+    this.moveProblems = Stream.of(RuleViolation.values())
+      .map(violation -> problemOf(BoardMoveException.class, violation.detail()))
+      .toList();
+    this.endedGameProblems = Stream.of(Player.values())
+      .map(winner -> problemOf(BoardMoveException.class, GameManager.detailOfWinner(GAME_ENDED, winner)))
+      .toList();
+    this.initializationProblems = Stream.of(RuleViolation.values())
+      .map(violation -> problemOf(BoardInitializationException.class, violation.detail()))
+      .toList();
+    for (var violation : List.of(TOO_MANY_STONES, NEGATIVE_STONES))
+      stonesProblems.put(violation, IntStream.range(0, CACHED_PITS)
+        .mapToObj(pit -> problemOf(BoardInitializationException.class, GameManager.detailOfPit(violation, pit)))
+        .toList());
+  }
+
+  public ResponseEntity<byte[]> rejectedMove(RuleViolation violation) {
+    return rejectedMove(violation, null);
+  }
+
+  // the winner tells the game that has ended apart, null when the game was not there to tell it
+  public ResponseEntity<byte[]> rejectedMove(RuleViolation violation, Player winner) {
+    return rejected(violation, violation == GAME_ENDED && winner != null
+      ? endedGameProblems.get(winner.ordinal())
+      : moveProblems.get(violation.ordinal()));
+  }
+
+  // the pit that broke a rule about the stones, from GameManager.pitOf, is -1 for the other rules
+  public ResponseEntity<byte[]> rejectedInitialization(RuleViolation violation, int pit) {
+    final var pitProblems = stonesProblems.get(violation);
+    if (pitProblems == null || pit < 0) return rejected(violation, initializationProblems.get(violation.ordinal()));
+    return rejected(violation, pit < pitProblems.size()
+      ? pitProblems.get(pit)
+      : problemOf(BoardInitializationException.class, GameManager.detailOfPit(violation, pit)));
+  }
+
+  private ResponseEntity<byte[]> rejected(RuleViolation violation, Problem problem) {
+    metrics.rejected(violation);
+    RuleViolationEvent.commit(violation, problem.detail());
+    return problem.response();
+  }
+
+  // the headers are read only, so the responses can be shared by every request
+  private static Problem problemOf(Class<? extends RuntimeException> rejection, String detail) {
+    final var headers = new HttpHeaders();
+    headers.setContentType(APPLICATION_PROBLEM_JSON);
+    final var problem = ProblemDetail.forStatusAndDetail(BAD_REQUEST, detail);
+    problem.setType(URI.create(BASE_PROBLEM_URL + rejection.getSimpleName()));
+    return new Problem(detail, new ResponseEntity<>(encoded(problem), HttpHeaders.readOnlyHttpHeaders(headers), BAD_REQUEST));
+  }
+
+  private static byte[] encoded(ProblemDetail problem) {
+    try {
+      return JSON.writeValueAsBytes(problem);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("The problem " + problem + " cannot be encoded.", e);
+    }
+  }
+
+  private record Problem(String detail, ResponseEntity<byte[]> response) {
+  }
+}
@@ -0,0 +1,16 @@
+package com.fun.mancala.infra.adapters.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties("mancala.flight-recorder")
+public record FlightRecorderProperties(
+  boolean enabled,
+  Resource settings,
+  Duration maxAge,
+  DataSize maxSize
+) {
+}
@@ -0,0 +1,51 @@
+package com.fun.mancala.infra.adapters.metrics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// A continuous recording started with the application, kept on disk for as long or as much as allowed and dumped on demand with
+// `jcmd <pid> JFR.dump name=mancala filename=incident.jfr`, so an incident can be looked into without restarting or attaching anything.
+public class FlightRecording implements Closeable {
+  public static final String NAME = "mancala";
+  private final Recording recording;
+
+  // the settings are layered over the JDK's default ones, which keep the overhead of a recording that never stops low
+  public FlightRecording(Reader settings, Duration maxAge, long maxSize) {
+    this.recording = new Recording(settingsOverDefault(settings));
+    recording.setName(NAME);
+    recording.setToDisk(true);
+    recording.setMaxAge(maxAge);
+    recording.setMaxSize(maxSize);
+    recording.start();
+  }
+
+  public Map<String, String> settings() {
+    return recording.getSettings();
+  }
+
+  @Override
+  public void close() {
+    recording.close();
+  }
+
+  private static Map<String, String> settingsOverDefault(Reader settings) {
+    try {
+      final var merged = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+      merged.putAll(Configuration.create(settings).getSettings());
+      return merged;
+    } catch (IOException e) {
+      throw new UncheckedIOException("The flight recorder settings cannot be read.", e);
+    } catch (ParseException e) {
+      throw new IllegalArgumentException("The flight recorder settings cannot be parsed.", e);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.fun.mancala.infra.adapters.metrics;
+
+import com.fun.mancala.application.GameManager;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// read from the GameManager when scraped, apart from the GameMetrics it records to so neither has to be built before the other
+public class GameGauges {
+  public GameGauges(GameManager gameManager, MeterRegistry registry) {
+    Gauge.builder("mancala.games.live", gameManager, GameManager::liveGames)
+      .description("Games kept in memory")
+      .register(registry);
+    Gauge.builder("mancala.games.estimated", gameManager, GameManager::estimatedBytes)
+      .description("Estimated heap taken by the games kept in memory")
+      .baseUnit("bytes")
+      .register(registry);
+    // what the startup restored, which does not change afterwards
+    TimeGauge.builder("mancala.games.restore", gameManager, NANOSECONDS, manager -> manager.restoration().duration().toNanos())
+      .description("Time the startup took to load the latest snapshot and replay the journal after it")
+      .register(registry);
+    Gauge.builder("mancala.games.restore.snapshot.games", gameManager, manager -> manager.restoration().snapshotGames())
+      .description("Games loaded from the latest snapshot on startup")
+      .register(registry);
+    Gauge.builder("mancala.games.restore.replayed.moves", gameManager, manager -> manager.restoration().replayedMoves())
+      .description("Journaled moves replayed on startup")
+      .register(registry);
+  }
+}
@@ -0,0 +1,46 @@
+package com.fun.mancala.infra.adapters.metrics;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ports.GameMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Configuration
+@EnableConfigurationProperties(FlightRecorderProperties.class)
+public class MetricsConfiguration {
+  @Bean
+  @ConditionalOnProperty(name = "mancala.metrics.enabled", havingValue = "true", matchIfMissing = true)
+  public MicrometerGameMetrics micrometerGameMetrics(MeterRegistry registry) {
+    return new MicrometerGameMetrics(registry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.metrics.enabled", havingValue = "false")
+  public GameMetrics noGameMetrics() {
+    return GameMetrics.NONE;
+  }
+
+  @Bean
+  public GameGauges gameGauges(GameManager gameManager, MeterRegistry registry) {
+    return new GameGauges(gameManager, registry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.flight-recorder.enabled", havingValue = "true")
+  public FlightRecording flightRecording(FlightRecorderProperties properties) {
+    try (var settings = new InputStreamReader(properties.settings().getInputStream(), UTF_8)) {
+      return new FlightRecording(settings, properties.maxAge(), properties.maxSize().toBytes());
+    } catch (IOException e) {
+      throw new UncheckedIOException("The flight recorder settings at " + properties.settings() + " cannot be read.", e);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.fun.mancala.infra.adapters.metrics;
+
+import com.fun.mancala.application.exceptions.RuleViolation;
+import com.fun.mancala.application.ports.GameMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static com.fun.mancala.domain.models.MoveOutcome.captured;
+import static com.fun.mancala.domain.models.MoveOutcome.earnedExtraTurn;
+import static com.fun.mancala.domain.models.MoveOutcome.finished;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Every meter is registered up front, the rejections with one counter per violation, so recording is only updating the meters and
+// never looks one up by its tags.
+public class MicrometerGameMetrics implements GameMetrics {
+  private final Timer initializations;
+  private final Timer moves;
+  private final Timer statusRenderings;
+  private final Counter captures;
+  private final Counter extraTurns;
+  private final Counter finishedGames;
+  private final Counter[] rejections;
+
+  public MicrometerGameMetrics(MeterRegistry registry) {
+    this.initializations = timer(registry, "mancala.games.initialize", "Initializations of a game");
+    this.moves = timer(registry, "mancala.games.move", "Moves made, waiting for the game included");
+    this.statusRenderings = timer(registry, "mancala.games.status.render", "Statuses rendered after a change of their game");
+    this.captures = counter(registry, "mancala.games.captures", "Moves that captured the opposite pit");
+    this.extraTurns = counter(registry, "mancala.games.extra.turns", "Moves that ended on the own base and earned another turn");
+    this.finishedGames = counter(registry, "mancala.games.finished", "Moves that ended their game");
+    this.rejections = Arrays.stream(RuleViolation.values())
+      .map(violation -> Counter.builder("mancala.games.rejections")
+        .description("Requests rejected for breaking a rule")
+        .tag("reason", violation.name().toLowerCase(Locale.ROOT))
+        .register(registry))
+      .toArray(Counter[]::new);
+  }
+
+  @Override
+  public void initialized(long nanos) {
+    initializations.record(nanos, NANOSECONDS);
+  }
+
+  @Override
+  public void moved(long nanos, int outcome) {
+    moves.record(nanos, NANOSECONDS);
+    if (captured(outcome)) captures.increment();
+    if (earnedExtraTurn(outcome)) extraTurns.increment();
+    if (finished(outcome)) finishedGames.increment();
+  }
+
+  @Override
+  public void statusRendered(long nanos) {
+    statusRenderings.record(nanos, NANOSECONDS);
+  }
+
+  @Override
+  public void rejected(RuleViolation violation) {
+    rejections[violation.ordinal()].increment();
+  }
+
+  // buckets from a microsecond, below which a move hardly ever goes, to the slowest journal sync or lock wait worth telling apart
+  private static Timer timer(MeterRegistry registry, String name, String description) {
+    return Timer.builder(name)
+      .description(description)
+      .publishPercentileHistogram()
+      .minimumExpectedValue(Duration.ofNanos(1_000))
+      .maximumExpectedValue(Duration.ofMillis(100))
+      .register(registry);
+  }
+
+  private static Counter counter(MeterRegistry registry, String name, String description) {
+    return Counter.builder(name).description(description).register(registry);
+  }
+}
@@ -0,0 +1,24 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties("mancala.eviction")
+public record EvictionProperties(
+  Duration idleTimeout,
+  Duration finishedTimeout,
+  int maximumGames,
+  DataSize memoryBudget,
+  Duration sweepInterval,
+  Spill spill
+) {
+  // where the evicted games go: nowhere, to a file each in the directory, or off the heap
+  public record Spill(Store store, Path directory) {
+    public enum Store {
+      NONE, FILE, OFF_HEAP
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.ports.EvictedGameStore;
+import com.fun.mancala.application.ports.GameSnapshot;
+import com.fun.mancala.domain.models.Player;
+import com.fun.mancala.domain.models.Status;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.DSYNC;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// One file per evicted game, named after it and written as:
+//   version (8 bytes) | player (1 byte) | status (1 byte) | pits (4 bytes) | stones (4 bytes each)
+// The files are written through to disk before they replace the previous one, as the snapshots leave the spilled games out and drop
+// the journal they were rebuilt from: once a snapshot is taken, its file is all that is left of a spilled game.
+public class FileEvictedGameStore implements EvictedGameStore {
+  private static final String GAME_SUFFIX = ".game";
+  private static final String PARTIAL_SUFFIX = ".partial";
+
+  private final Path directory;
+
+  public FileEvictedGameStore(Path directory) {
+    this.directory = directory;
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("The evicted games at " + directory + " cannot be opened.", e);
+    }
+  }
+
+  @Override
+  public void save(GameSnapshot game) {
+    final var file = gameFile(game.gameId());
+    final var partial = directory.resolve(file.getFileName() + PARTIAL_SUFFIX);
+    try {
+      try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(partial, CREATE, TRUNCATE_EXISTING, WRITE, DSYNC)))) {
+        output.writeLong(game.version());
+        output.writeByte(game.player().ordinal());
+        output.writeByte(game.status().ordinal());
+        output.writeInt(game.pits().length);
+        for (var stones : game.pits())
+          output.writeInt(stones);
+      }
+      Files.move(partial, file, ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("The game " + game.gameId() + " cannot be spilled to " + directory + ".", e);
+    }
+  }
+
+  @Override
+  public GameSnapshot read(String gameId) {
+    final var file = gameFile(gameId);
+    try {
+      final var game = ByteBuffer.wrap(Files.readAllBytes(file));
+      final var version = game.getLong();
+      final var player = Player.values()[game.get()];
+      final var status = Status.values()[game.get()];
+      final var pits = new int[game.getInt()];
+      for (int pit = 0; pit < pits.length; pit++)
+        pits[pit] = game.getInt();
+      return new GameSnapshot(gameId, version, player, status, pits);
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      throw new UncheckedIOException("The game " + gameId + " cannot be brought back from " + directory + ".", e);
+    }
+  }
+
+  @Override
+  public void delete(String gameId) {
+    try {
+      Files.deleteIfExists(gameFile(gameId));
+    } catch (IOException e) {
+      throw new UncheckedIOException("The game " + gameId + " cannot be deleted from " + directory + ".", e);
+    }
+  }
+
+  // game ids are only letters, digits, '-' and '_', so they are safe file names
+  private Path gameFile(String gameId) {
+    return directory.resolve(gameId + GAME_SUFFIX);
+  }
+}
@@ -0,0 +1,124 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.ports.GameSnapshot;
+import com.fun.mancala.application.ports.GameSnapshotStore;
+import com.fun.mancala.domain.models.Player;
+import com.fun.mancala.domain.models.Status;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// One file per snapshot, named after its journal checkpoint. Every game is written as:
+//   game id length (1 byte) | game id (ASCII) | version (8 bytes) | player (1 byte) | status (1 byte) | pits (4 bytes) | stones (4 bytes each)
+// and a zero game id length ends the file. A snapshot is written aside and moved in place once complete, so a crash while writing
+// leaves the previous one as the latest.
+public class FileGameSnapshotStore implements GameSnapshotStore {
+  private static final byte END = 0;
+  private static final String SNAPSHOT_PREFIX = "snapshot-";
+  private static final String SNAPSHOT_SUFFIX = ".bin";
+  private static final String PARTIAL_SUFFIX = ".partial";
+
+  private final Path directory;
+
+  public FileGameSnapshotStore(Path directory) {
+    this.directory = directory;
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("The snapshots at " + directory + " cannot be opened.", e);
+    }
+  }
+
+  @Override
+  public void save(long checkpoint, Stream<GameSnapshot> games) {
+    final var snapshot = snapshotFile(checkpoint);
+    final var partial = directory.resolve(snapshot.getFileName() + PARTIAL_SUFFIX);
+    try {
+      try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(partial)))) {
+        for (var game : (Iterable<GameSnapshot>) games::iterator) {
+          final var id = game.gameId().getBytes(US_ASCII);
+          output.writeByte(id.length);
+          output.write(id);
+          output.writeLong(game.version());
+          output.writeByte(game.player().ordinal());
+          output.writeByte(game.status().ordinal());
+          output.writeInt(game.pits().length);
+          for (var stones : game.pits())
+            output.writeInt(stones);
+        }
+        output.writeByte(END);
+      }
+      try (var channel = FileChannel.open(partial, WRITE)) {
+        channel.force(true);
+      }
+      Files.move(partial, snapshot, ATOMIC_MOVE);
+      for (var number : snapshots())
+        if (number < checkpoint)
+          Files.delete(snapshotFile(number));
+    } catch (IOException e) {
+      throw new UncheckedIOException("The snapshot " + checkpoint + " cannot be saved at " + directory + ".", e);
+    }
+  }
+
+  @Override
+  public OptionalLong loadLatest(Consumer<GameSnapshot> games) {
+    try {
+      final var snapshots = snapshots();
+      if (snapshots.isEmpty()) return OptionalLong.empty();
+      final var checkpoint = snapshots.get(snapshots.size() - 1);
+      try (var channel = FileChannel.open(snapshotFile(checkpoint), READ)) {
+        load(channel.map(READ_ONLY, 0, channel.size()), games);
+      }
+      return OptionalLong.of(checkpoint);
+    } catch (IOException e) {
+      throw new UncheckedIOException("The snapshots at " + directory + " cannot be loaded.", e);
+    }
+  }
+
+  private static void load(MappedByteBuffer snapshot, Consumer<GameSnapshot> games) {
+    final var players = Player.values();
+    final var statuses = Status.values();
+    for (int idLength = snapshot.get(); idLength != END; idLength = snapshot.get()) {
+      final var id = new byte[idLength];
+      snapshot.get(id);
+      final var version = snapshot.getLong();
+      final var player = players[snapshot.get()];
+      final var status = statuses[snapshot.get()];
+      final var pits = new int[snapshot.getInt()];
+      for (int pit = 0; pit < pits.length; pit++)
+        pits[pit] = snapshot.getInt();
+      games.accept(new GameSnapshot(new String(id, US_ASCII), version, player, status, pits));
+    }
+  }
+
+  private Path snapshotFile(long checkpoint) {
+    return directory.resolve(SNAPSHOT_PREFIX + "%020d".formatted(checkpoint) + SNAPSHOT_SUFFIX);
+  }
+
+  private List<Long> snapshots() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+        .map(file -> file.getFileName().toString())
+        .filter(name -> name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX))
+        .map(name -> Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length())))
+        .sorted()
+        .toList();
+    }
+  }
+}
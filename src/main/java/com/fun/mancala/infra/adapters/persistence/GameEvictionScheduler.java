@@ -0,0 +1,39 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.GameManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// sweeps the games left idle for longer than their timeout every interval, the budgets are enforced as games are added instead
+public class GameEvictionScheduler implements Closeable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(GameEvictionScheduler.class);
+  private final ScheduledExecutorService scheduler;
+
+  public GameEvictionScheduler(GameManager gameManager, Duration interval) {
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final var thread = new Thread(runnable, "game-eviction");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(() -> {
+      try {
+        final var evicted = gameManager.evictIdleGames();
+        if (evicted > 0) LOGGER.debug("Evicted {} idle games, {} are left in memory.", evicted, gameManager.liveGames());
+      } catch (RuntimeException e) {
+        // the games that were not evicted are tried again on the next sweep
+        LOGGER.warn("The idle games could not be evicted.", e);
+      }
+    }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+}
@@ -0,0 +1,38 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.GameManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// takes a snapshot of the games every interval, which also bounds how much journal is left to replay on startup
+public class GameSnapshotScheduler implements Closeable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(GameSnapshotScheduler.class);
+  private final ScheduledExecutorService scheduler;
+
+  public GameSnapshotScheduler(GameManager gameManager, Duration interval) {
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final var thread = new Thread(runnable, "game-snapshot");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(() -> {
+      try {
+        gameManager.snapshot();
+      } catch (RuntimeException e) {
+        // the journal is left untouched, so the next snapshot just covers more of it
+        LOGGER.warn("The games could not be snapshotted.", e);
+      }
+    }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+}
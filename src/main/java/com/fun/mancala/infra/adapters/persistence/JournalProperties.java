@@ -0,0 +1,11 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties("mancala.journal")
+public record JournalProperties(boolean enabled, Path directory, DataSize segmentSize, boolean groupCommit, Duration syncInterval) {
+}
@@ -0,0 +1,89 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.ai.TablebaseIndex;
+import com.fun.mancala.application.ai.TablebaseSolver;
+import com.fun.mancala.application.ports.EndgameTablebase;
+import com.fun.mancala.domain.models.GameState;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// The values of a solved board in a file laid out as:
+//   magic (4 bytes) | pits (4 bytes) | maximum stones in play (4 bytes) | positions (8 bytes) | value (1 byte per position)
+// with the values in TablebaseIndex order, read through a memory map, so a lookup is a ranking of the pits and a single byte read.
+// The file is solved in place through a map of its own, aside, and moved in place once complete.
+public class MappedFileEndgameTablebase implements EndgameTablebase {
+  private static final int MAGIC = 0x4D544231;
+  private static final int PITS_OFFSET = 4;
+  private static final int MAXIMUM_STONES_OFFSET = 8;
+  private static final int POSITIONS_OFFSET = 12;
+  private static final int HEADER_SIZE = 20;
+  private static final String PARTIAL_SUFFIX = ".partial";
+
+  private final TablebaseIndex index;
+  private final MappedByteBuffer values;
+
+  public MappedFileEndgameTablebase(Path file) {
+    try (var channel = FileChannel.open(file, READ)) {
+      final var header = channel.map(READ_ONLY, 0, HEADER_SIZE);
+      if (header.getInt(0) != MAGIC)
+        throw new IllegalArgumentException(file + " is not an endgame tablebase.");
+      this.index = new TablebaseIndex(header.getInt(PITS_OFFSET), header.getInt(MAXIMUM_STONES_OFFSET));
+      if (header.getLong(POSITIONS_OFFSET) != index.size() || channel.size() != HEADER_SIZE + index.size())
+        throw new IllegalArgumentException("The endgame tablebase at " + file + " is incomplete.");
+      this.values = channel.map(READ_ONLY, HEADER_SIZE, index.size());
+    } catch (IOException e) {
+      throw new UncheckedIOException("The endgame tablebase at " + file + " cannot be opened.", e);
+    }
+  }
+
+  // solves every position of the board with up to the maximum of stones in play, and writes them to the file
+  public static void generate(Path file, int pits, int maximumStones) {
+    final var index = new TablebaseIndex(pits, maximumStones);
+    if (HEADER_SIZE + index.size() > Integer.MAX_VALUE)
+      throw new IllegalArgumentException("A tablebase of " + index.size() + " positions does not fit in a single file map.");
+    final var partial = file.resolveSibling(file.getFileName() + PARTIAL_SUFFIX);
+    try {
+      if (file.toAbsolutePath().getParent() != null) Files.createDirectories(file.toAbsolutePath().getParent());
+      Files.deleteIfExists(partial);
+      try (var channel = FileChannel.open(partial, CREATE_NEW, READ, WRITE)) {
+        final var map = channel.map(READ_WRITE, 0, HEADER_SIZE + index.size());
+        new TablebaseSolver(index).solve(map.slice(HEADER_SIZE, (int) index.size()));
+        map.putInt(PITS_OFFSET, pits);
+        map.putInt(MAXIMUM_STONES_OFFSET, maximumStones);
+        map.putLong(POSITIONS_OFFSET, index.size());
+        // the magic goes last, so a file left half written is never taken for a tablebase
+        map.putInt(0, MAGIC);
+        map.force();
+      }
+      Files.move(partial, file, ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("The endgame tablebase cannot be written at " + file + ".", e);
+    }
+  }
+
+  public int pits() {
+    return index.pits();
+  }
+
+  public int maximumStones() {
+    return index.maximumStones();
+  }
+
+  @Override
+  public int probe(GameState state) {
+    final var position = index.indexOf(state);
+    return position < 0 ? UNKNOWN : values.get((int) position);
+  }
+}
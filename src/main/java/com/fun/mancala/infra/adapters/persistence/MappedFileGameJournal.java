@@ -0,0 +1,341 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.ports.GameJournal;
+import com.fun.mancala.application.ports.GameSnapshot;
+import com.fun.mancala.domain.models.Player;
+import com.fun.mancala.domain.models.Status;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// Append-only journal of fixed-size records, written through memory-mapped segment files of the same size that are filled in order.
+// A record is laid out as:
+//   type (1 byte) | game id length (1 byte) | game id (64 bytes, ASCII) | sequence (8 bytes) | value (4 bytes) | stones (50 bytes)
+// where the value is the moved pit or the amount of pits of an initialized board, whose stones are spread over as many records as
+// needed and whose sequence is the version the game starts at. A restored game is laid out the same, with its version as the
+// sequence, but its stones are 4 bytes each, as the bases of a game in progress may hold more stones than a byte does, and the last
+// two bytes of its records are its player and its status. The type is written last, so a record torn by a crash reads as the end of
+// the journal.
+// Records are appended under the journal's lock, which only ever copies bytes into the mapped segment but for the force of a full
+// segment. Forcing them to disk takes a lock of its own, so appends go on during a force, and with group commit every change waiting
+// to be durable is covered by whichever force starts next: the callers that queued up behind a force share the one after it instead of
+// each paying for their own. Both are ReentrantLocks rather than monitors, as a virtual thread waiting on the disk under a monitor would
+// pin its carrier thread.
+public class MappedFileGameJournal implements GameJournal, Closeable {
+  private static final int RECORD_SIZE = 128;
+  private static final int MAXIMUM_GAME_ID_LENGTH = 64;
+  private static final int STONES_PER_RECORD = 50;
+  private static final int GAME_ID_LENGTH_OFFSET = 1;
+  private static final int GAME_ID_OFFSET = 2;
+  private static final int SEQUENCE_OFFSET = GAME_ID_OFFSET + MAXIMUM_GAME_ID_LENGTH;
+  private static final int VALUE_OFFSET = SEQUENCE_OFFSET + Long.BYTES;
+  private static final int STONES_OFFSET = VALUE_OFFSET + Integer.BYTES;
+  private static final int RESTORED_STONES_PER_RECORD = 12;
+  private static final int PLAYER_OFFSET = RECORD_SIZE - 2;
+  private static final int STATUS_OFFSET = RECORD_SIZE - 1;
+  private static final byte END = 0;
+  private static final byte INITIALIZED = 1;
+  private static final byte MOVED = 2;
+  private static final byte CLEARED = 3;
+  private static final byte RESTORED = 4;
+  private static final String SEGMENT_PREFIX = "journal-";
+  private static final String SEGMENT_SUFFIX = ".log";
+
+  private final Path directory;
+  private final int recordsPerSegment;
+  private final boolean groupCommit;
+  private final ScheduledExecutorService syncer;
+  private final ReentrantLock appendLock = new ReentrantLock();
+  private final ReentrantLock forceLock = new ReentrantLock();
+  private long segment;
+  private MappedByteBuffer buffer;
+  // how many records were appended and how many of them are known to be on disk, since the journal was opened
+  private volatile long appended;
+  private volatile long durable;
+
+  // groupCommit makes every change wait until it is on disk, otherwise that is left to the OS and the periodic sync
+  public MappedFileGameJournal(Path directory, int segmentSize, boolean groupCommit, Duration syncInterval) {
+    if (segmentSize < RECORD_SIZE * 2)
+      throw new IllegalArgumentException("A journal segment should hold at least two records of " + RECORD_SIZE + " bytes.");
+    this.directory = directory;
+    this.recordsPerSegment = segmentSize / RECORD_SIZE;
+    this.groupCommit = groupCommit;
+    try {
+      Files.createDirectories(directory);
+      final var segments = segments();
+      segment = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+      buffer = map(segment);
+      while (buffer.position() < buffer.limit() && buffer.get(buffer.position()) != END)
+        buffer.position(buffer.position() + RECORD_SIZE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("The journal at " + directory + " cannot be opened.", e);
+    }
+    this.syncer = syncInterval.isZero() ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final var thread = new Thread(runnable, "game-journal-sync");
+      thread.setDaemon(true);
+      return thread;
+    });
+    if (syncer != null)
+      syncer.scheduleWithFixedDelay(this::sync, syncInterval.toMillis(), syncInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void initialized(String gameId, long version, int[] initialBoard) {
+    // all the records of a board go to the same segment, so every segment can be replayed on its own
+    final var records = Math.max(1, (initialBoard.length + STONES_PER_RECORD - 1) / STONES_PER_RECORD);
+    if (records > recordsPerSegment)
+      throw new IllegalArgumentException("A board of " + initialBoard.length + " pits does not fit in a journal segment.");
+    appendLock.lock();
+    try {
+      if (buffer.remaining() < records * RECORD_SIZE) roll();
+      for (int firstStone = 0; firstStone == 0 || firstStone < initialBoard.length; firstStone += STONES_PER_RECORD) {
+        final var record = reserve(gameId, version, initialBoard.length);
+        for (int pit = firstStone; pit < Math.min(firstStone + STONES_PER_RECORD, initialBoard.length); pit++)
+          buffer.put(record + STONES_OFFSET + pit - firstStone, (byte) initialBoard[pit]);
+        commit(record, INITIALIZED);
+      }
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  @Override
+  public void moved(String gameId, long sequence, int pit) {
+    appendLock.lock();
+    try {
+      commit(reserve(gameId, sequence, pit), MOVED);
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  @Override
+  public void cleared(String gameId) {
+    appendLock.lock();
+    try {
+      commit(reserve(gameId, 0, 0), CLEARED);
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  @Override
+  public void restored(GameSnapshot game) {
+    final var pits = game.pits();
+    final var records = Math.max(1, (pits.length + RESTORED_STONES_PER_RECORD - 1) / RESTORED_STONES_PER_RECORD);
+    if (records > recordsPerSegment)
+      throw new IllegalArgumentException("A board of " + pits.length + " pits does not fit in a journal segment.");
+    appendLock.lock();
+    try {
+      if (buffer.remaining() < records * RECORD_SIZE) roll();
+      for (int firstStone = 0; firstStone == 0 || firstStone < pits.length; firstStone += RESTORED_STONES_PER_RECORD) {
+        final var record = reserve(game.gameId(), game.version(), pits.length);
+        for (int pit = firstStone; pit < Math.min(firstStone + RESTORED_STONES_PER_RECORD, pits.length); pit++)
+          buffer.putInt(record + STONES_OFFSET + (pit - firstStone) * Integer.BYTES, pits[pit]);
+        buffer.put(record + PLAYER_OFFSET, (byte) game.player().ordinal());
+        buffer.put(record + STATUS_OFFSET, (byte) game.status().ordinal());
+        commit(record, RESTORED);
+      }
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  // a checkpoint is the number of a segment, a fresh one unless nothing was written to the current segment yet
+  @Override
+  public long checkpoint() {
+    appendLock.lock();
+    try {
+      if (buffer.position() > 0) roll();
+      return segment;
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  // the segments are listed and deleted without the journal's lock, only the current segment is read under it
+  @Override
+  public void truncateBefore(long checkpoint) {
+    final long current;
+    appendLock.lock();
+    try {
+      current = segment;
+    } finally {
+      appendLock.unlock();
+    }
+    try {
+      for (var number : segments())
+        if (number < Math.min(checkpoint, current))
+          Files.delete(segmentFile(number));
+    } catch (IOException e) {
+      throw new UncheckedIOException("The journal at " + directory + " cannot be truncated.", e);
+    }
+  }
+
+  @Override
+  public void replay(long fromCheckpoint, Replay replay) {
+    try {
+      for (var number : segments())
+        if (number >= fromCheckpoint)
+          replay(map(number), replay);
+    } catch (IOException e) {
+      throw new UncheckedIOException("The journal at " + directory + " cannot be replayed.", e);
+    }
+  }
+
+  private void replay(MappedByteBuffer segment, Replay replay) {
+    int[] board = null;
+    var boardStones = 0;
+    int[] restored = null;
+    var restoredStones = 0;
+    for (int record = 0; record + RECORD_SIZE <= segment.limit(); record += RECORD_SIZE) {
+      final var type = segment.get(record);
+      if (type == END) return;
+      final var gameId = gameId(segment, record);
+      final var value = segment.getInt(record + VALUE_OFFSET);
+      switch (type) {
+        case INITIALIZED -> {
+          if (board == null) {
+            board = new int[value];
+            boardStones = 0;
+          }
+          for (int stone = 0; stone < STONES_PER_RECORD && boardStones < board.length; stone++)
+            board[boardStones++] = segment.get(record + STONES_OFFSET + stone);
+          if (boardStones == board.length) {
+            replay.initialized(gameId, segment.getLong(record + SEQUENCE_OFFSET), board);
+            board = null;
+          }
+        }
+        case MOVED -> replay.moved(gameId, segment.getLong(record + SEQUENCE_OFFSET), value);
+        case CLEARED -> replay.cleared(gameId);
+        case RESTORED -> {
+          if (restored == null) {
+            restored = new int[value];
+            restoredStones = 0;
+          }
+          for (int stone = 0; stone < RESTORED_STONES_PER_RECORD && restoredStones < restored.length; stone++)
+            restored[restoredStones++] = segment.getInt(record + STONES_OFFSET + stone * Integer.BYTES);
+          if (restoredStones == restored.length) {
+            replay.restored(new GameSnapshot(gameId, segment.getLong(record + SEQUENCE_OFFSET),
+              Player.values()[segment.get(record + PLAYER_OFFSET)], Status.values()[segment.get(record + STATUS_OFFSET)], restored));
+            restored = null;
+          }
+        }
+        default -> throw new IllegalStateException("Unknown journal record type " + type + " in " + directory + ".");
+      }
+    }
+  }
+
+  // only waits with group commit, and not at all when a force that started after the records were appended already covered them
+  @Override
+  public void awaitDurable() {
+    if (groupCommit) sync(appended);
+  }
+
+  // forces everything written so far to disk, it is what the periodic sync runs
+  public void sync() {
+    sync(appended);
+  }
+
+  private void sync(long records) {
+    if (records <= durable) return;
+    forceLock.lock();
+    try {
+      if (records <= durable) return;
+      final MappedByteBuffer segmentBuffer;
+      final long forced;
+      // the segments before the current one were forced when they were rolled
+      appendLock.lock();
+      try {
+        segmentBuffer = buffer;
+        forced = appended;
+      } finally {
+        appendLock.unlock();
+      }
+      segmentBuffer.force();
+      durable = forced;
+    } finally {
+      forceLock.unlock();
+    }
+  }
+
+  @Override
+  public void close() {
+    if (syncer != null) syncer.shutdownNow();
+    sync();
+  }
+
+  private int reserve(String gameId, long sequence, int value) {
+    if (!buffer.hasRemaining()) roll();
+    final var record = buffer.position();
+    final var id = gameId.getBytes(US_ASCII);
+    if (id.length > MAXIMUM_GAME_ID_LENGTH)
+      throw new IllegalArgumentException("Game ids of more than " + MAXIMUM_GAME_ID_LENGTH + " characters cannot be journaled.");
+    buffer.put(record + GAME_ID_LENGTH_OFFSET, (byte) id.length);
+    buffer.put(record + GAME_ID_OFFSET, id);
+    buffer.putLong(record + SEQUENCE_OFFSET, sequence);
+    buffer.putInt(record + VALUE_OFFSET, value);
+    buffer.position(record + RECORD_SIZE);
+    return record;
+  }
+
+  private void commit(int record, byte type) {
+    buffer.put(record, type);
+    appended++;
+  }
+
+  private void roll() {
+    buffer.force();
+    try {
+      buffer = map(++segment);
+    } catch (IOException e) {
+      throw new UncheckedIOException("The journal segment " + segment + " cannot be created.", e);
+    }
+  }
+
+  private MappedByteBuffer map(long number) throws IOException {
+    try (var channel = FileChannel.open(segmentFile(number), CREATE, READ, WRITE)) {
+      return channel.map(READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+    }
+  }
+
+  private Path segmentFile(long number) {
+    return directory.resolve(SEGMENT_PREFIX + "%020d".formatted(number) + SEGMENT_SUFFIX);
+  }
+
+  private List<Long> segments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return new ArrayList<>(files
+        .map(file -> file.getFileName().toString())
+        .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+        .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+        .sorted()
+        .toList());
+    }
+  }
+
+  private static String gameId(MappedByteBuffer segment, int record) {
+    final var id = new byte[segment.get(record + GAME_ID_LENGTH_OFFSET)];
+    segment.get(record + GAME_ID_OFFSET, id);
+    return new String(id, US_ASCII);
+  }
+}
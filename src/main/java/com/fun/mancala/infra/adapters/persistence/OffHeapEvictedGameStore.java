@@ -0,0 +1,79 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.ports.EvictedGameStore;
+import com.fun.mancala.application.ports.GameSnapshot;
+import com.fun.mancala.domain.models.GameSlab;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Keeps the evicted games in memory but off the heap, in one GameSlab per board size, so that a game out of the GameManager costs the
+// heap only its entry in the index instead of its objects. Spilled games are gone on restart, and only the journal brings them back:
+// the snapshots leave them out and drop their records, so the store is refused next to them.
+// The index is a concurrent map and each slab is locked on its own, only while one of its records is allocated, read or freed, so games
+// of different sizes never wait for each other and none waits for the index. A game is taken out of the index before its record is
+// freed, so a game is read only once its record is found still indexed under the lock of its slab.
+public class OffHeapEvictedGameStore implements EvictedGameStore {
+  private static final int RECORDS_PER_SLAB = 1 << 16;
+  private final Map<Integer, GameSlab> slabs = new ConcurrentHashMap<>();
+  // the record of every game, with the amount of pits of its slab in the high half
+  private final Map<String, Long> records = new ConcurrentHashMap<>();
+
+  @Override
+  public void save(GameSnapshot game) {
+    final var slab = slabs.computeIfAbsent(game.pits().length, pits -> new GameSlab(pits, RECORDS_PER_SLAB));
+    final int record;
+    synchronized (slab) {
+      record = slab.allocate(game.pits());
+      slab.write(record, game.pits(), game.player(), game.status(), game.version());
+    }
+    final var replaced = records.put(game.gameId(), (long) slab.pits() << Integer.SIZE | record);
+    if (replaced != null) free(replaced);
+  }
+
+  @Override
+  public GameSnapshot read(String gameId) {
+    while (true) {
+      final var handle = records.get(gameId);
+      if (handle == null) return null;
+      final var slab = slabOf(handle);
+      synchronized (slab) {
+        // a record spilled again or deleted meanwhile may have been freed already
+        if (!handle.equals(records.get(gameId))) continue;
+        final var record = slab.view().at(handle.intValue());
+        return new GameSnapshot(gameId, record.version(), record.player(), record.status(), record.toBoard().pits());
+      }
+    }
+  }
+
+  @Override
+  public void delete(String gameId) {
+    final var handle = records.remove(gameId);
+    if (handle != null) free(handle);
+  }
+
+  public int size() {
+    return records.size();
+  }
+
+  public long offHeapBytes() {
+    var bytes = 0L;
+    for (var slab : slabs.values()) {
+      synchronized (slab) {
+        bytes += slab.offHeapBytes();
+      }
+    }
+    return bytes;
+  }
+
+  private void free(long handle) {
+    final var slab = slabOf(handle);
+    synchronized (slab) {
+      slab.free((int) handle);
+    }
+  }
+
+  private GameSlab slabOf(long handle) {
+    return slabs.get((int) (handle >>> Integer.SIZE));
+  }
+}
@@ -0,0 +1,124 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.EvictionPolicy;
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ports.EvictedGameStore;
+import com.fun.mancala.application.ports.EndgameTablebase;
+import com.fun.mancala.application.ports.GameJournal;
+import com.fun.mancala.application.ports.GameSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Files;
+
+@Configuration
+@EnableConfigurationProperties({JournalProperties.class, SnapshotProperties.class, TablebaseProperties.class, EvictionProperties.class})
+public class PersistenceConfiguration {
+  private static final Logger LOGGER = LoggerFactory.getLogger(PersistenceConfiguration.class);
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.journal.enabled", havingValue = "true")
+  public MappedFileGameJournal mappedFileGameJournal(JournalProperties properties) {
+    return new MappedFileGameJournal(
+      properties.directory(),
+      (int) properties.segmentSize().toBytes(),
+      properties.groupCommit(),
+      properties.syncInterval()
+    );
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.journal.enabled", havingValue = "false", matchIfMissing = true)
+  public GameJournal noGameJournal() {
+    return GameJournal.NONE;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.snapshot.enabled", havingValue = "true")
+  public FileGameSnapshotStore fileGameSnapshotStore(SnapshotProperties properties) {
+    return new FileGameSnapshotStore(properties.directory());
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.snapshot.enabled", havingValue = "false", matchIfMissing = true)
+  public GameSnapshotStore noGameSnapshotStore() {
+    return GameSnapshotStore.NONE;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.snapshot.enabled", havingValue = "true")
+  public GameSnapshotScheduler gameSnapshotScheduler(GameManager gameManager, SnapshotProperties properties) {
+    return new GameSnapshotScheduler(gameManager, properties.interval());
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.eviction.enabled", havingValue = "true")
+  public EvictionPolicy evictionPolicy(EvictionProperties properties) {
+    return new EvictionPolicy(
+      properties.idleTimeout(),
+      properties.finishedTimeout(),
+      properties.maximumGames(),
+      properties.memoryBudget().toBytes()
+    );
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.eviction.enabled", havingValue = "false", matchIfMissing = true)
+  public EvictionPolicy noEvictionPolicy() {
+    return EvictionPolicy.NONE;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.eviction.spill.store", havingValue = "file")
+  public FileEvictedGameStore fileEvictedGameStore(EvictionProperties properties) {
+    return new FileEvictedGameStore(properties.spill().directory());
+  }
+
+  // the snapshots leave the spilled games to the store and drop the journal they were rebuilt from, which the off-heap store does not
+  // survive a restart with, while the journal alone is kept whole and brings them all back
+  @Bean
+  @ConditionalOnProperty(name = "mancala.eviction.spill.store", havingValue = "off-heap")
+  public OffHeapEvictedGameStore offHeapEvictedGameStore(SnapshotProperties snapshots) {
+    if (snapshots.enabled())
+      throw new IllegalStateException("The off-heap spill store loses its games on restart, which snapshots do not bring back. "
+        + "Spill to files or disable the snapshots.");
+    return new OffHeapEvictedGameStore();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.eviction.spill.store", havingValue = "none", matchIfMissing = true)
+  public EvictedGameStore noEvictedGameStore() {
+    return EvictedGameStore.NONE;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.eviction.enabled", havingValue = "true")
+  public GameEvictionScheduler gameEvictionScheduler(GameManager gameManager, EvictionProperties properties) {
+    return new GameEvictionScheduler(gameManager, properties.sweepInterval());
+  }
+
+  // the tablebase is solved on the first startup and only mapped on the next ones, a file of another board is solved again
+  @Bean
+  @ConditionalOnProperty(name = "mancala.tablebase.enabled", havingValue = "true")
+  public MappedFileEndgameTablebase mappedFileEndgameTablebase(TablebaseProperties properties) {
+    if (Files.exists(properties.file())) {
+      final var tablebase = new MappedFileEndgameTablebase(properties.file());
+      if (tablebase.pits() == properties.pits() && tablebase.maximumStones() == properties.maximumStones()) return tablebase;
+    }
+    final var start = System.nanoTime();
+    MappedFileEndgameTablebase.generate(properties.file(), properties.pits(), properties.maximumStones());
+    LOGGER.info("Solved the endgames of {} pits with up to {} stones in play in {} ms.",
+      properties.pits(), properties.maximumStones(), (System.nanoTime() - start) / 1_000_000);
+    return new MappedFileEndgameTablebase(properties.file());
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "mancala.tablebase.enabled", havingValue = "false", matchIfMissing = true)
+  public EndgameTablebase noEndgameTablebase() {
+    return EndgameTablebase.NONE;
+  }
+}
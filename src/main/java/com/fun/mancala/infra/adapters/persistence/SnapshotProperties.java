@@ -0,0 +1,10 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties("mancala.snapshot")
+public record SnapshotProperties(boolean enabled, Path directory, Duration interval) {
+}
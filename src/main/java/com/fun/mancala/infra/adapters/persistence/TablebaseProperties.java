@@ -0,0 +1,9 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties("mancala.tablebase")
+public record TablebaseProperties(boolean enabled, Path file, int pits, int maximumStones) {
+}
@@ -0,0 +1,63 @@
+package com.fun.mancala.infra.adapters.reactive;
+
+import com.fun.mancala.application.GameUpdate;
+import com.fun.mancala.application.GameWatcher;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+// One SSE stream of a game for the reactive routes, with the same events as the servlet GameEventsSubscriber. The GameManager hands the
+// updates over under the game's lock, into a bounded sink that Netty drains as the client reads, and a client that lets the sink
+// fill up is dropped instead of it growing.
+final class GameEventsPublisher implements GameWatcher {
+  static final int MAXIMUM_PENDING_EVENTS = 64;
+  private final Sinks.Many<ServerSentEvent<Object>> events = Sinks.many().unicast()
+    .onBackpressureBuffer(new ArrayBlockingQueue<>(MAXIMUM_PENDING_EVENTS));
+  private final Long lastEventId;
+  private int pending;
+  private boolean first = true;
+  private boolean dropped;
+
+  GameEventsPublisher(Long lastEventId) {
+    this.lastEventId = lastEventId;
+  }
+
+  // the first update is the whole game, which the client already has if it saw that very version
+  @Override
+  public void updated(GameUpdate update) {
+    final var whole = first;
+    first = false;
+    if (dropped || whole && lastEventId != null && lastEventId == update.version()) return;
+    emit(ServerSentEvent.<Object>builder(update)
+      .id(Long.toString(update.version()))
+      .event(whole ? "state" : "move")
+      .build());
+  }
+
+  @Override
+  public void cleared() {
+    if (dropped) return;
+    emit(ServerSentEvent.<Object>builder("The board has been cleared.").event("cleared").build());
+    events.tryEmitComplete();
+  }
+
+  Flux<ServerSentEvent<Object>> events() {
+    return events.asFlux().doOnNext(event -> released());
+  }
+
+  // the updates are serialized by the game's lock, and a full sink ends the stream
+  private synchronized void emit(ServerSentEvent<Object> event) {
+    if (pending >= MAXIMUM_PENDING_EVENTS || events.tryEmitNext(event).isFailure()) {
+      dropped = true;
+      events.tryEmitComplete();
+      return;
+    }
+    pending++;
+  }
+
+  private synchronized void released() {
+    pending--;
+  }
+}
@@ -0,0 +1,152 @@
+package com.fun.mancala.infra.adapters.reactive;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ai.ComputerPlayer;
+import com.fun.mancala.infra.adapters.http.ComputerBudgets;
+import com.fun.mancala.infra.adapters.http.GameVersions;
+import com.fun.mancala.infra.adapters.http.RuleViolationProblems;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+
+// The same endpoints as the servlet controllers, as handler functions. The rules may wait on the disk, for the journal's group commit
+// or a game spilled to a file, and the computer thinks for its whole budget, so every call to them is made on the bounded elastic
+// scheduler and the event loop only ever reads requests and writes responses.
+@Component
+@Profile("reactive")
+public class GameHandler {
+  private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, UTF_8);
+  private final GameManager gameManager;
+  private final ComputerPlayer computerPlayer;
+  private final RuleViolationProblems problems;
+  private final Duration defaultBudget;
+
+  public GameHandler(GameManager gameManager, ComputerPlayer computerPlayer, RuleViolationProblems problems, @Value("${mancala.ai.budget}") Duration defaultBudget) {
+    this.gameManager = gameManager;
+    this.computerPlayer = computerPlayer;
+    this.problems = problems;
+    this.defaultBudget = defaultBudget;
+  }
+
+  public Mono<ServerResponse> initialize(ServerRequest request) {
+    final var gameId = request.pathVariable("gameId");
+    return body(request, int[].class).flatMap(initialBoard -> blocking(() -> {
+      final var violation = gameManager.tryInitialize(gameId, initialBoard);
+      return violation != null ? problem(problems.rejectedInitialization(violation, GameManager.pitOf(violation, initialBoard))) : status(gameId);
+    }));
+  }
+
+  public Mono<ServerResponse> move(ServerRequest request) {
+    final var gameId = request.pathVariable("gameId");
+    final var expectedVersion = GameVersions.expectedVersionOf(request.headers().firstHeader(HttpHeaders.IF_MATCH));
+    return body(request, Integer.class).flatMap(pit -> blocking(() -> {
+      final var violation = gameManager.tryMoveStonesFrom(gameId, pit, expectedVersion);
+      return violation != null ? problem(problems.rejectedMove(violation, gameManager.winnerOf(gameId))) : status(gameId);
+    }));
+  }
+
+  public Mono<ServerResponse> batchMove(ServerRequest request) {
+    final var gameId = request.pathVariable("gameId");
+    final var expectedVersion = GameVersions.expectedVersionOf(request.headers().firstHeader(HttpHeaders.IF_MATCH));
+    return body(request, int[].class).flatMap(pits -> blocking(() -> {
+      gameManager.moveStonesFrom(gameId, pits, expectedVersion);
+      return status(gameId);
+    }));
+  }
+
+  public Mono<ServerResponse> computerMove(ServerRequest request) {
+    final var gameId = request.pathVariable("gameId");
+    return blocking(() -> {
+      final var budget = request.queryParam("budget").map(GameHandler::numberOf).orElse(null);
+      computerPlayer.play(gameId, ComputerBudgets.budgetOf(budget, defaultBudget));
+      return status(gameId);
+    });
+  }
+
+  public Mono<ServerResponse> status(ServerRequest request) {
+    return blocking(() -> status(request.pathVariable("gameId")));
+  }
+
+  public Mono<ServerResponse> moves(ServerRequest request) {
+    return blocking(() -> ServerResponse.ok()
+      .contentType(MediaType.APPLICATION_JSON)
+      .bodyValue(gameManager.legalMoves(request.pathVariable("gameId"))));
+  }
+
+  public Mono<ServerResponse> evaluation(ServerRequest request) {
+    return blocking(() -> ServerResponse.ok()
+      .contentType(MediaType.APPLICATION_JSON)
+      .bodyValue(computerPlayer.evaluate(request.pathVariable("gameId"))));
+  }
+
+  // the stream never times out, it ends when the client goes away, falls behind or the game is cleared
+  public Mono<ServerResponse> events(ServerRequest request) {
+    final var gameId = request.pathVariable("gameId");
+    return blocking(() -> {
+      final var lastEventId = request.headers().firstHeader("Last-Event-ID");
+      final var publisher = new GameEventsPublisher(lastEventId == null ? null : numberOf(lastEventId));
+      gameManager.watch(gameId, publisher);
+      return ServerResponse.ok()
+        .contentType(MediaType.TEXT_EVENT_STREAM)
+        .body(BodyInserters.fromServerSentEvents(publisher.events().doFinally(signal -> gameManager.unwatch(gameId, publisher))));
+    });
+  }
+
+  public Mono<ServerResponse> delete(ServerRequest request) {
+    return blocking(() -> {
+      gameManager.clearGame(request.pathVariable("gameId"));
+      return ServerResponse.noContent().build();
+    });
+  }
+
+  // the status is served as the bytes cached by the GameManager and tagged with their version, as GetGameStatus does
+  private Mono<ServerResponse> status(String gameId) {
+    final var status = gameManager.renderedGameStatus(gameId);
+    return ServerResponse.ok()
+      .contentType(TEXT_PLAIN_UTF8)
+      .eTag(GameVersions.eTagOf(status.version()))
+      .bodyValue(status.encoded());
+  }
+
+  // the problems of the rules given back instead of thrown are encoded once, and only written here
+  private static Mono<ServerResponse> problem(ResponseEntity<byte[]> problem) {
+    return ServerResponse.status(problem.getStatusCode())
+      .contentType(APPLICATION_PROBLEM_JSON)
+      .bodyValue(problem.getBody());
+  }
+
+  // the rules run off the event loop, and the response they build is written back on it
+  private static Mono<ServerResponse> blocking(Callable<Mono<ServerResponse>> rules) {
+    return Mono.fromCallable(rules)
+      .subscribeOn(Schedulers.boundedElastic())
+      .flatMap(response -> response);
+  }
+
+  private static <T> Mono<T> body(ServerRequest request, Class<T> type) {
+    return request.bodyToMono(type)
+      .switchIfEmpty(Mono.error(() -> new ServerWebInputException("The request body is missing.")));
+  }
+
+  private static Long numberOf(String value) {
+    try {
+      return Long.valueOf(value);
+    } catch (NumberFormatException e) {
+      throw new ServerWebInputException("The value " + value + " is not a number.");
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.fun.mancala.infra.adapters.reactive;
+
+import com.fun.mancala.application.ports.GameMetrics;
+import com.fun.mancala.infra.adapters.http.GameProblems;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+// Served by Netty when the "reactive" profile is active, in place of the servlet controllers. The failures are described by the same
+// GameProblems as the servlet controllers', so both adapters answer with the same problems.
+@Configuration
+@Profile("reactive")
+public class GameRoutes {
+  private final GameProblems problems;
+
+  public GameRoutes(GameMetrics metrics) {
+    this.problems = new GameProblems(metrics);
+  }
+
+  // Tomcat is on the classpath for the servlet controllers, and would otherwise be picked to serve the routes too
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+    return new NettyReactiveWebServerFactory();
+  }
+
+  @Bean
+  public RouterFunction<ServerResponse> gameRouterFunction(GameHandler handler) {
+    return route()
+      .POST("/games/{gameId}/initialize", handler::initialize)
+      .POST("/games/{gameId}/move", handler::move)
+      .POST("/games/{gameId}/move/batch", handler::batchMove)
+      .POST("/games/{gameId}/move/computer", handler::computerMove)
+      .GET("/games/{gameId}/status", handler::status)
+      .GET("/games/{gameId}/moves", handler::moves)
+      .GET("/games/{gameId}/evaluation", handler::evaluation)
+      .GET("/games/{gameId}/events", handler::events)
+      .DELETE("/games/{gameId}", handler::delete)
+      .onError(RuntimeException.class, (error, request) -> problem(error))
+      .build();
+  }
+
+  private Mono<ServerResponse> problem(RuntimeException error) {
+    final var problem = problems.problemOf(error);
+    return ServerResponse.status(problem.getStatus())
+      .contentType(APPLICATION_PROBLEM_JSON)
+      .bodyValue(problem);
+  }
+}
@@ -0,0 +1,94 @@
+package com.fun.mancala.infra.adapters.simulation;
+
+import com.fun.mancala.application.simulation.BoardLayout;
+import com.fun.mancala.application.simulation.ResidentResult;
+import com.fun.mancala.application.simulation.ResidentSelfPlay;
+import com.fun.mancala.application.simulation.SelfPlay;
+import com.fun.mancala.application.simulation.SimulationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+// Plays the configured games of every layout once the application is up, and writes one line of statistics per layout.
+public class SelfPlayRunner implements ApplicationRunner {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SelfPlayRunner.class);
+  private static final String HEADER = "%-8s %12s %14s %8s %5s %5s %5s %6s %14s %17s %18s";
+  private static final String ROW = "%-8s %12.0f %14.0f %8.1f %5d %5d %5d %6d %14.4f %17.4f %18.4f";
+  private static final String RESIDENT_HEADER = "%-8s %14s %14s %12s %13s";
+  private static final String RESIDENT_ROW = "%-8s %14d %14.0f %12d %13d";
+  private final SelfPlay selfPlay;
+  private final ResidentSelfPlay residentSelfPlay;
+  private final SimulationProperties properties;
+
+  public SelfPlayRunner(SelfPlay selfPlay, ResidentSelfPlay residentSelfPlay, SimulationProperties properties) {
+    this.selfPlay = selfPlay;
+    this.residentSelfPlay = residentSelfPlay;
+    this.properties = properties;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    final var lines = new ArrayList<String>();
+    lines.add("%d %s games per layout on %d threads".formatted(
+      properties.games(),
+      properties.searchDepth() == 0 ? "random" : "depth " + properties.searchDepth() + " alpha-beta",
+      ForkJoinPool.getCommonPoolParallelism()
+    ));
+    lines.add(HEADER.formatted("layout", "games/s", "moves/s", "length", "p50", "p90", "p99", "max", "captures/move",
+      "extra turns/move", "first player wins"));
+    for (var layout : properties.layouts()) {
+      final var result = selfPlay.play(BoardLayout.parse(layout), properties.games());
+      lines.add(rowOf(result));
+    }
+    if (properties.residentGames() > 0) {
+      lines.add("%d random games per layout resident at once off the heap".formatted(properties.residentGames()));
+      lines.add(RESIDENT_HEADER.formatted("layout", "off-heap MB", "moves/s", "collections", "collection ms"));
+      for (var layout : properties.layouts()) {
+        final var boardLayout = BoardLayout.parse(layout);
+        if (ResidentSelfPlay.fits(boardLayout)) lines.add(rowOf(residentSelfPlay.play(boardLayout, properties.residentGames())));
+      }
+    }
+    try {
+      if (properties.result().getParent() != null) Files.createDirectories(properties.result().getParent());
+      Files.write(properties.result(), lines);
+    } catch (IOException e) {
+      throw new UncheckedIOException("The self-play result cannot be written to " + properties.result() + ".", e);
+    }
+    lines.forEach(LOGGER::info);
+  }
+
+  private static String rowOf(SimulationResult result) {
+    final var statistics = result.statistics();
+    return String.format(Locale.ROOT, ROW,
+      result.layout(),
+      result.gamesPerSecond(),
+      result.movesPerSecond(),
+      statistics.meanLength(),
+      statistics.lengthPercentile(50),
+      statistics.lengthPercentile(90),
+      statistics.lengthPercentile(99),
+      statistics.longestGame(),
+      statistics.capturesPerMove(),
+      statistics.extraTurnsPerMove(),
+      statistics.firstPlayerWinRate()
+    );
+  }
+
+  private static String rowOf(ResidentResult result) {
+    return String.format(Locale.ROOT, RESIDENT_ROW,
+      result.layout(),
+      result.offHeapBytes() >> 20,
+      result.movesPerSecond(),
+      result.collections(),
+      result.collectionTime().toMillis()
+    );
+  }
+}
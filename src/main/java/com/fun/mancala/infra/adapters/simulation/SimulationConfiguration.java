@@ -0,0 +1,19 @@
+package com.fun.mancala.infra.adapters.simulation;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.simulation.ResidentSelfPlay;
+import com.fun.mancala.application.simulation.SelfPlay;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("simulation")
+@EnableConfigurationProperties(SimulationProperties.class)
+public class SimulationConfiguration {
+  @Bean
+  public SelfPlayRunner selfPlayRunner(GameManager gameManager, SimulationProperties properties) {
+    return new SelfPlayRunner(new SelfPlay(gameManager, properties.searchDepth()), new ResidentSelfPlay(), properties);
+  }
+}
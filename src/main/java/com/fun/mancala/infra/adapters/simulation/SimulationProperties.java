@@ -0,0 +1,11 @@
+package com.fun.mancala.infra.adapters.simulation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@ConfigurationProperties("mancala.simulation")
+// residentGames of every layout are also played all at once off the heap, zero for none
+public record SimulationProperties(List<String> layouts, long games, int searchDepth, int residentGames, Path result) {
+}
@@ -0,0 +1,26 @@
+package com.fun.mancala.infra.adapters.websocket;
+
+import com.fun.mancala.application.GameUpdate;
+
+import java.nio.ByteBuffer;
+
+// Binary frame of an update, big-endian:
+//   version (8 bytes) | player (1 byte) | status (1 byte) | changed pits (4 bytes) | then per changed pit: pit (4 bytes) | stones (4 bytes)
+// The player and status are the ordinals of Player and Status.
+final class GameUpdateEncoder {
+  static final int HEADER_SIZE = Long.BYTES + 2 + Integer.BYTES;
+
+  private GameUpdateEncoder() {
+  }
+
+  static ByteBuffer encode(GameUpdate update) {
+    final var frame = ByteBuffer.allocate(HEADER_SIZE + 2 * Integer.BYTES * update.pits().length);
+    frame.putLong(update.version());
+    frame.put((byte) update.player().ordinal());
+    frame.put((byte) update.status().ordinal());
+    frame.putInt(update.pits().length);
+    for (int change = 0; change < update.pits().length; change++)
+      frame.putInt(update.pits()[change]).putInt(update.stones()[change]);
+    return frame.flip().asReadOnlyBuffer();
+  }
+}
@@ -0,0 +1,138 @@
+package com.fun.mancala.infra.adapters.websocket;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.GameUpdate;
+import com.fun.mancala.application.GameWatcher;
+import com.fun.mancala.application.exceptions.BoardInitializationException;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Endpoint;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.SendResult;
+import jakarta.websocket.Session;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static jakarta.websocket.CloseReason.CloseCodes.NORMAL_CLOSURE;
+import static jakarta.websocket.CloseReason.CloseCodes.TRY_AGAIN_LATER;
+import static jakarta.websocket.CloseReason.CloseCodes.UNEXPECTED_CONDITION;
+import static jakarta.websocket.CloseReason.CloseCodes.VIOLATED_POLICY;
+
+// Pushes every move of a game to the sessions connected to /games/{gameId}/updates, starting with the whole game. Every update is
+// encoded once, whatever the amount of sessions watching the game, and sessions that fall too many updates behind are closed.
+public class GameUpdatesEndpoint extends Endpoint {
+  static final int MAXIMUM_PENDING_UPDATES = 64;
+  private final GameManager gameManager;
+  private final Map<String, Encoding> encodings;
+  private String gameId;
+  private Watcher watcher;
+
+  GameUpdatesEndpoint(GameManager gameManager, Map<String, Encoding> encodings) {
+    this.gameManager = gameManager;
+    this.encodings = encodings;
+  }
+
+  @Override
+  public void onOpen(Session session, EndpointConfig config) {
+    gameId = session.getPathParameters().get("gameId");
+    watcher = new Watcher(session, encodings.compute(gameId, (id, encoding) -> (encoding == null ? new Encoding() : encoding).join()));
+    try {
+      gameManager.watch(gameId, watcher);
+    } catch (BoardInitializationException e) {
+      watcher.close(new CloseReason(VIOLATED_POLICY, e.getMessage()));
+    }
+  }
+
+  @Override
+  public void onClose(Session session, CloseReason closeReason) {
+    gameManager.unwatch(gameId, watcher);
+    encodings.computeIfPresent(gameId, (id, encoding) -> encoding.leave());
+  }
+
+  // the last update of a game and its frame, shared by all the sessions watching the game and dropped along with the last of them
+  static final class Encoding {
+    private int sessions;
+    private GameUpdate update;
+    private ByteBuffer frame;
+
+    private Encoding join() {
+      sessions++;
+      return this;
+    }
+
+    private Encoding leave() {
+      return --sessions == 0 ? null : this;
+    }
+
+    synchronized ByteBuffer frameOf(GameUpdate update) {
+      if (update != this.update) {
+        this.update = update;
+        this.frame = GameUpdateEncoder.encode(update);
+      }
+      return frame.duplicate();
+    }
+  }
+
+  // one frame is written at a time, and the ones published meanwhile wait in a bounded queue
+  private final class Watcher implements GameWatcher {
+    private final Session session;
+    private final RemoteEndpoint.Async remote;
+    private final Encoding encoding;
+    private final Queue<ByteBuffer> pending = new ArrayDeque<>();
+    private boolean sending;
+    private boolean closed;
+
+    private Watcher(Session session, Encoding encoding) {
+      this.session = session;
+      this.remote = session.getAsyncRemote();
+      this.encoding = encoding;
+    }
+
+    @Override
+    public synchronized void updated(GameUpdate update) {
+      if (closed) return;
+      if (sending && pending.size() >= MAXIMUM_PENDING_UPDATES) {
+        close(new CloseReason(TRY_AGAIN_LATER, "Too many updates pending, reconnect to get the whole game again."));
+      } else if (sending) {
+        pending.add(encoding.frameOf(update));
+      } else {
+        sending = true;
+        remote.sendBinary(encoding.frameOf(update), this::sent);
+      }
+    }
+
+    @Override
+    public synchronized void cleared() {
+      close(new CloseReason(NORMAL_CLOSURE, "The board has been cleared."));
+    }
+
+    private synchronized void sent(SendResult result) {
+      if (!result.isOK()) {
+        close(new CloseReason(UNEXPECTED_CONDITION, "The update could not be sent."));
+        return;
+      }
+      final var next = pending.poll();
+      if (next == null) sending = false;
+      else remote.sendBinary(next, this::sent);
+    }
+
+    // Closing writes to the socket, so it is left to another thread than the one holding the game. The container then calls onClose,
+    // which stops the watch without holding this watcher, as the game's lock is always taken before it.
+    private synchronized void close(CloseReason reason) {
+      closed = true;
+      pending.clear();
+      Thread.startVirtualThread(() -> {
+        try {
+          session.close(reason);
+        } catch (IOException e) {
+          // the connection is already gone
+        }
+      });
+    }
+  }
+}
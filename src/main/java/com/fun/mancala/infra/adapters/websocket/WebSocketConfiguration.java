@@ -0,0 +1,47 @@
+package com.fun.mancala.infra.adapters.websocket;
+
+import com.fun.mancala.application.GameManager;
+import jakarta.servlet.ServletContext;
+import jakarta.websocket.DeploymentException;
+import jakarta.websocket.server.ServerContainer;
+import jakarta.websocket.server.ServerEndpointConfig;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// Registers the endpoint with the WebSocket container Tomcat already ships with, once the server is up and has created it.
+// There is no server to register it with in the simulation.
+@Configuration
+@Profile("!reactive & !simulation")
+public class WebSocketConfiguration implements SmartInitializingSingleton {
+  static final String GAME_UPDATES_PATH = "/games/{gameId}/updates";
+  private final ServletContext servletContext;
+  private final GameManager gameManager;
+
+  public WebSocketConfiguration(ServletContext servletContext, GameManager gameManager) {
+    this.servletContext = servletContext;
+    this.gameManager = gameManager;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    final var container = (ServerContainer) servletContext.getAttribute(ServerContainer.class.getName());
+    if (container == null)
+      throw new IllegalStateException("There is no WebSocket container to serve " + GAME_UPDATES_PATH + " from.");
+    final var encodings = new ConcurrentHashMap<String, GameUpdatesEndpoint.Encoding>();
+    try {
+      container.addEndpoint(ServerEndpointConfig.Builder.create(GameUpdatesEndpoint.class, GAME_UPDATES_PATH)
+        .configurator(new ServerEndpointConfig.Configurator() {
+          @Override
+          public <T> T getEndpointInstance(Class<T> endpointClass) {
+            return endpointClass.cast(new GameUpdatesEndpoint(gameManager, encodings));
+          }
+        })
+        .build());
+    } catch (DeploymentException e) {
+      throw new IllegalStateException("The endpoint " + GAME_UPDATES_PATH + " cannot be deployed.", e);
+    }
+  }
+}
@@ -1,84 +1,139 @@
 package com.fun.mancala.application;
 
+import com.fun.mancala.application.exceptions.BoardBatchMoveException;
 import com.fun.mancala.application.exceptions.BoardInitializationException;
 import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.application.exceptions.GameVersionMismatchException;
+import com.fun.mancala.application.exceptions.RuleViolation;
+import com.fun.mancala.application.ports.EvictedGameStore;
+import com.fun.mancala.application.ports.GameJournal;
+import com.fun.mancala.application.ports.GameMetrics;
+import com.fun.mancala.application.ports.GameSnapshot;
+import com.fun.mancala.application.ports.GameSnapshotStore;
+import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.Game;
+import com.fun.mancala.domain.models.MoveOutcome;
+import com.fun.mancala.domain.models.Zobrist;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 class GameManagerTest {
+  private static final String GAME_ID = "game";
   private final GameManager sut = new GameManager();
 
   @Nested
   class BoardInitialization {
     @Test
     void initial_state_of_board_is_correctly_passed() {
-      final var initialization = new Integer[]{6, 6, 6, 6, 6, 6, 0, 6, 6, 6, 6, 6, 6, 0};
+      final var initialization = new int[]{6, 6, 6, 6, 6, 6, 0, 6, 6, 6, 6, 6, 6, 0};
 
-      final var board = sut.initialize(initialization);
+      final var board = sut.initialize(GAME_ID, initialization);
 
-      assertThat(board.pits()).isInstanceOf(Integer[].class);
+      assertThat(board.pits()).isInstanceOf(int[].class);
       assertThat(board.pits()).hasSize(initialization.length);
       assertThat(board.pits()).containsExactly(initialization);
     }
 
     @Test
     void initializing_board_with_incorrect_configuration_throws_exception() {
-      final var oddNumberOfPits = new Integer[]{0, 0, 0};
-      final var boardTooSmall = new Integer[]{1, 0, 1, 0};
-      final var wrongAmountOfEmptyPits = new Integer[]{1, 1, 0, 1, 0, 0};
-      final var badlyPositionedEmptyPits = new Integer[]{1, 1, 0, 0, 1, 1};
-      final var tooManyStones = new Integer[]{1, 20, 0, 1, 1, 0};
-      final var negativeStones = new Integer[]{-1, 20, 0, 1, 1, 0};
-      final var goodBoard = new Integer[]{1, 1, 0, 1, 1, 0};
-
-      assertThatThrownBy(() -> sut.initialize(null))
+      final var oddNumberOfPits = new int[]{0, 0, 0};
+      final var boardTooSmall = new int[]{1, 0, 1, 0};
+      final var wrongAmountOfEmptyPits = new int[]{1, 1, 0, 1, 0, 0};
+      final var badlyPositionedEmptyPits = new int[]{1, 1, 0, 0, 1, 1};
+      final var tooManyStones = new int[]{1, 20, 0, 1, 1, 0};
+      final var negativeStones = new int[]{-1, 20, 0, 1, 1, 0};
+      final var goodBoard = new int[]{1, 1, 0, 1, 1, 0};
+
+      assertThatThrownBy(() -> sut.initialize(GAME_ID, null))
         .isInstanceOf(BoardInitializationException.class)
         .hasMessage("Provide an initial state to the board.");
-      assertThatThrownBy(() -> sut.initialize(oddNumberOfPits))
+      assertThatThrownBy(() -> sut.initialize(GAME_ID, oddNumberOfPits))
         .isInstanceOf(BoardInitializationException.class)
         .hasMessage("The amount of pits on board should be even.");
-      assertThatThrownBy(() -> sut.initialize(boardTooSmall))
+      assertThatThrownBy(() -> sut.initialize(GAME_ID, boardTooSmall))
         .isInstanceOf(BoardInitializationException.class)
         .hasMessage("The board should have at least two pits plus a base per player.");
-      assertThatThrownBy(() -> sut.initialize(wrongAmountOfEmptyPits))
+      assertThatThrownBy(() -> sut.initialize(GAME_ID, wrongAmountOfEmptyPits))
         .isInstanceOf(BoardInitializationException.class)
         .hasMessage("The board should have only two empty pits at the right of each player.");
-      assertThatThrownBy(() -> sut.initialize(badlyPositionedEmptyPits))
+      assertThatThrownBy(() -> sut.initialize(GAME_ID, badlyPositionedEmptyPits))
         .isInstanceOf(BoardInitializationException.class)
         .hasMessage("The board should have only two empty pits at the right of each player.");
-      assertThatThrownBy(() -> sut.initialize(tooManyStones))
+      assertThatThrownBy(() -> sut.initialize(GAME_ID, tooManyStones))
         .isInstanceOf(BoardInitializationException.class)
         .hasMessage("There are too many stones on pit 1. The maximum amount of stones is 10. Fix the initialization board and retry.");
-      assertThatThrownBy(() -> sut.initialize(negativeStones))
+      assertThatThrownBy(() -> sut.initialize(GAME_ID, negativeStones))
         .isInstanceOf(BoardInitializationException.class)
         .hasMessage("There are negative amount of stones on pit 0. Fix the initialization board and retry.");
       assertThatThrownBy(() -> {
-        sut.initialize(goodBoard);
-        sut.initialize(goodBoard);
+        sut.initialize(GAME_ID, goodBoard);
+        sut.initialize(GAME_ID, goodBoard);
       })
         .isInstanceOf(BoardInitializationException.class)
         .hasMessage("The board is already initialized.");
     }
 
+    @Test
+    void initializing_board_with_incorrect_game_id_throws_exception() {
+      final var goodBoard = new int[]{1, 1, 0, 1, 1, 0};
+
+      assertThatThrownBy(() -> sut.initialize("", goodBoard))
+        .isInstanceOf(BoardInitializationException.class)
+        .hasMessage("The game id should have between 1 and 64 letters, digits, '-' or '_'.");
+      assertThatThrownBy(() -> sut.initialize("a/game", goodBoard))
+        .isInstanceOf(BoardInitializationException.class)
+        .hasMessage("The game id should have between 1 and 64 letters, digits, '-' or '_'.");
+      assertThatThrownBy(() -> sut.initialize("g".repeat(65), goodBoard))
+        .isInstanceOf(BoardInitializationException.class)
+        .hasMessage("The game id should have between 1 and 64 letters, digits, '-' or '_'.");
+    }
+
     @Test
     void initialize_clear_and_initialize_works() {
-      final var initialization = new Integer[]{6, 6, 6, 6, 6, 6, 0, 6, 6, 6, 6, 6, 6, 0};
+      final var initialization = new int[]{6, 6, 6, 6, 6, 6, 0, 6, 6, 6, 6, 6, 6, 0};
 
-      sut.initialize(initialization);
-      sut.clearGame();
-      final var board = sut.initialize(initialization);
+      sut.initialize(GAME_ID, initialization);
+      sut.clearGame(GAME_ID);
+      final var board = sut.initialize(GAME_ID, initialization);
 
-      assertThat(board.pits()).isInstanceOf(Integer[].class);
+      assertThat(board.pits()).isInstanceOf(int[].class);
       assertThat(board.pits()).hasSize(initialization.length);
       assertThat(board.pits()).containsExactly(initialization);
     }
 
     @Test
     void movement_on_uninitialized_board_throws_exception() {
-      assertThatThrownBy(() -> sut.moveStonesFrom(0))
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 0))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("The board has not been initialized yet.");
     }
@@ -88,67 +143,80 @@ class GameManagerTest {
   class PlayerOnePlays {
     @Test
     void player_one_should_play_first() {
-      final var initialization = new Integer[]{2, 2, 0, 2, 2, 0};
-      final var result = new Integer[]{0, 3, 1, 2, 2, 0};
+      final var initialization = new int[]{2, 2, 0, 2, 2, 0};
+      final var result = new int[]{0, 3, 1, 2, 2, 0};
 
-      sut.initialize(initialization);
-      final var moved = sut.moveStonesFrom(0);
+      sut.initialize(GAME_ID, initialization);
+      final var moved = sut.moveStonesFrom(GAME_ID, 0);
 
       assertThat(moved.pits()).containsExactly(result);
     }
 
     @Test
     void player_one_cannot_move_player_two_stones() {
-      final var initialization = new Integer[]{2, 2, 0, 2, 2, 0};
+      final var initialization = new int[]{2, 2, 0, 2, 2, 0};
 
-      sut.initialize(initialization);
-      assertThatThrownBy(() -> sut.moveStonesFrom(4))
+      sut.initialize(GAME_ID, initialization);
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 4))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("Those stones are not yours to move.");
     }
 
     @Test
     void player_one_cannot_move_stones_from_base() {
-      final var initialization = new Integer[]{2, 2, 0, 2, 2, 0};
+      final var initialization = new int[]{2, 2, 0, 2, 2, 0};
 
-      sut.initialize(initialization);
-      assertThatThrownBy(() -> sut.moveStonesFrom(2))
+      sut.initialize(GAME_ID, initialization);
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 2))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("The stones at the base should not be moved.");
     }
+
+    @Test
+    void player_one_cannot_move_stones_off_the_board() {
+      sut.initialize(GAME_ID, new int[]{2, 2, 0, 2, 2, 0});
+
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 6))
+        .isInstanceOf(BoardMoveException.class)
+        .hasMessage("Choose a pit on the board.");
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, new int[]{1, -1}))
+        .isInstanceOf(BoardBatchMoveException.class)
+        .hasMessage("Choose a pit on the board.")
+        .extracting("failedMove").isEqualTo(1);
+    }
   }
 
   @Nested
   class PlayerTwoPlays {
     @Test
     void player_two_cannot_play_first() {
-      final var initialization = new Integer[]{2, 2, 0, 2, 2, 0};
+      final var initialization = new int[]{2, 2, 0, 2, 2, 0};
 
-      sut.initialize(initialization);
+      sut.initialize(GAME_ID, initialization);
 
-      assertThatThrownBy(() -> sut.moveStonesFrom(3))
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 3))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("Those stones are not yours to move.");
     }
 
     @Test
     void player_two_cannot_move_player_one_stones() {
-      final var initialization = new Integer[]{2, 2, 0, 2, 2, 0};
+      final var initialization = new int[]{2, 2, 0, 2, 2, 0};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
-      assertThatThrownBy(() -> sut.moveStonesFrom(1))
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 1))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("Those stones are not yours to move.");
     }
 
     @Test
     void player_two_cannot_move_stones_from_base() {
-      final var initialization = new Integer[]{2, 2, 0, 2, 2, 0};
+      final var initialization = new int[]{2, 2, 0, 2, 2, 0};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
-      assertThatThrownBy(() -> sut.moveStonesFrom(5))
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 5))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("The stones at the base should not be moved.");
     }
@@ -158,60 +226,60 @@ class GameManagerTest {
   class ComplexMovement {
     @Test
     void player_one_plays_a_pit_without_stones() {
-      final var initialization = new Integer[]{1, 1, 0, 1, 1, 0};
+      final var initialization = new int[]{1, 1, 0, 1, 1, 0};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
 
-      assertThatThrownBy(() -> sut.moveStonesFrom(1))
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 1))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("Choose a pit with stones.");
     }
 
     @Test
     void player_two_plays_a_pit_without_stones() {
-      final var initialization = new Integer[]{1, 1, 0, 1, 1, 0};
+      final var initialization = new int[]{1, 1, 0, 1, 1, 0};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(0);
-      sut.moveStonesFrom(4);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 0);
+      sut.moveStonesFrom(GAME_ID, 4);
 
-      assertThatThrownBy(() -> sut.moveStonesFrom(4))
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 4))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("Choose a pit with stones.");
     }
 
     @Test
     void moving_stones_from_last_pit_rotates_to_first_player_pit() {
-      final var initialization = new Integer[]{2, 2, 0, 2, 2, 0};
-      final var result = new Integer[]{3, 0, 1, 3, 0, 1};
+      final var initialization = new int[]{2, 2, 0, 2, 2, 0};
+      final var result = new int[]{3, 0, 1, 3, 0, 1};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
-      final var moved = sut.moveStonesFrom(4);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
+      final var moved = sut.moveStonesFrom(GAME_ID, 4);
 
       assertThat(moved.pits()).containsExactly(result);
     }
 
     @Test
     void landing_on_base_pit_should_repeat_turn_for_player_one() {
-      final var initialization = new Integer[]{2, 2, 0, 2, 2, 0};
+      final var initialization = new int[]{2, 2, 0, 2, 2, 0};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(0);
-      assertThatThrownBy(() -> sut.moveStonesFrom(4))
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 0);
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 4))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("Those stones are not yours to move.");
     }
 
     @Test
     void landing_on_base_pit_should_repeat_turn_for_player_two() {
-      final var initialization = new Integer[]{2, 2, 0, 1, 2, 0};
+      final var initialization = new int[]{2, 2, 0, 1, 2, 0};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
-      sut.moveStonesFrom(3);
-      assertThatThrownBy(() -> sut.moveStonesFrom(0))
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
+      sut.moveStonesFrom(GAME_ID, 3);
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 0))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("Those stones are not yours to move.");
 
@@ -219,76 +287,125 @@ class GameManagerTest {
 
     @Test
     void landing_on_own_empty_pit_captures_opponents_stones_for_player_one() {
-      final var initialization = new Integer[]{2, 5, 0, 2, 2, 0};
-      final var result = new Integer[]{3, 0, 5, 3, 0, 0};
+      final var initialization = new int[]{2, 5, 0, 2, 2, 0};
+      final var result = new int[]{3, 0, 5, 3, 0, 0};
 
-      sut.initialize(initialization);
-      final var moved = sut.moveStonesFrom(1);
+      sut.initialize(GAME_ID, initialization);
+      final var moved = sut.moveStonesFrom(GAME_ID, 1);
 
       assertThat(moved.pits()).containsExactly(result);
     }
 
     @Test
     void landing_on_own_empty_pit_captures_opponents_stones_for_player_two() {
-      final var initialization = new Integer[]{2, 2, 0, 2, 5, 0};
-      final var result = new Integer[]{3, 0, 1, 4, 0, 3};
+      final var initialization = new int[]{2, 2, 0, 2, 5, 0};
+      final var result = new int[]{3, 0, 1, 4, 0, 3};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
-      final var moved = sut.moveStonesFrom(4);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
+      final var moved = sut.moveStonesFrom(GAME_ID, 4);
 
       assertThat(moved.pits()).containsExactly(result);
     }
 
     @Test
     void landing_on_opposing_empty_pit_does_not_capture() {
-      final var initialization = new Integer[]{3, 3, 0, 3, 3, 0};
-      final var result = new Integer[]{4, 1, 1, 0, 5, 1};
+      final var initialization = new int[]{3, 3, 0, 3, 3, 0};
+      final var result = new int[]{4, 1, 1, 0, 5, 1};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
-      final var moved = sut.moveStonesFrom(3);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
+      final var moved = sut.moveStonesFrom(GAME_ID, 3);
 
       assertThat(moved.pits()).containsExactly(result);
     }
 
     @Test
     void moving_stones_from_player_one_pit_skips_second_player_base_pit_and_rotates() {
-      final var initialization = new Integer[]{2, 4, 0, 2, 2, 0};
-      final var result = new Integer[]{3, 0, 1, 3, 3, 0};
+      final var initialization = new int[]{2, 4, 0, 2, 2, 0};
+      final var result = new int[]{3, 0, 1, 3, 3, 0};
 
-      sut.initialize(initialization);
-      final var moved = sut.moveStonesFrom(1);
+      sut.initialize(GAME_ID, initialization);
+      final var moved = sut.moveStonesFrom(GAME_ID, 1);
 
       assertThat(moved.pits()).containsExactly(result);
     }
 
     @Test
     void moving_stones_from_player_two_pit_rotates_and_skips_first_player_base_pit() {
-      final var initialization = new Integer[]{2, 2, 0, 2, 4, 0};
-      final var result = new Integer[]{3, 1, 1, 4, 0, 1};
+      final var initialization = new int[]{2, 2, 0, 2, 4, 0};
+      final var result = new int[]{3, 1, 1, 4, 0, 1};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
-      final var moved = sut.moveStonesFrom(4);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
+      final var moved = sut.moveStonesFrom(GAME_ID, 4);
 
       assertThat(moved.pits()).containsExactly(result);
     }
   }
 
+  @Nested
+  class BatchMovement {
+    @Test
+    void all_moves_are_applied_in_order() {
+      final var initialization = new int[]{2, 2, 0, 2, 2, 0};
+      final var result = new int[]{3, 0, 1, 3, 0, 1};
+
+      sut.initialize(GAME_ID, initialization);
+      final var moved = sut.moveStonesFrom(GAME_ID, new int[]{1, 4});
+
+      assertThat(moved.pits()).containsExactly(result);
+    }
+
+    @Test
+    void moves_stop_at_the_first_failing_one_and_report_it() {
+      final var initialization = new int[]{2, 2, 0, 2, 2, 0};
+
+      sut.initialize(GAME_ID, initialization);
+
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, new int[]{1, 4, 4, 0}))
+        .isInstanceOf(BoardBatchMoveException.class)
+        .hasMessage("Those stones are not yours to move.")
+        .extracting("failedMove").isEqualTo(2);
+      assertThat(sut.gameStatus(GAME_ID)).contains("Player ONE: | 3 | 0 || 1 |", "Current Player: ONE");
+    }
+
+    @Test
+    void no_moves_leave_the_board_untouched() {
+      final var initialization = new int[]{2, 2, 0, 2, 2, 0};
+
+      sut.initialize(GAME_ID, initialization);
+      final var moved = sut.moveStonesFrom(GAME_ID, new int[]{});
+
+      assertThat(moved.pits()).containsExactly(2, 2, 0, 2, 2, 0);
+    }
+
+    @Test
+    void moves_on_uninitialized_board_or_without_pits_throw_exception() {
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, new int[]{0}))
+        .isInstanceOf(BoardMoveException.class)
+        .hasMessage("The board has not been initialized yet.");
+
+      sut.initialize(GAME_ID, new int[]{2, 2, 0, 2, 2, 0});
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, (int[]) null))
+        .isInstanceOf(BoardMoveException.class)
+        .hasMessage("Provide the pits to move the stones from.");
+    }
+  }
+
   @Nested
   class EndGameCondition {
     @Test
     void player_one_wins() {
-      final var initialization = new Integer[]{2, 1, 0, 1, 1, 0};
-      final var result = new Integer[]{0, 0, 3, 1, 1, 0};
+      final var initialization = new int[]{2, 1, 0, 1, 1, 0};
+      final var result = new int[]{0, 0, 3, 1, 1, 0};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
-      sut.moveStonesFrom(0);
-      final var moved = sut.moveStonesFrom(1);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
+      sut.moveStonesFrom(GAME_ID, 0);
+      final var moved = sut.moveStonesFrom(GAME_ID, 1);
 
-      assertThatThrownBy(() -> sut.moveStonesFrom(0))
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 0))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("Game has ended. Player ONE won.");
       assertThat(moved.pits()).containsExactly(result);
@@ -296,39 +413,219 @@ class GameManagerTest {
 
     @Test
     void player_two_wins() {
-      final var initialization = new Integer[]{1, 2, 0, 1, 1, 0};
-      final var result = new Integer[]{1, 0, 1, 0, 0, 3};
+      final var initialization = new int[]{1, 2, 0, 1, 1, 0};
+      final var result = new int[]{1, 0, 1, 0, 0, 3};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
-      sut.moveStonesFrom(4);
-      sut.moveStonesFrom(3);
-      final var moved = sut.moveStonesFrom(4);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
+      sut.moveStonesFrom(GAME_ID, 4);
+      sut.moveStonesFrom(GAME_ID, 3);
+      final var moved = sut.moveStonesFrom(GAME_ID, 4);
 
-      assertThatThrownBy(() -> sut.moveStonesFrom(0))
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 0))
         .isInstanceOf(BoardMoveException.class)
         .hasMessage("Game has ended. Player TWO won.");
       assertThat(moved.pits()).containsExactly(result);
     }
   }
 
+  @Nested
+  class AllocationFreeMoves {
+    private static final int[] STANDARD_BOARD = {6, 6, 6, 6, 6, 6, 0, 6, 6, 6, 6, 6, 6, 0};
+    private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void moving_stones_does_not_allocate() {
+      final var moves = legalMovesOfAFullGame();
+      // let the JIT settle before measuring, the interpreter is not what runs under load
+      for (int warmup = 0; warmup < 2_000; warmup++) {
+        restart();
+        play(moves);
+      }
+
+      final var baseline = allocatedDuring(() -> {});
+      for (int round = 0; round < 10; round++) {
+        restart();
+        assertThat(allocatedDuring(() -> play(moves))).isLessThanOrEqualTo(baseline);
+      }
+    }
+
+    private int[] legalMovesOfAFullGame() {
+      final var moves = new ArrayList<Integer>();
+      sut.initialize(GAME_ID, STANDARD_BOARD.clone());
+      var playing = true;
+      while (playing) {
+        playing = false;
+        for (int pit = 0; pit < STANDARD_BOARD.length && !playing; pit++) {
+          try {
+            sut.moveStonesFrom(GAME_ID, pit);
+            moves.add(pit);
+            playing = true;
+          } catch (BoardMoveException ignored) {
+            // not playable right now, try the next pit
+          }
+        }
+      }
+      sut.clearGame(GAME_ID);
+      return moves.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void restart() {
+      sut.clearGame(GAME_ID);
+      sut.initialize(GAME_ID, STANDARD_BOARD.clone());
+    }
+
+    // the path of the endpoints, as moveStonesFrom hands back a copy of the board
+    private void play(int[] moves) {
+      for (var pit : moves)
+        sut.tryMoveStonesFrom(GAME_ID, pit, GameManager.ANY_VERSION);
+    }
+
+    private long allocatedDuring(Runnable work) {
+      final var before = threads.getCurrentThreadAllocatedBytes();
+      work.run();
+      return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+  }
+
+  @Nested
+  class MultipleGames {
+    @Test
+    void games_are_independent_from_each_other() {
+      final var initialization = new int[]{1, 1, 0, 1, 1, 0};
+
+      sut.initialize("first", initialization.clone());
+      sut.initialize("second", initialization.clone());
+      sut.moveStonesFrom("first", 0);
+
+      assertThat(sut.gameStatus("second")).contains("Current Player: ONE");
+      assertThat(sut.gameStatus("first")).contains("Current Player: TWO");
+    }
+
+    @Test
+    void clearing_a_game_does_not_affect_the_others() {
+      final var initialization = new int[]{1, 1, 0, 1, 1, 0};
+
+      sut.initialize("first", initialization.clone());
+      sut.initialize("second", initialization.clone());
+      sut.clearGame("first");
+
+      assertThatThrownBy(() -> sut.moveStonesFrom("first", 0))
+        .isInstanceOf(BoardMoveException.class)
+        .hasMessage("The board has not been initialized yet.");
+      assertThat(sut.moveStonesFrom("second", 0).pits()).containsExactly(0, 2, 0, 1, 1, 0);
+    }
+
+    @Test
+    void the_boards_handed_back_are_not_changed_by_later_moves() {
+      final var initialization = new int[]{1, 1, 0, 1, 1, 0};
+
+      final var initialized = sut.initialize(GAME_ID, initialization);
+      final var moved = sut.moveStonesFrom(GAME_ID, 0);
+      sut.moveStonesFrom(GAME_ID, 3);
+
+      assertThat(initialization).containsExactly(1, 1, 0, 1, 1, 0);
+      assertThat(initialized.pits()).containsExactly(1, 1, 0, 1, 1, 0);
+      assertThat(moved.pits()).containsExactly(0, 2, 0, 1, 1, 0);
+    }
+
+    @Test
+    void concurrent_games_are_played_without_interference() throws Exception {
+      final var games = 200;
+      final var executor = Executors.newFixedThreadPool(8);
+      try {
+        final var results = executor.invokeAll(IntStream.range(0, games)
+          .<Callable<String>>mapToObj(i -> () -> {
+            final var gameId = "game-" + i;
+            sut.initialize(gameId, new int[]{1, 2, 0, 1, 1, 0});
+            sut.moveStonesFrom(gameId, 1);
+            sut.moveStonesFrom(gameId, 4);
+            sut.moveStonesFrom(gameId, 3);
+            sut.moveStonesFrom(gameId, 4);
+            return sut.gameStatus(gameId);
+          })
+          .toList());
+
+        for (var result : results)
+          assertThat(result.get()).contains("Player TWO: | 0 | 0 || 3 |", "Game: DONE");
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    void concurrent_moves_on_the_same_game_never_lose_stones() throws Exception {
+      final var initialization = new int[202];
+      Arrays.fill(initialization, 10);
+      initialization[100] = 0;
+      initialization[201] = 0;
+      final var totalStones = Arrays.stream(initialization).sum();
+      final var board = sut.initialize(GAME_ID, initialization);
+      final var executor = Executors.newFixedThreadPool(8);
+      try {
+        final var players = executor.invokeAll(IntStream.range(0, 8)
+          .<Callable<Void>>mapToObj(t -> () -> {
+            for (int move = 0; move < 500; move++) {
+              try {
+                sut.moveStonesFrom(GAME_ID, (move * 7 + t * 13) % initialization.length);
+              } catch (BoardMoveException ignored) {
+                // the other threads keep changing whose turn it is
+              }
+            }
+            return null;
+          })
+          .toList());
+        for (var player : players) player.get();
+      } finally {
+        executor.shutdownNow();
+      }
+
+      assertThat(Arrays.stream(board.pits()).sum()).isEqualTo(totalStones);
+    }
+  }
+
   @Nested
   class ReportGameStatus {
+    @Test
+    void status_is_rendered_once_per_change_of_the_game() {
+      sut.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+
+      final var initialStatus = sut.encodedGameStatus(GAME_ID);
+      final var polledStatus = sut.encodedGameStatus(GAME_ID);
+      sut.moveStonesFrom(GAME_ID, 0);
+      final var movedStatus = sut.encodedGameStatus(GAME_ID);
+
+      assertThat(polledStatus).isSameAs(initialStatus);
+      assertThat(movedStatus).isNotSameAs(initialStatus);
+      assertThat(new String(movedStatus, UTF_8)).isEqualTo(sut.gameStatus(GAME_ID)).contains("Current Player: TWO");
+    }
+
+    @Test
+    void status_is_rendered_again_after_the_game_is_cleared_and_initialized() {
+      sut.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+      final var firstGameStatus = sut.encodedGameStatus(GAME_ID);
+      sut.clearGame(GAME_ID);
+      sut.initialize(GAME_ID, new int[]{2, 2, 0, 2, 2, 0});
+
+      assertThat(sut.encodedGameStatus(GAME_ID)).isNotSameAs(firstGameStatus);
+      assertThat(sut.gameStatus(GAME_ID)).contains("Player ONE: | 2 | 2 || 0 |");
+    }
+
     @Test
     void uninitialized_board_throws_exception() {
-      assertThatThrownBy(() -> sut.gameStatus())
+      assertThatThrownBy(() -> sut.gameStatus(GAME_ID))
         .isInstanceOf(BoardInitializationException.class)
         .hasMessage("The board has not been initialized yet.");
     }
 
     @Test
     void game_status_playable_game_player_one_turn() {
-      final var initialization = new Integer[]{1, 1, 0, 1, 1, 0};
+      final var initialization = new int[]{1, 1, 0, 1, 1, 0};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
 
-      assertThat(sut.gameStatus()).isEqualTo("""
+      assertThat(sut.gameStatus(GAME_ID)).isEqualTo("""
         Current Board:
           Player ONE: | 1 | 0 || 1 |
           Player TWO: | 1 | 1 || 0 |
@@ -342,12 +639,12 @@ class GameManagerTest {
 
     @Test
     void game_status_playable_game_player_two_turn() {
-      final var initialization = new Integer[]{1, 1, 0, 1, 1, 0};
+      final var initialization = new int[]{1, 1, 0, 1, 1, 0};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(0);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 0);
 
-      assertThat(sut.gameStatus()).isEqualTo("""
+      assertThat(sut.gameStatus(GAME_ID)).isEqualTo("""
         Current Board:
           Player ONE: | 0 | 2 || 0 |
           Player TWO: | 1 | 1 || 0 |
@@ -361,14 +658,14 @@ class GameManagerTest {
 
     @Test
     void game_status_done_player_one_wins() {
-      final var initialization = new Integer[]{2, 1, 0, 1, 1, 0};
+      final var initialization = new int[]{2, 1, 0, 1, 1, 0};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
-      sut.moveStonesFrom(0);
-      sut.moveStonesFrom(1);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
+      sut.moveStonesFrom(GAME_ID, 0);
+      sut.moveStonesFrom(GAME_ID, 1);
 
-      assertThat(sut.gameStatus()).isEqualTo("""
+      assertThat(sut.gameStatus(GAME_ID)).isEqualTo("""
         Final Board:
           Player ONE: | 0 | 0 || 3 |
           Player TWO: | 1 | 1 || 0 |
@@ -382,15 +679,15 @@ class GameManagerTest {
 
     @Test
     void game_status_done_player_two_wins() {
-      final var initialization = new Integer[]{1, 2, 0, 1, 1, 0};
+      final var initialization = new int[]{1, 2, 0, 1, 1, 0};
 
-      sut.initialize(initialization);
-      sut.moveStonesFrom(1);
-      sut.moveStonesFrom(4);
-      sut.moveStonesFrom(3);
-      sut.moveStonesFrom(4);
+      sut.initialize(GAME_ID, initialization);
+      sut.moveStonesFrom(GAME_ID, 1);
+      sut.moveStonesFrom(GAME_ID, 4);
+      sut.moveStonesFrom(GAME_ID, 3);
+      sut.moveStonesFrom(GAME_ID, 4);
 
-      assertThat(sut.gameStatus()).isEqualTo("""
+      assertThat(sut.gameStatus(GAME_ID)).isEqualTo("""
         Final Board:
           Player ONE: | 1 | 0 || 1 |
           Player TWO: | 0 | 0 || 3 |
@@ -402,4 +699,666 @@ class GameManagerTest {
         """);
     }
   }
+
+  @Nested
+  class WatchingGames {
+    private final List<GameUpdate> updates = new ArrayList<>();
+    private final GameWatcher watcher = new GameWatcher() {
+      @Override
+      public void updated(GameUpdate update) {
+        updates.add(update);
+      }
+
+      @Override
+      public void cleared() {
+        updates.add(null);
+      }
+    };
+
+    @Test
+    void a_watcher_gets_the_whole_game_first() {
+      sut.initialize(GAME_ID, new int[]{1, 2, 0, 3, 4, 0});
+
+      sut.watch(GAME_ID, watcher);
+
+      assertThat(updates).containsExactly(new GameUpdate(0, new int[]{0, 1, 2, 3, 4, 5}, new int[]{1, 2, 0, 3, 4, 0}, ONE, PLAYABLE));
+    }
+
+    @Test
+    void every_move_carries_only_the_changed_pits() {
+      sut.initialize(GAME_ID, new int[]{1, 2, 0, 3, 4, 0});
+      sut.watch(GAME_ID, watcher);
+
+      sut.moveStonesFrom(GAME_ID, 1);
+      sut.moveStonesFrom(GAME_ID, new int[]{4, 0});
+
+      assertThat(updates).hasSize(4).last().isEqualTo(new GameUpdate(3, new int[]{0, 1, 2}, new int[]{0, 2, 2}, ONE, PLAYABLE));
+      assertThat(updates.get(1)).isEqualTo(new GameUpdate(1, new int[]{1, 2, 3}, new int[]{0, 1, 4}, TWO, PLAYABLE));
+      assertThat(updates.get(2)).isEqualTo(new GameUpdate(2, new int[]{0, 1, 3, 4, 5}, new int[]{2, 1, 5, 0, 1}, ONE, PLAYABLE));
+    }
+
+    @Test
+    void failed_moves_and_unwatched_games_publish_nothing() {
+      sut.initialize(GAME_ID, new int[]{1, 2, 0, 3, 4, 0});
+      sut.watch(GAME_ID, watcher);
+
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 3)).isInstanceOf(BoardMoveException.class);
+      sut.unwatch(GAME_ID, watcher);
+      sut.moveStonesFrom(GAME_ID, 1);
+
+      assertThat(updates).hasSize(1);
+    }
+
+    @Test
+    void clearing_the_game_tells_its_watchers() {
+      sut.initialize(GAME_ID, new int[]{1, 2, 0, 3, 4, 0});
+      sut.watch(GAME_ID, watcher);
+
+      sut.clearGame(GAME_ID);
+      sut.initialize(GAME_ID, new int[]{1, 2, 0, 3, 4, 0});
+      sut.moveStonesFrom(GAME_ID, 1);
+
+      assertThat(updates).hasSize(2).last().isNull();
+    }
+
+    @Test
+    void a_failing_watcher_is_dropped_without_failing_the_move_or_the_other_watchers() {
+      sut.initialize(GAME_ID, new int[]{1, 2, 0, 3, 4, 0});
+      final var failures = new AtomicInteger();
+      sut.watch(GAME_ID, new GameWatcher() {
+        @Override
+        public void updated(GameUpdate update) {
+          if (update.version() > 0) {
+            failures.incrementAndGet();
+            throw new IllegalStateException("The connection is gone.");
+          }
+        }
+
+        @Override
+        public void cleared() {
+        }
+      });
+      sut.watch(GAME_ID, watcher);
+
+      sut.moveStonesFrom(GAME_ID, 1);
+      sut.moveStonesFrom(GAME_ID, 4);
+
+      assertThat(updates).hasSize(3);
+      assertThat(failures).hasValue(1);
+    }
+
+    @Test
+    void uninitialized_games_cannot_be_watched() {
+      assertThatThrownBy(() -> sut.watch(GAME_ID, watcher))
+        .isInstanceOf(BoardInitializationException.class)
+        .hasMessage("The board has not been initialized yet.");
+    }
+  }
+  @Nested
+  class ZobristHashing {
+    @Test
+    void sowing_capturing_and_turns_keep_the_hash_of_the_position() {
+      final var random = new Random(7);
+      for (int game = 0; game < 500; game++) {
+        final var pits = 6 + 2 * random.nextInt(20);
+        final var initialBoard = new int[pits];
+        for (int pit = 0; pit < pits; pit++)
+          initialBoard[pit] = 1 + random.nextInt(10);
+        initialBoard[pits / 2 - 1] = 0;
+        initialBoard[pits - 1] = 0;
+        final var gameId = "game-" + game;
+        sut.initialize(gameId, initialBoard);
+
+        for (var moved = sut.copyOf(gameId); moved.status() == PLAYABLE; ) {
+          sut.moveStonesFrom(gameId, randomPlayablePit(moved, random));
+          moved = sut.copyOf(gameId);
+
+          assertThat(sut.zobristHash(gameId)).isEqualTo(Zobrist.hashOf(moved.board().pits(), moved.player()));
+        }
+      }
+    }
+
+    private int randomPlayablePit(Game game, Random random) {
+      final var firstPit = game.player() == ONE ? 0 : game.playerOneBase() + 1;
+      var pit = firstPit + random.nextInt(game.playerOneBase());
+      while (game.board().pits()[pit] == 0)
+        pit = pit + 1 == firstPit + game.playerOneBase() ? firstPit : pit + 1;
+      return pit;
+    }
+
+    @Test
+    void the_same_position_has_the_same_hash_however_it_was_reached() {
+      sut.initialize("first", new int[]{3, 3, 0, 1, 1, 0});
+      sut.initialize("second", new int[]{2, 4, 0, 1, 1, 0});
+
+      // both end up as {3, 0, 1, 2, 2, 0} with player TWO on turn, the second one wrapping around past player TWO's base
+      sut.moveStonesFrom("first", 1);
+      sut.moveStonesFrom("second", 1);
+
+      assertThat(sut.gameStatus("first")).isEqualTo(sut.gameStatus("second"));
+      assertThat(sut.zobristHash("first")).isEqualTo(sut.zobristHash("second"));
+      assertThat(sut.zobristHash("first")).isEqualTo(Zobrist.hashOf(new int[]{3, 0, 1, 2, 2, 0}, TWO));
+    }
+
+    @Test
+    void uninitialized_games_have_no_hash() {
+      assertThatThrownBy(() -> sut.zobristHash(GAME_ID))
+        .isInstanceOf(BoardInitializationException.class)
+        .hasMessage("The board has not been initialized yet.");
+    }
+  }
+
+  @Nested
+  class LegalMoves {
+    @Test
+    void the_moves_and_the_end_of_the_game_follow_the_stones_on_the_pits() {
+      final var random = new Random(11);
+      for (int game = 0; game < 300; game++) {
+        final var pits = 6 + 2 * random.nextInt(40);
+        final var initialBoard = new int[pits];
+        for (int pit = 0; pit < pits; pit++)
+          initialBoard[pit] = 1 + random.nextInt(10);
+        initialBoard[pits / 2 - 1] = 0;
+        initialBoard[pits - 1] = 0;
+        final var gameId = "game-" + game;
+        sut.initialize(gameId, initialBoard);
+
+        for (var moved = sut.copyOf(gameId); moved.status() == PLAYABLE; moved = sut.copyOf(gameId)) {
+          final var moves = sut.legalMoves(gameId);
+
+          assertThat(moves).containsExactly(pitsWithStones(moved));
+          sut.moveStonesFrom(gameId, moves[random.nextInt(moves.length)]);
+        }
+        final var done = sut.copyOf(gameId);
+        assertThat(sideIsEmpty(done, 0) || sideIsEmpty(done, done.playerOneBase() + 1)).isTrue();
+        assertThat(sut.legalMoves(gameId)).isEmpty();
+      }
+    }
+
+    private int[] pitsWithStones(Game game) {
+      final var firstPit = game.player() == ONE ? 0 : game.playerOneBase() + 1;
+      return IntStream.range(firstPit, firstPit + game.playerOneBase())
+        .filter(pit -> game.board().pits()[pit] > 0)
+        .toArray();
+    }
+
+    private boolean sideIsEmpty(Game game, int firstPit) {
+      return IntStream.range(firstPit, firstPit + game.playerOneBase()).allMatch(pit -> game.board().pits()[pit] == 0);
+    }
+
+    @Test
+    void cleared_games_have_no_moves() {
+      sut.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+      sut.clearGame(GAME_ID);
+
+      assertThatThrownBy(() -> sut.legalMoves(GAME_ID))
+        .isInstanceOf(BoardInitializationException.class)
+        .hasMessage("The board has not been initialized yet.");
+    }
+  }
+
+  @Nested
+  class OptimisticConcurrency {
+    @Test
+    void a_move_on_the_expected_version_is_made() {
+      sut.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+
+      sut.moveStonesFrom(GAME_ID, 0, 0);
+
+      assertThat(sut.renderedGameStatus(GAME_ID).version()).isEqualTo(1);
+    }
+
+    @Test
+    void a_move_on_an_older_version_changes_nothing() {
+      sut.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+      sut.moveStonesFrom(GAME_ID, 0, 0);
+
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 3, 0))
+        .isInstanceOf(GameVersionMismatchException.class)
+        .hasMessage("The game has moved on to version 1. Read its status and retry.")
+        .extracting(e -> ((GameVersionMismatchException) e).getCurrentVersion()).isEqualTo(1L);
+      assertThat(sut.gameStatus(GAME_ID)).contains("Player ONE: | 0 | 2 || 0 |", "Current Player: TWO");
+    }
+
+    @Test
+    void of_racing_moves_on_the_same_version_only_one_is_made() throws Exception {
+      sut.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+      final var start = new CountDownLatch(1);
+      final var executor = Executors.newFixedThreadPool(8);
+      try {
+        final var moves = IntStream.range(0, 8)
+          .mapToObj(t -> executor.submit(() -> {
+            start.await();
+            try {
+              sut.moveStonesFrom(GAME_ID, t % 2, 0);
+              return true;
+            } catch (GameVersionMismatchException e) {
+              return false;
+            }
+          }))
+          .toList();
+        start.countDown();
+
+        var made = 0;
+        for (var move : moves)
+          if (move.get()) made++;
+        assertThat(made).isOne();
+        assertThat(sut.renderedGameStatus(GAME_ID).version()).isEqualTo(1);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    void a_batch_on_an_older_version_makes_none_of_its_moves() {
+      sut.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+      sut.moveStonesFrom(GAME_ID, 0, 0);
+
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, new int[]{3, 1}, 0))
+        .isInstanceOf(GameVersionMismatchException.class)
+        .hasMessage("The game has moved on to version 1. Read its status and retry.");
+      assertThat(sut.renderedGameStatus(GAME_ID).version()).isEqualTo(1);
+      assertThat(sut.moveStonesFrom(GAME_ID, new int[]{3, 1}, 1).pits()).containsExactly(0, 0, 1, 1, 2, 0);
+    }
+
+    @Test
+    void a_game_initialized_again_never_takes_a_version_of_the_cleared_one() {
+      sut.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+      sut.moveStonesFrom(GAME_ID, 0, 0);
+      sut.moveStonesFrom(GAME_ID, 3, 1);
+      sut.clearGame(GAME_ID);
+      sut.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+
+      assertThat(sut.renderedGameStatus(GAME_ID).version()).isEqualTo(3);
+      assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 0, 0))
+        .isInstanceOf(GameVersionMismatchException.class)
+        .hasMessage("The game has moved on to version 3. Read its status and retry.");
+      sut.moveStonesFrom(GAME_ID, 0, 3);
+      assertThat(sut.renderedGameStatus(GAME_ID).version()).isEqualTo(4);
+    }
+
+    @Test
+    void readers_never_wait_for_a_move() throws Exception {
+      sut.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+      final var before = sut.renderedGameStatus(GAME_ID);
+      final var moving = new CountDownLatch(1);
+      final var release = new CountDownLatch(1);
+      sut.watch(GAME_ID, new GameWatcher() {
+        @Override
+        public void updated(GameUpdate update) {
+          if (update.version() == 0) return;
+          moving.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+
+        @Override
+        public void cleared() {
+        }
+      });
+      final var executor = Executors.newSingleThreadExecutor();
+      try {
+        // the watcher holds the move, and with it the game's lock, until released
+        final var move = executor.submit(() -> sut.moveStonesFrom(GAME_ID, 0));
+        assertThat(moving.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // the stones are sown before the watchers are told, so readers already see the move while it is held
+        assertThat(before.version()).isZero();
+        assertThat(sut.renderedGameStatus(GAME_ID).version()).isEqualTo(1);
+        assertThat(sut.legalMoves(GAME_ID)).containsExactly(3, 4);
+
+        release.countDown();
+        move.get();
+        assertThat(sut.renderedGameStatus(GAME_ID).version()).isEqualTo(1);
+      } finally {
+        release.countDown();
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  @Nested
+  class Eviction {
+    private static final int[] SMALL_BOARD = {1, 1, 0, 1, 1, 0};
+    private final Map<String, GameSnapshot> spilled = new ConcurrentHashMap<>();
+    private final EvictedGameStore store = new EvictedGameStore() {
+      @Override
+      public void save(GameSnapshot game) {
+        spilled.put(game.gameId(), game);
+      }
+
+      @Override
+      public GameSnapshot read(String gameId) {
+        return spilled.get(gameId);
+      }
+
+      @Override
+      public void delete(String gameId) {
+        spilled.remove(gameId);
+      }
+    };
+
+    @Test
+    void beyond_the_maximum_games_the_least_recently_used_one_is_evicted() throws InterruptedException {
+      final var gameManager = gameManager(new EvictionPolicy(Duration.ZERO, Duration.ZERO, 3, Long.MAX_VALUE), EvictedGameStore.NONE);
+      for (var gameId : List.of("first", "second", "third")) {
+        gameManager.initialize(gameId, SMALL_BOARD.clone());
+        Thread.sleep(5);
+      }
+      gameManager.gameStatus("first");
+      Thread.sleep(5);
+
+      gameManager.initialize("fourth", SMALL_BOARD.clone());
+
+      assertThat(gameManager.liveGames()).isEqualTo(3);
+      assertThatThrownBy(() -> gameManager.gameStatus("second")).isInstanceOf(BoardInitializationException.class);
+      assertThat(gameManager.gameStatus("first")).contains("Game: PLAYABLE");
+    }
+
+    @Test
+    void finished_games_are_evicted_before_the_ones_still_played() throws InterruptedException {
+      final var gameManager = gameManager(new EvictionPolicy(Duration.ZERO, Duration.ZERO, 2, Long.MAX_VALUE), EvictedGameStore.NONE);
+      gameManager.initialize("played", SMALL_BOARD.clone());
+      Thread.sleep(5);
+      gameManager.initialize("finished", SMALL_BOARD.clone());
+      gameManager.moveStonesFrom("finished", new int[]{1, 0});
+      assertThat(gameManager.state("finished").status()).isEqualTo(DONE);
+
+      gameManager.initialize("new", SMALL_BOARD.clone());
+
+      assertThat(gameManager.gameStatus("played")).contains("Game: PLAYABLE");
+      assertThatThrownBy(() -> gameManager.gameStatus("finished")).isInstanceOf(BoardInitializationException.class);
+    }
+
+    @Test
+    void the_estimated_bytes_of_the_games_stay_within_the_memory_budget() {
+      final var budget = 4 * new Game(new Board(SMALL_BOARD.clone())).estimatedBytes();
+      final var gameManager = gameManager(new EvictionPolicy(Duration.ZERO, Duration.ZERO, Integer.MAX_VALUE, budget), EvictedGameStore.NONE);
+
+      for (int game = 0; game < 100; game++) {
+        gameManager.initialize("game-" + game, SMALL_BOARD.clone());
+        assertThat(gameManager.estimatedBytes()).isLessThanOrEqualTo(budget);
+      }
+      assertThat(gameManager.liveGames()).isEqualTo(4);
+      assertThat(gameManager.gameStatus("game-99")).contains("Game: PLAYABLE");
+    }
+
+    @Test
+    void games_unused_for_longer_than_their_timeout_are_swept() throws InterruptedException {
+      final var gameManager = gameManager(new EvictionPolicy(Duration.ofHours(1), Duration.ofMillis(10), Integer.MAX_VALUE, Long.MAX_VALUE), EvictedGameStore.NONE);
+      gameManager.initialize("played", SMALL_BOARD.clone());
+      gameManager.initialize("finished", SMALL_BOARD.clone());
+      gameManager.moveStonesFrom("finished", new int[]{1, 0});
+      Thread.sleep(50);
+
+      assertThat(gameManager.evictIdleGames()).isEqualTo(1);
+      assertThat(gameManager.gameStatus("played")).contains("Game: PLAYABLE");
+      assertThatThrownBy(() -> gameManager.gameStatus("finished")).isInstanceOf(BoardInitializationException.class);
+    }
+
+    @Test
+    void zero_timeouts_never_sweep_anything() throws InterruptedException {
+      sut.initialize(GAME_ID, SMALL_BOARD.clone());
+      Thread.sleep(5);
+
+      assertThat(sut.evictIdleGames()).isZero();
+      assertThat(sut.liveGames()).isEqualTo(1);
+    }
+
+    @Test
+    void spilled_games_are_brought_back_as_they_were() throws InterruptedException {
+      final var gameManager = gameManager(new EvictionPolicy(Duration.ZERO, Duration.ZERO, 1, Long.MAX_VALUE), store);
+      gameManager.initialize("spilled", new int[]{1, 2, 0, 3, 4, 0});
+      gameManager.moveStonesFrom("spilled", 1);
+      Thread.sleep(5);
+
+      gameManager.initialize("other", SMALL_BOARD.clone());
+      assertThat(spilled).containsOnlyKeys("spilled");
+
+      final var board = gameManager.moveStonesFrom("spilled", 4, 1);
+
+      assertThat(board.pits()).containsExactly(2, 1, 1, 5, 0, 1);
+      assertThat(gameManager.state("spilled").player()).isEqualTo(ONE);
+      assertThat(gameManager.renderedGameStatus("spilled").version()).isEqualTo(2);
+      assertThat(spilled).containsOnlyKeys("other");
+    }
+
+    @Test
+    void a_spilled_game_looked_up_at_once_is_brought_back_for_every_lookup() throws Exception {
+      final var slowStore = new EvictedGameStore() {
+        @Override
+        public void save(GameSnapshot game) {
+          store.save(game);
+        }
+
+        @Override
+        public GameSnapshot read(String gameId) {
+          try {
+            Thread.sleep(20);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return store.read(gameId);
+        }
+
+        @Override
+        public void delete(String gameId) {
+          store.delete(gameId);
+        }
+      };
+      final var gameManager = gameManager(new EvictionPolicy(Duration.ZERO, Duration.ZERO, 1, Long.MAX_VALUE), slowStore);
+      gameManager.initialize("spilled", SMALL_BOARD.clone());
+      gameManager.initialize("other", SMALL_BOARD.clone());
+      gameManager.initialize("another", SMALL_BOARD.clone());
+      final var executor = Executors.newFixedThreadPool(8);
+      try {
+        final var statuses = executor.invokeAll(IntStream.range(0, 8)
+          .mapToObj(lookup -> (Callable<String>) () -> gameManager.gameStatus("spilled"))
+          .toList());
+
+        for (var status : statuses)
+          assertThat(status.get()).contains("Game: PLAYABLE");
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    void a_cleared_game_is_initialized_again_right_away() {
+      sut.initialize(GAME_ID, SMALL_BOARD.clone());
+      sut.moveStonesFrom(GAME_ID, 0);
+
+      sut.clearGame(GAME_ID);
+
+      assertThat(sut.initialize(GAME_ID, SMALL_BOARD.clone()).pits()).containsExactly(SMALL_BOARD);
+      assertThat(sut.renderedGameStatus(GAME_ID).version()).isEqualTo(2);
+    }
+
+    @Test
+    void a_spilled_game_is_still_initialized_and_clearing_it_deletes_it() {
+      final var gameManager = gameManager(new EvictionPolicy(Duration.ZERO, Duration.ZERO, 1, Long.MAX_VALUE), store);
+      gameManager.initialize("spilled", SMALL_BOARD.clone());
+      gameManager.initialize("other", SMALL_BOARD.clone());
+
+      gameManager.clearGame("spilled");
+
+      assertThat(spilled).isEmpty();
+      assertThatThrownBy(() -> gameManager.gameStatus("spilled")).isInstanceOf(BoardInitializationException.class);
+      assertThat(gameManager.initialize("spilled", new int[]{2, 2, 0, 2, 2, 0}).pits()).containsExactly(2, 2, 0, 2, 2, 0);
+    }
+
+    @Test
+    void watched_games_are_never_evicted() {
+      final var gameManager = gameManager(new EvictionPolicy(Duration.ZERO, Duration.ofNanos(1), 1, Long.MAX_VALUE), EvictedGameStore.NONE);
+      gameManager.initialize("watched", SMALL_BOARD.clone());
+      gameManager.moveStonesFrom("watched", new int[]{1, 0});
+      gameManager.watch("watched", new GameWatcher() {
+        @Override
+        public void updated(GameUpdate update) {
+        }
+
+        @Override
+        public void cleared() {
+        }
+      });
+
+      gameManager.initialize("other", SMALL_BOARD.clone());
+
+      assertThat(gameManager.evictIdleGames()).isZero();
+      assertThat(gameManager.gameStatus("watched")).contains("Game: DONE");
+    }
+
+    private GameManager gameManager(EvictionPolicy policy, EvictedGameStore evictedGames) {
+      return new GameManager(GameJournal.NONE, GameSnapshotStore.NONE, policy, evictedGames);
+    }
+  }
+
+  @Nested
+  class Metrics {
+    private final List<String> recorded = new ArrayList<>();
+    private final GameManager gameManager = new GameManager(GameJournal.NONE, GameSnapshotStore.NONE, EvictionPolicy.NONE,
+      EvictedGameStore.NONE, new GameMetrics() {
+      @Override
+      public void initialized(long nanos) {
+        assertThat(nanos).isPositive();
+        recorded.add("initialized");
+      }
+
+      @Override
+      public void moved(long nanos, int outcome) {
+        assertThat(nanos).isPositive();
+        recorded.add("moved " + outcome);
+      }
+
+      @Override
+      public void statusRendered(long nanos) {
+        assertThat(nanos).isPositive();
+        recorded.add("rendered");
+      }
+
+      @Override
+      public void rejected(RuleViolation violation) {
+        recorded.add("rejected " + violation);
+      }
+    });
+
+    @Test
+    void every_move_is_recorded_with_what_it_did() {
+      gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+      gameManager.initialize("other", new int[]{1, 1, 0, 2, 2, 0});
+
+      gameManager.moveStonesFrom("other", 0);
+      gameManager.moveStonesFrom(GAME_ID, 1);
+      gameManager.moveStonesFrom(GAME_ID, new int[]{0});
+
+      assertThat(recorded).containsExactly(
+        "initialized",
+        "initialized",
+        "moved 0",
+        "moved " + MoveOutcome.EXTRA_TURN,
+        "moved " + (MoveOutcome.CAPTURE | MoveOutcome.FINISHED)
+      );
+    }
+
+    @Test
+    void a_status_is_recorded_only_when_it_is_rendered() {
+      gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+
+      gameManager.gameStatus(GAME_ID);
+      gameManager.gameStatus(GAME_ID);
+      gameManager.moveStonesFrom(GAME_ID, 0);
+      gameManager.gameStatus(GAME_ID);
+
+      assertThat(recorded).containsExactly("initialized", "rendered", "moved 0", "rendered");
+    }
+
+    @Test
+    void rejected_requests_are_not_recorded_as_made() {
+      gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+
+      assertThatThrownBy(() -> gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0}))
+        .isInstanceOf(BoardInitializationException.class)
+        .extracting("violation").isEqualTo(RuleViolation.ALREADY_INITIALIZED);
+      assertThatThrownBy(() -> gameManager.moveStonesFrom(GAME_ID, 3))
+        .isInstanceOf(BoardMoveException.class)
+        .extracting("violation").isEqualTo(RuleViolation.OPPONENT_PIT);
+      assertThatThrownBy(() -> gameManager.moveStonesFrom(GAME_ID, new int[]{0, 1}))
+        .isInstanceOf(BoardBatchMoveException.class)
+        .extracting("violation").isEqualTo(RuleViolation.OPPONENT_PIT);
+
+      assertThat(recorded).containsExactly("initialized", "moved 0");
+    }
+  }
+
+  @Nested
+  class FlightRecorderEvents {
+    @TempDir
+    Path directory;
+
+    @Test
+    void every_operation_is_recorded_with_what_it_did() throws IOException {
+      final var events = recordedDuring(() -> {
+        sut.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+        sut.initialize("other", new int[]{1, 1, 0, 2, 2, 0});
+        sut.moveStonesFrom("other", 0);
+        sut.moveStonesFrom(GAME_ID, 1);
+        sut.gameStatus(GAME_ID);
+        sut.gameStatus(GAME_ID);
+        sut.moveStonesFrom(GAME_ID, new int[]{0});
+      });
+
+      assertThat(events)
+        .filteredOn(event -> event.getEventType().getName().equals("com.fun.mancala.GameInitialized"))
+        .extracting(event -> event.getString("gameId"), event -> event.getInt("pits"), event -> event.getInt("stones"))
+        .containsExactly(tuple(GAME_ID, 6, 6), tuple("other", 6, 6));
+      assertThat(events)
+        .filteredOn(event -> event.getEventType().getName().equals("com.fun.mancala.MoveApplied"))
+        .extracting(
+          event -> event.getString("gameId"),
+          event -> event.getInt("pit"),
+          event -> event.getInt("stonesSown"),
+          event -> event.getBoolean("capture"),
+          event -> event.getBoolean("turnPassed"),
+          event -> event.getLong("version")
+        )
+        .containsExactly(
+          tuple("other", 0, 1, false, true, 1L),
+          tuple(GAME_ID, 1, 1, false, false, 1L),
+          tuple(GAME_ID, 0, 1, true, false, 2L)
+        );
+      assertThat(events)
+        .filteredOn(event -> event.getEventType().getName().equals("com.fun.mancala.StatusRendered"))
+        .extracting(event -> event.getString("gameId"), event -> event.getLong("version"))
+        .containsExactly(tuple(GAME_ID, 1L));
+    }
+
+    @Test
+    void rejected_moves_are_not_recorded_as_applied() throws IOException {
+      sut.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+
+      final var events = recordedDuring(() -> {
+        assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 2)).isInstanceOf(BoardMoveException.class);
+        assertThatThrownBy(() -> sut.moveStonesFrom(GAME_ID, 14)).isInstanceOf(BoardMoveException.class);
+      });
+
+      assertThat(events).noneMatch(event -> event.getEventType().getName().equals("com.fun.mancala.MoveApplied"));
+    }
+
+    private List<RecordedEvent> recordedDuring(Runnable work) throws IOException {
+      try (var recording = new Recording()) {
+        recording.enable("com.fun.mancala.GameInitialized").withThreshold(Duration.ZERO);
+        recording.enable("com.fun.mancala.MoveApplied").withThreshold(Duration.ZERO);
+        recording.enable("com.fun.mancala.StatusRendered").withThreshold(Duration.ZERO);
+        recording.start();
+        work.run();
+        recording.stop();
+        final var file = directory.resolve("events.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+      }
+    }
+  }
 }
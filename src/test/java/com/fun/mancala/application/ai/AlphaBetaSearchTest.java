@@ -0,0 +1,94 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AlphaBetaSearchTest {
+  private static final Duration NO_LIMIT = Duration.ofMinutes(1);
+  private final AlphaBetaSearch sut = new AlphaBetaSearch(1 << 16);
+
+  @Test
+  void emptying_a_side_wins_the_game() {
+    // pit 1 sows its only stone into the base and leaves player ONE's side empty
+    final var state = GameState.of(new Board(new int[]{0, 1, 0, 2, 2, 0}), ONE, PLAYABLE);
+
+    final var result = sut.search(state, NO_LIMIT);
+
+    assertThat(result.pit()).isEqualTo(1);
+    assertThat(result.score()).isEqualTo(AlphaBetaSearch.WIN - 1);
+  }
+
+  @Test
+  void the_scores_are_the_same_as_a_full_minimax() {
+    final var random = new Random(7);
+    for (int position = 0; position < 200; position++) {
+      final var state = randomPosition(random);
+      final var depth = 1 + random.nextInt(6);
+      sut.clear();
+
+      final var result = sut.search(state, NO_LIMIT, depth);
+
+      assertThat(result.score()).as("%s at depth %d", state, depth).isEqualTo(minimax(state, depth, 0));
+      assertThat(minimax(state.move(result.pit()), depth - 1, 1) * (state.move(result.pit()).player() == state.player() ? 1 : -1))
+        .isEqualTo(result.score());
+    }
+  }
+
+  @Test
+  void the_search_stops_within_the_budget() {
+    final var state = GameState.of(new Board(new int[]{6, 6, 6, 6, 6, 6, 0, 6, 6, 6, 6, 6, 6, 0}), ONE, PLAYABLE);
+
+    final var result = sut.search(state, Duration.ofMillis(50));
+
+    assertThat(result.elapsed()).isLessThan(Duration.ofMillis(500));
+    assertThat(result.depth()).isPositive();
+    assertThat(state.isPlayable(result.pit())).isTrue();
+    assertThat(result.nodes()).isPositive();
+  }
+
+  @Test
+  void finished_games_are_not_searched() {
+    final var state = GameState.of(new Board(new int[]{0, 0, 3, 2, 2, 0}), ONE, DONE);
+
+    assertThatThrownBy(() -> sut.search(state, NO_LIMIT))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("A finished game has no moves to search.");
+  }
+
+  // the plain definition of the search: every move, to the given depth, without pruning nor table
+  private static int minimax(GameState state, int depth, int ply) {
+    if (state.status() == DONE) return AlphaBetaSearch.WIN - ply;
+    final var ownBase = state.player() == ONE ? state.playerOneBase() : state.playerTwoBase();
+    final var opponentBase = state.player() == ONE ? state.playerTwoBase() : state.playerOneBase();
+    if (depth == 0) return state.stones(ownBase) - state.stones(opponentBase);
+    var best = Integer.MIN_VALUE;
+    for (int pit = 0; pit < state.pits(); pit++) {
+      if (!state.isPlayable(pit)) continue;
+      final var child = state.move(pit);
+      final var score = minimax(child, depth - 1, ply + 1);
+      best = Math.max(best, child.player() == state.player() ? score : -score);
+    }
+    return best;
+  }
+
+  private static GameState randomPosition(Random random) {
+    final var pits = 6 + 2 * random.nextInt(5);
+    final var board = new int[pits];
+    for (int pit = 0; pit < pits; pit++)
+      board[pit] = pit == pits / 2 - 1 || pit == pits - 1 ? random.nextInt(8) : random.nextInt(5);
+    board[random.nextInt(pits / 2 - 1)] += 1;
+    board[pits / 2 + random.nextInt(pits / 2 - 1)] += 1;
+    return GameState.of(new Board(board), random.nextBoolean() ? ONE : TWO, PLAYABLE);
+  }
+}
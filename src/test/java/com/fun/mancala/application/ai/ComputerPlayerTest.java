@@ -0,0 +1,149 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.application.exceptions.GameVersionMismatchException;
+import com.fun.mancala.application.ports.EndgameTablebase;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ComputerPlayerTest {
+  private static final String GAME_ID = "game";
+  private static final Duration BUDGET = Duration.ofMillis(50);
+  private final GameManager gameManager = new GameManager();
+  private final ComputerPlayer sut = new ComputerPlayer(gameManager, EndgameTablebase.NONE, 1 << 12, 1 << 12, 2, 2);
+
+  @Test
+  void the_computer_plays_the_winning_move() {
+    gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+    gameManager.moveStonesFrom(GAME_ID, 1);
+
+    final var board = sut.play(GAME_ID, BUDGET);
+
+    assertThat(board.pits()).containsExactly(0, 0, 4, 2, 0, 0);
+    assertThat(gameManager.gameStatus(GAME_ID)).contains("Game: DONE");
+  }
+
+  @Test
+  void the_computer_plays_both_sides_until_the_game_ends() {
+    gameManager.initialize(GAME_ID, new int[]{4, 4, 4, 4, 4, 4, 0, 4, 4, 4, 4, 4, 4, 0});
+
+    for (int turn = 0; turn < 200 && !gameManager.gameStatus(GAME_ID).contains("DONE"); turn++)
+      sut.play(GAME_ID, Duration.ofMillis(5));
+
+    assertThat(gameManager.gameStatus(GAME_ID)).contains("Game: DONE");
+  }
+
+  @Test
+  void a_move_made_while_the_computer_thinks_is_a_conflict() {
+    gameManager.initialize(GAME_ID, new int[]{2, 2, 0, 2, 2, 0});
+    final var movedMeanwhile = new AtomicBoolean();
+    final EndgameTablebase movingWhileSearched = state -> {
+      if (movedMeanwhile.compareAndSet(false, true)) gameManager.moveStonesFrom(GAME_ID, 0);
+      return EndgameTablebase.UNKNOWN;
+    };
+    final var computerPlayer = new ComputerPlayer(gameManager, movingWhileSearched, 1 << 12, 1 << 12, 1, 2);
+
+    assertThatThrownBy(() -> computerPlayer.play(GAME_ID, BUDGET))
+      .isInstanceOf(GameVersionMismatchException.class)
+      .extracting("currentVersion").isEqualTo(1L);
+    assertThat(gameManager.renderedGameStatus(GAME_ID).version()).isEqualTo(1);
+  }
+
+  @Test
+  void a_turn_keeps_to_its_budget_while_another_turn_holds_every_helper() throws Exception {
+    // one search thread more than processors, so the helpers of a single turn take the whole pool
+    final var computerPlayer = new ComputerPlayer(gameManager, EndgameTablebase.NONE, 1 << 12, 1 << 12,
+      Runtime.getRuntime().availableProcessors() + 1, 2);
+    gameManager.initialize("long", new int[]{4, 4, 4, 4, 4, 4, 0, 4, 4, 4, 4, 4, 4, 0});
+    gameManager.initialize("short", new int[]{4, 4, 4, 4, 4, 4, 0, 4, 4, 4, 4, 4, 4, 0});
+    final var executor = Executors.newSingleThreadExecutor();
+    try {
+      final var longTurn = executor.submit(() -> computerPlayer.play("long", Duration.ofSeconds(2)));
+      Thread.sleep(100);
+
+      final var start = System.nanoTime();
+      computerPlayer.play("short", BUDGET);
+
+      assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+      longTurn.get();
+    } finally {
+      executor.shutdownNow();
+      computerPlayer.close();
+    }
+  }
+
+  @Test
+  void boards_too_large_to_pack_are_played_with_monte_carlo() {
+    final var bigBoard = new int[40];
+    Arrays.fill(bigBoard, 10);
+    bigBoard[19] = 0;
+    bigBoard[39] = 0;
+    gameManager.initialize(GAME_ID, bigBoard.clone());
+
+    final var board = sut.play(GAME_ID, BUDGET);
+
+    assertThat(board.pits()).isNotEqualTo(bigBoard);
+    assertThat(gameManager.gameStatus(GAME_ID)).contains("Game: PLAYABLE");
+  }
+
+  @Test
+  void large_games_are_played_until_they_end() {
+    // 16 pits of 10 stones, too many for a GameState
+    final var bigBoard = new int[16];
+    Arrays.fill(bigBoard, 10);
+    bigBoard[7] = 0;
+    bigBoard[15] = 0;
+    gameManager.initialize(GAME_ID, bigBoard);
+
+    for (int turn = 0; turn < 2_000 && !gameManager.gameStatus(GAME_ID).contains("DONE"); turn++)
+      sut.play(GAME_ID, Duration.ofMillis(2));
+
+    assertThat(gameManager.gameStatus(GAME_ID)).contains("Game: DONE");
+    assertThatThrownBy(() -> sut.play(GAME_ID, BUDGET))
+      .isInstanceOf(BoardMoveException.class)
+      .hasMessageStartingWith("Game has ended.");
+  }
+
+  @Test
+  void finished_games_are_not_played() {
+    gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+    gameManager.moveStonesFrom(GAME_ID, new int[]{1, 0});
+
+    assertThatThrownBy(() -> sut.play(GAME_ID, BUDGET))
+      .isInstanceOf(BoardMoveException.class)
+      .hasMessage("Game has ended. Player ONE won.");
+  }
+
+  @Test
+  void the_tablebase_tells_how_the_game_ends() {
+    final var solved = new ComputerPlayer(gameManager, TablebaseSolverTest.solved(6, 6), 1 << 12, 1 << 12, 1, 2);
+    gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+    gameManager.moveStonesFrom(GAME_ID, 1);
+
+    assertThat(solved.evaluate(GAME_ID)).isEqualTo(new Evaluation(true, ONE, 1, 0));
+  }
+
+  @Test
+  void positions_out_of_the_tablebase_are_not_solved() {
+    gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+
+    assertThat(sut.evaluate(GAME_ID)).isEqualTo(new Evaluation(false, null, null, null));
+  }
+
+  @Test
+  void finished_games_are_won_by_the_last_mover() {
+    gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+    gameManager.moveStonesFrom(GAME_ID, new int[]{1, 0});
+
+    assertThat(sut.evaluate(GAME_ID)).isEqualTo(new Evaluation(true, ONE, 0, null));
+  }
+}
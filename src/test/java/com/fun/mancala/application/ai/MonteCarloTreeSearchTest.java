@@ -0,0 +1,80 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.Game;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MonteCarloTreeSearchTest {
+  private static final Duration BUDGET = Duration.ofMillis(200);
+
+  @Test
+  void emptying_a_side_is_played_right_away() {
+    final var sut = new MonteCarloTreeSearch(1 << 12, 2);
+    // pit 0 captures the last stone of player TWO, pit 1 loses against perfect play
+    final var game = new Game(new Board(new int[]{2, 3, 0, 0, 0, 0, 1, 0}), ONE, PLAYABLE, 0);
+
+    final var result = sut.search(game, BUDGET);
+
+    assertThat(result.pit()).isZero();
+    assertThat(result.winRate()).isEqualTo(1.0);
+  }
+
+  @Test
+  void large_boards_are_searched_within_the_budget() {
+    final var sut = new MonteCarloTreeSearch(1 << 16, 4);
+    final var pits = new int[602];
+    Arrays.fill(pits, 10);
+    pits[300] = 0;
+    pits[601] = 0;
+    final var game = new Game(new Board(pits), TWO, PLAYABLE, 0);
+
+    final var result = sut.search(game, Duration.ofMillis(100));
+
+    assertThat(result.pit()).isBetween(301, 600);
+    assertThat(result.playouts()).isPositive();
+    assertThat(result.elapsed()).isLessThan(Duration.ofSeconds(2));
+    assertThat(pits[result.pit()]).isEqualTo(10);
+  }
+
+  @Test
+  void a_full_tree_keeps_playing_out() {
+    final var sut = new MonteCarloTreeSearch(8, 2);
+    final var game = new Game(new Board(new int[]{4, 4, 4, 4, 4, 4, 0, 4, 4, 4, 4, 4, 4, 0}), ONE, PLAYABLE, 0);
+
+    final var first = sut.search(game, Duration.ofMillis(50));
+    final var second = sut.search(game, Duration.ofMillis(50));
+
+    assertThat(first.pit()).isBetween(0, 5);
+    assertThat(second.playouts()).isGreaterThan(100);
+  }
+
+  @Test
+  void the_tree_should_fit_the_moves_of_the_board() {
+    final var sut = new MonteCarloTreeSearch(4, 1);
+    final var game = new Game(new Board(new int[]{4, 4, 4, 4, 4, 4, 0, 4, 4, 4, 4, 4, 4, 0}), ONE, PLAYABLE, 0);
+
+    assertThatThrownBy(() -> sut.search(game, BUDGET))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("A Monte-Carlo tree of 4 nodes has no room for the moves of this board.");
+  }
+
+  @Test
+  void finished_games_are_not_searched() {
+    final var sut = new MonteCarloTreeSearch(1 << 10, 1);
+    final var game = new Game(new Board(new int[]{0, 0, 3, 2, 2, 0}), ONE, DONE, 3);
+
+    assertThatThrownBy(() -> sut.search(game, BUDGET))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("A finished game has no moves to search.");
+  }
+}
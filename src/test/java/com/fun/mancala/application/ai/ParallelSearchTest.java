@@ -0,0 +1,114 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.GameState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelSearchTest {
+  private static final Duration NO_LIMIT = Duration.ofMinutes(1);
+  private static final GameState STANDARD_BOARD = GameState.of(new Board(new int[]{4, 4, 4, 4, 4, 4, 0, 4, 4, 4, 4, 4, 4, 0}), ONE, PLAYABLE);
+  private final ExecutorService helpers = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void stopHelpers() {
+    helpers.shutdownNow();
+  }
+
+  @Test
+  void a_single_thread_searches_like_the_alpha_beta_search() {
+    final var sut = new ParallelSearch(1, 1 << 16, helpers);
+
+    final var result = sut.search(STANDARD_BOARD, NO_LIMIT, 8);
+
+    final var expected = new AlphaBetaSearch(1 << 16).search(STANDARD_BOARD, NO_LIMIT, 8);
+    assertThat(result.pit()).isEqualTo(expected.pit());
+    assertThat(result.score()).isEqualTo(expected.score());
+    assertThat(result.nodes()).isEqualTo(expected.nodes());
+  }
+
+  @Test
+  void many_threads_find_the_winning_move() {
+    final var sut = new ParallelSearch(4, 1 << 16, helpers);
+    final var state = GameState.of(new Board(new int[]{0, 1, 0, 2, 2, 0}), ONE, PLAYABLE);
+
+    final var result = sut.search(state, NO_LIMIT);
+
+    assertThat(result.pit()).isEqualTo(1);
+    assertThat(result.score()).isEqualTo(AlphaBetaSearch.WIN - 1);
+  }
+
+  @Test
+  void the_nodes_of_every_thread_are_counted() {
+    final var sut = new ParallelSearch(4, 1 << 16, helpers);
+
+    final var result = sut.search(STANDARD_BOARD, Duration.ofMillis(100));
+
+    final var alone = new AlphaBetaSearch(1 << 16).search(STANDARD_BOARD, NO_LIMIT, result.depth());
+    assertThat(result.depth()).isPositive();
+    assertThat(result.nodes()).isGreaterThan(alone.nodes());
+    assertThat(STANDARD_BOARD.isPlayable(result.pit())).isTrue();
+  }
+
+  @Test
+  void the_helpers_stop_with_the_main_search() {
+    final var sut = new ParallelSearch(4, 1 << 16, helpers);
+
+    final var result = sut.search(STANDARD_BOARD, Duration.ofMillis(50));
+
+    assertThat(result.elapsed()).isLessThan(Duration.ofMillis(500));
+    // and so the same searches can run the next turn right away
+    assertThat(sut.search(STANDARD_BOARD.move(result.pit()), Duration.ofMillis(50)).elapsed()).isLessThan(Duration.ofMillis(500));
+  }
+
+  @Test
+  void helpers_queued_behind_a_busy_executor_do_not_hold_the_turn() {
+    final var busy = Executors.newSingleThreadExecutor();
+    try {
+      busy.submit(() -> sleep(300));
+      final var sut = new ParallelSearch(3, 1 << 16, busy);
+
+      final var result = sut.search(STANDARD_BOARD, Duration.ofMillis(50));
+
+      assertThat(result.depth()).isPositive();
+      assertThat(result.elapsed()).isLessThan(Duration.ofMillis(1_000));
+    } finally {
+      busy.shutdownNow();
+    }
+  }
+
+  @Test
+  void finished_games_are_not_searched() {
+    final var sut = new ParallelSearch(2, 1 << 16, helpers);
+    final var state = GameState.of(new Board(new int[]{0, 0, 3, 2, 2, 0}), ONE, DONE);
+
+    assertThatThrownBy(() -> sut.search(state, NO_LIMIT))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("A finished game has no moves to search.");
+  }
+
+  @Test
+  void at_least_one_thread_searches() {
+    assertThatThrownBy(() -> new ParallelSearch(0, 1 << 16, helpers))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("A parallel search needs at least one thread.");
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
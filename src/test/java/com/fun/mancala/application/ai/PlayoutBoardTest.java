@@ -0,0 +1,68 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.application.GameManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayoutBoardTest {
+  @Test
+  void random_games_follow_the_same_rules_as_the_game_manager() {
+    final var random = new Random(17);
+    for (int game = 0; game < 1_000; game++) {
+      final var pits = 6 + 2 * random.nextInt(30);
+      final var initialBoard = new int[pits];
+      for (int pit = 0; pit < pits; pit++)
+        initialBoard[pit] = 1 + random.nextInt(10);
+      initialBoard[pits / 2 - 1] = 0;
+      initialBoard[pits - 1] = 0;
+      final var gameManager = new GameManager();
+      final var gameId = "game-" + game;
+      final var sut = new PlayoutBoard(pits);
+      sut.reset(initialBoard, ONE);
+      gameManager.initialize(gameId, initialBoard);
+
+      while (!sut.isDone()) {
+        var pit = sut.firstPit() + random.nextInt(sut.ownBase() - sut.firstPit());
+        while (sut.stones(pit) == 0)
+          pit = pit + 1 < sut.ownBase() ? pit + 1 : sut.firstPit();
+        sut.move(pit);
+        final var board = gameManager.moveStonesFrom(gameId, pit).pits();
+
+        for (int each = 0; each < pits; each++)
+          assertThat(sut.stones(each)).isEqualTo(board[each]);
+        assertThat(gameManager.gameStatus(gameId)).contains("Player: " + sut.player());
+      }
+      assertThat(gameManager.gameStatus(gameId)).contains("Game: DONE");
+    }
+  }
+
+  @Test
+  void a_playout_ends_the_game_and_tells_the_winner() {
+    final var sut = new PlayoutBoard(14);
+    sut.reset(new int[]{4, 4, 4, 4, 4, 4, 0, 4, 4, 4, 4, 4, 4, 0}, ONE);
+
+    final var winner = sut.playOut();
+
+    assertThat(sut.isDone()).isTrue();
+    assertThat(winner).isEqualTo(sut.player());
+  }
+
+  @Test
+  void a_reset_starts_over() {
+    final var sut = new PlayoutBoard(6);
+    final var board = new int[]{1, 1, 0, 2, 2, 0};
+    sut.reset(board, ONE);
+    sut.playOut();
+
+    sut.reset(board, ONE);
+
+    assertThat(sut.isDone()).isFalse();
+    assertThat(sut.player()).isEqualTo(ONE);
+    assertThat(sut.stones(0)).isEqualTo(1);
+    assertThat(board).containsExactly(1, 1, 0, 2, 2, 0);
+  }
+}
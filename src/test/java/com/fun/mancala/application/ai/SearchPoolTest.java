@@ -0,0 +1,60 @@
+package com.fun.mancala.application.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchPoolTest {
+  @Test
+  void searches_are_created_only_up_to_the_maximum_and_reused() {
+    final var sut = new SearchPool<>(2, Object::new);
+
+    final var first = sut.acquire();
+    final var second = sut.acquire();
+    sut.release(first);
+
+    assertThat(sut.acquire()).isSameAs(first);
+    assertThat(second).isNotSameAs(first);
+    assertThat(sut.created()).isEqualTo(2);
+  }
+
+  @Test
+  void a_turn_finding_every_search_busy_waits_for_one_to_be_released() throws Exception {
+    final var sut = new SearchPool<>(1, Object::new);
+    final var busy = sut.acquire();
+
+    final var waiting = CompletableFuture.supplyAsync(sut::acquire);
+    Thread.sleep(20);
+    assertThat(waiting).isNotDone();
+    sut.release(busy);
+
+    assertThat(waiting.get(1, TimeUnit.SECONDS)).isSameAs(busy);
+    assertThat(sut.created()).isEqualTo(1);
+  }
+
+  @Test
+  void a_search_that_fails_to_be_created_leaves_room_for_another() {
+    final var attempts = new AtomicInteger();
+    final var sut = new SearchPool<>(1, () -> {
+      if (attempts.incrementAndGet() == 1) throw new OutOfMemoryError("no room for the table");
+      return new Object();
+    });
+
+    assertThatThrownBy(sut::acquire).isInstanceOf(OutOfMemoryError.class);
+
+    assertThat(sut.acquire()).isNotNull();
+    assertThat(sut.created()).isEqualTo(1);
+  }
+
+  @Test
+  void at_least_one_search_is_pooled() {
+    assertThatThrownBy(() -> new SearchPool<>(0, Object::new))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("At least one search should be pooled.");
+  }
+}
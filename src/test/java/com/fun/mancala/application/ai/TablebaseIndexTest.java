@@ -0,0 +1,75 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TablebaseIndexTest {
+  @Test
+  void every_position_gets_its_own_rank_in_a_dense_range() {
+    final var sut = new TablebaseIndex(8, 5);
+    final Set<Long> ranks = new HashSet<>();
+
+    spread(sut, new int[8], 0, 5, ranks);
+
+    assertThat(sut.size()).isEqualTo(2 * 462);
+    assertThat(ranks).hasSize((int) sut.size());
+    assertThat(ranks).allMatch(rank -> rank >= 0 && rank < sut.size());
+  }
+
+  @Test
+  void the_bases_do_not_change_the_rank() {
+    final var sut = new TablebaseIndex(6, 4);
+
+    final var empty = sut.indexOf(GameState.of(new Board(new int[]{1, 2, 0, 1, 0, 0}), ONE, PLAYABLE));
+    final var full = sut.indexOf(GameState.of(new Board(new int[]{1, 2, 9, 1, 0, 7}), ONE, PLAYABLE));
+
+    assertThat(full).isEqualTo(empty);
+  }
+
+  @Test
+  void positions_out_of_the_table_have_no_rank() {
+    final var sut = new TablebaseIndex(6, 4);
+
+    assertThat(sut.indexOf(GameState.of(new Board(new int[]{3, 2, 0, 1, 0, 0}), ONE, PLAYABLE))).isEqualTo(-1);
+    assertThat(sut.indexOf(GameState.of(new Board(new int[]{1, 1, 0, 1, 1, 0, 0, 0}), ONE, PLAYABLE))).isEqualTo(-1);
+    assertThat(sut.indexOf(GameState.of(new Board(new int[]{0, 0, 3, 1, 0, 0}), ONE, DONE))).isEqualTo(-1);
+  }
+
+  @Test
+  void only_boards_a_game_state_packs_are_indexed() {
+    assertThatThrownBy(() -> new TablebaseIndex(16, 4))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("A tablebase covers boards of an even amount of 6 to 14 pits.");
+    assertThatThrownBy(() -> new TablebaseIndex(6, 0))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("A tablebase covers 1 to 255 stones in play.");
+  }
+
+  private static void spread(TablebaseIndex index, int[] board, int pit, int stones, Set<Long> ranks) {
+    if (pit == board.length - 1) {
+      ranks.add(index.indexOf(GameState.of(new Board(board), ONE, PLAYABLE)));
+      ranks.add(index.indexOf(GameState.of(new Board(board), TWO, PLAYABLE)));
+      return;
+    }
+    if (pit == board.length / 2 - 1) {
+      spread(index, board, pit + 1, stones, ranks);
+      return;
+    }
+    for (int onPit = 0; onPit <= stones; onPit++) {
+      board[pit] = onPit;
+      spread(index, board, pit + 1, stones - onPit, ranks);
+    }
+    board[pit] = 0;
+  }
+}
@@ -0,0 +1,105 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.application.ports.EndgameTablebase;
+import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Random;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TablebaseSolverTest {
+  @Test
+  void emptying_a_side_wins_in_one_move() {
+    final var tablebase = solved(6, 5);
+
+    final var value = tablebase.probe(GameState.of(new Board(new int[]{0, 1, 0, 2, 2, 0}), ONE, PLAYABLE));
+
+    assertThat(value).isEqualTo(1);
+  }
+
+  @Test
+  void the_values_are_those_of_playing_every_game_to_its_end() {
+    final var tablebase = solved(8, 6);
+    final var random = new Random(11);
+    for (int position = 0; position < 500; position++) {
+      final var state = randomPosition(random, 8, 6);
+
+      assertThat(tablebase.probe(state)).as("%s", state).isEqualTo(perfectPlay(state));
+    }
+  }
+
+  @Test
+  void the_search_reads_the_same_values_from_the_tablebase() {
+    final var tablebase = solved(8, 6);
+    final var search = new AlphaBetaSearch(1 << 12, tablebase);
+    final var random = new Random(5);
+    for (int position = 0; position < 100; position++) {
+      final var state = randomPosition(random, 8, 6);
+      final var value = tablebase.probe(state);
+
+      final var result = search.search(state, Duration.ofMinutes(1), 1);
+
+      assertThat(result.score()).as("%s", state).isEqualTo(value > 0 ? AlphaBetaSearch.WIN - value : -AlphaBetaSearch.WIN - value);
+    }
+  }
+
+  @Test
+  void the_values_should_fit() {
+    final var index = new TablebaseIndex(6, 4);
+
+    assertThatThrownBy(() -> new TablebaseSolver(index).solve(ByteBuffer.allocate(10)))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("The tablebase needs 140 bytes of values.");
+  }
+
+  // solved in memory, read the same way the mapped file is
+  static EndgameTablebase solved(int pits, int maximumStones) {
+    final var index = new TablebaseIndex(pits, maximumStones);
+    final var values = ByteBuffer.allocate((int) index.size());
+    new TablebaseSolver(index).solve(values);
+    return state -> {
+      final var position = index.indexOf(state);
+      return position < 0 ? EndgameTablebase.UNKNOWN : values.get((int) position);
+    };
+  }
+
+  // the plain definition: every move to the end of the game, wins as soon as possible and losses as late as possible
+  private static int perfectPlay(GameState state) {
+    var best = EndgameTablebase.UNKNOWN;
+    for (int pit = 0; pit < state.pits(); pit++) {
+      if (!state.isPlayable(pit)) continue;
+      final var child = state.move(pit);
+      final int value;
+      if (child.status() == DONE) value = 1;
+      else {
+        final var childValue = child.player() == state.player() ? perfectPlay(child) : -perfectPlay(child);
+        value = childValue > 0 ? childValue + 1 : childValue - 1;
+      }
+      if (best == EndgameTablebase.UNKNOWN || (value > 0 && (best < 0 || value < best)) || (value < 0 && best < 0 && value < best))
+        best = value;
+    }
+    return best;
+  }
+
+  private static GameState randomPosition(Random random, int pits, int maximumStones) {
+    final var board = new int[pits];
+    board[random.nextInt(pits / 2 - 1)]++;
+    board[pits / 2 + random.nextInt(pits / 2 - 1)]++;
+    for (int stone = 2; stone < 2 + random.nextInt(maximumStones - 1); stone++) {
+      final var pit = random.nextInt(pits - 1);
+      board[pit == pits / 2 - 1 ? 0 : pit]++;
+    }
+    board[pits / 2 - 1] = random.nextInt(20);
+    board[pits - 1] = random.nextInt(20);
+    return GameState.of(new Board(board), random.nextBoolean() ? ONE : TWO, PLAYABLE);
+  }
+}
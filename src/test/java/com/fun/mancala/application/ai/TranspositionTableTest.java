@@ -0,0 +1,69 @@
+package com.fun.mancala.application.ai;
+
+import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.fun.mancala.application.ai.TranspositionTable.EXACT;
+import static com.fun.mancala.application.ai.TranspositionTable.LOWER_BOUND;
+import static com.fun.mancala.application.ai.TranspositionTable.MISS;
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranspositionTableTest {
+  private static final GameState FIRST = GameState.of(new Board(new int[]{1, 2, 0, 3, 4, 0}), ONE, PLAYABLE);
+  private static final GameState SECOND = GameState.of(new Board(new int[]{4, 3, 0, 2, 1, 0}), ONE, PLAYABLE);
+
+  @Test
+  void a_stored_result_is_read_back() {
+    final var sut = new TranspositionTable(16);
+
+    sut.store(FIRST, -42, 7, LOWER_BOUND, 1);
+
+    final var result = sut.probe(FIRST);
+    assertThat(TranspositionTable.score(result)).isEqualTo(-42);
+    assertThat(TranspositionTable.depth(result)).isEqualTo(7);
+    assertThat(TranspositionTable.bound(result)).isEqualTo(LOWER_BOUND);
+    assertThat(TranspositionTable.bestPit(result)).isEqualTo(1);
+  }
+
+  @Test
+  void other_and_cleared_positions_miss() {
+    final var sut = new TranspositionTable(1);
+    sut.store(FIRST, 1, 1, EXACT, 0);
+
+    assertThat(sut.probe(SECOND)).isEqualTo(MISS);
+    sut.clear();
+    assertThat(sut.probe(FIRST)).isEqualTo(MISS);
+  }
+
+  @Test
+  void entries_torn_by_concurrent_writers_read_as_misses() throws InterruptedException {
+    // a single slot, so both writers keep overwriting the same entry while it is read
+    final var sut = new TranspositionTable(1);
+    final var done = new AtomicBoolean();
+    final var first = writer(sut, FIRST, 1, done);
+    final var second = writer(sut, SECOND, 2, done);
+    first.start();
+    second.start();
+
+    for (int probe = 0; probe < 1_000_000; probe++) {
+      final var result = sut.probe(FIRST);
+      if (result != MISS) assertThat(TranspositionTable.score(result)).isEqualTo(1);
+    }
+    done.set(true);
+    first.join();
+    second.join();
+  }
+
+  private static Thread writer(TranspositionTable table, GameState state, int score, AtomicBoolean done) {
+    return new Thread(() -> {
+      while (!done.get())
+        for (int depth = 0; depth < 100; depth++)
+          table.store(state, score, depth, EXACT, score);
+    });
+  }
+}
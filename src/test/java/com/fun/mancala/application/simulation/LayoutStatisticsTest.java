@@ -0,0 +1,72 @@
+package com.fun.mancala.application.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LayoutStatisticsTest {
+  @Test
+  void rates_are_per_move_and_per_game() {
+    final var sut = new LayoutStatistics();
+
+    sut.add(10, 2, 1, ONE);
+    sut.add(30, 4, 3, TWO);
+
+    assertThat(sut.games()).isEqualTo(2);
+    assertThat(sut.moves()).isEqualTo(40);
+    assertThat(sut.meanLength()).isEqualTo(20.0);
+    assertThat(sut.capturesPerMove()).isEqualTo(0.15);
+    assertThat(sut.extraTurnsPerMove()).isEqualTo(0.1);
+    assertThat(sut.firstPlayerWinRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  void percentiles_come_from_the_lengths_of_the_games() {
+    final var sut = new LayoutStatistics();
+    for (int length = 1; length <= 100; length++)
+      sut.add(length, 0, 0, ONE);
+
+    assertThat(sut.lengthPercentile(50)).isEqualTo(50);
+    assertThat(sut.lengthPercentile(99)).isEqualTo(99);
+    assertThat(sut.lengthPercentile(100)).isEqualTo(100);
+    assertThat(sut.longestGame()).isEqualTo(100);
+  }
+
+  @Test
+  void games_longer_than_the_histogram_keep_their_length_as_the_longest() {
+    final var sut = new LayoutStatistics();
+
+    sut.add(LayoutStatistics.MAXIMUM_RECORDED_LENGTH + 5, 0, 0, TWO);
+
+    assertThat(sut.lengthPercentile(50)).isEqualTo(LayoutStatistics.MAXIMUM_RECORDED_LENGTH);
+    assertThat(sut.longestGame()).isEqualTo(LayoutStatistics.MAXIMUM_RECORDED_LENGTH + 5);
+  }
+
+  @Test
+  void combined_statistics_add_up() {
+    final var first = new LayoutStatistics();
+    final var second = new LayoutStatistics();
+    first.add(10, 1, 0, ONE);
+    second.add(20, 3, 2, TWO);
+    second.add(30, 0, 0, ONE);
+
+    first.combine(second);
+
+    assertThat(first.games()).isEqualTo(3);
+    assertThat(first.moves()).isEqualTo(60);
+    assertThat(first.lengthPercentile(50)).isEqualTo(20);
+    assertThat(first.longestGame()).isEqualTo(30);
+    assertThat(first.firstPlayerWinRate()).isEqualTo(2.0 / 3);
+  }
+
+  @Test
+  void empty_statistics_have_no_rates() {
+    final var sut = new LayoutStatistics();
+
+    assertThat(sut.meanLength()).isZero();
+    assertThat(sut.capturesPerMove()).isZero();
+    assertThat(sut.lengthPercentile(50)).isZero();
+  }
+}
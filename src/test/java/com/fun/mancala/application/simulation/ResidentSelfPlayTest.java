@@ -0,0 +1,31 @@
+package com.fun.mancala.application.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResidentSelfPlayTest {
+  private final ResidentSelfPlay sut = new ResidentSelfPlay();
+
+  @Test
+  void all_the_games_are_played_until_they_end() {
+    final var result = sut.play(new BoardLayout(14, 4), 50_000);
+
+    assertThat(result.layout()).hasToString("14x4");
+    assertThat(result.games()).isEqualTo(50_000);
+    // a 14x4 game takes about forty moves, and never less than a few
+    assertThat(result.moves()).isBetween(50_000L * 10, 50_000L * 100);
+    assertThat(result.offHeapBytes()).isEqualTo((1 << 20) * 40L);
+    assertThat(result.movesPerSecond()).isPositive();
+    assertThat(result.collections()).isNotNegative();
+  }
+
+  @Test
+  void only_the_layouts_a_game_state_packs_are_played() {
+    assertThat(ResidentSelfPlay.fits(new BoardLayout(14, 6))).isTrue();
+    assertThatThrownBy(() -> sut.play(new BoardLayout(20, 6), 10))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Only boards of up to 14 pits and 255 stones are played resident, not 20x6.");
+  }
+}
@@ -0,0 +1,62 @@
+package com.fun.mancala.application.simulation;
+
+import com.fun.mancala.application.GameManager;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SelfPlayTest {
+  private final GameManager gameManager = new GameManager();
+
+  @Test
+  void random_games_are_played_until_they_end() {
+    final var sut = new SelfPlay(gameManager, 0);
+
+    final var result = sut.play(new BoardLayout(14, 4), 2_000);
+
+    final var statistics = result.statistics();
+    assertThat(result.layout()).hasToString("14x4");
+    assertThat(statistics.games()).isEqualTo(2_000);
+    assertThat(statistics.moves()).isEqualTo(Math.round(statistics.meanLength() * 2_000));
+    // the fastest game of a 14x4 board still needs a few moves to empty a side
+    assertThat(statistics.lengthPercentile(0)).isGreaterThan(5);
+    assertThat(statistics.lengthPercentile(50)).isBetween(statistics.lengthPercentile(0), statistics.longestGame());
+    assertThat(statistics.capturesPerMove()).isBetween(0.01, 0.5);
+    assertThat(statistics.extraTurnsPerMove()).isBetween(0.01, 0.5);
+    assertThat(statistics.firstPlayerWinRate()).isBetween(0.2, 0.8);
+    assertThat(result.gamesPerSecond()).isPositive();
+    assertThat(result.movesPerSecond()).isGreaterThan(result.gamesPerSecond());
+  }
+
+  @Test
+  void finished_games_are_cleared() {
+    final var sut = new SelfPlay(gameManager, 0);
+
+    sut.play(new BoardLayout(6, 3), 100);
+    final var again = sut.play(new BoardLayout(6, 3), 100);
+
+    assertThat(again.statistics().games()).isEqualTo(100);
+    assertThatThrownBy(() -> gameManager.gameStatus("self-play-6x3-0"))
+      .hasMessage("The board has not been initialized yet.");
+  }
+
+  @Test
+  void searched_games_are_played_until_they_end() {
+    final var sut = new SelfPlay(gameManager, 3);
+
+    final var result = sut.play(new BoardLayout(6, 3), 50);
+
+    assertThat(result.statistics().games()).isEqualTo(50);
+    assertThat(result.statistics().lengthPercentile(0)).isGreaterThanOrEqualTo(SelfPlay.RANDOM_OPENING_MOVES);
+  }
+
+  @Test
+  void layouts_are_parsed_from_pits_and_stones() {
+    assertThat(BoardLayout.parse("14x6")).isEqualTo(new BoardLayout(14, 6));
+    assertThat(BoardLayout.parse("6x4").initialBoard()).containsExactly(4, 4, 0, 4, 4, 0);
+    assertThatThrownBy(() -> BoardLayout.parse("14 by 6"))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("A board layout is written as pits x stones per pit, e.g. 14x4, not 14 by 6.");
+  }
+}
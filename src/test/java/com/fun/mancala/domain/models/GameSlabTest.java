@@ -0,0 +1,86 @@
+package com.fun.mancala.domain.models;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameSlabTest {
+  @Nested
+  class Records {
+    @Test
+    void a_game_is_kept_as_it_was_written() {
+      final var slab = new GameSlab(14, 4);
+      final var record = slab.allocate(new int[]{6, 6, 6, 6, 6, 6, 0, 6, 6, 6, 6, 6, 6, 0});
+
+      slab.write(record, new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 300}, TWO, DONE, 1L << 40);
+
+      final var game = slab.view().at(record);
+      assertThat(game.toBoard().pits()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 300);
+      assertThat(game.player()).isEqualTo(TWO);
+      assertThat(game.status()).isEqualTo(DONE);
+      assertThat(game.version()).isEqualTo(1L << 40);
+    }
+
+    @Test
+    void records_are_padded_to_whole_words() {
+      assertThat(new GameSlab(6, 4).recordSize()).isEqualTo(24);
+      assertThat(new GameSlab(14, 4).recordSize()).isEqualTo(40);
+    }
+
+    @Test
+    void slabs_are_added_as_records_are_allocated() {
+      final var slab = new GameSlab(6, 3);
+      for (int game = 0; game < 9; game++)
+        assertThat(slab.allocate(new int[]{game + 1, 1, 0, 1, 1, 0})).isEqualTo(game);
+
+      assertThat(slab.size()).isEqualTo(9);
+      assertThat(slab.offHeapBytes()).isEqualTo(3 * 4 * 24);
+      final var game = slab.view();
+      for (int record = 0; record < 9; record++)
+        assertThat(game.at(record).stones(0)).isEqualTo(record + 1);
+    }
+
+    @Test
+    void freed_records_are_reused_last_freed_first() {
+      final var slab = new GameSlab(6, 4);
+      for (int game = 0; game < 4; game++)
+        slab.allocate(new int[]{1, 1, 0, 1, 1, 0});
+
+      slab.free(1);
+      slab.free(3);
+
+      assertThat(slab.isInUse(1)).isFalse();
+      assertThat(slab.size()).isEqualTo(2);
+      assertThat(slab.allocate(new int[]{2, 2, 0, 2, 2, 0})).isEqualTo(3);
+      assertThat(slab.allocate(new int[]{2, 2, 0, 2, 2, 0})).isEqualTo(1);
+      assertThat(slab.allocate(new int[]{2, 2, 0, 2, 2, 0})).isEqualTo(4);
+      assertThat(slab.view().at(1).version()).isZero();
+      assertThat(slab.offHeapBytes()).isEqualTo(2 * 4 * 24);
+    }
+
+    @Test
+    void records_without_a_game_and_boards_that_do_not_fit_are_rejected() {
+      final var slab = new GameSlab(6, 4);
+      final var record = slab.allocate(new int[]{1, 1, 0, 1, 1, 0});
+      slab.free(record);
+
+      assertThatThrownBy(() -> slab.view().at(record))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Record 0 does not keep a game.");
+      assertThatThrownBy(() -> slab.free(record))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Record 0 does not keep a game.");
+      assertThatThrownBy(() -> slab.allocate(new int[]{1, 1, 1, 0, 1, 1, 1, 0}))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("This slab keeps boards of 6 pits, not 8.");
+      assertThatThrownBy(() -> slab.allocate(new int[]{40_000, 40_000, 0, 1, 1, 0}))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Only boards of up to 65535 stones can be kept.");
+      assertThat(slab.size()).isZero();
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.fun.mancala.domain.models;
+
+import com.fun.mancala.application.GameManager;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameStateTest {
+  @Nested
+  class Encoding {
+    @Test
+    void board_player_and_status_survive_a_round_trip() {
+      final var board = new Board(new int[]{6, 6, 6, 6, 6, 6, 0, 6, 6, 6, 6, 6, 6, 0});
+
+      final var state = GameState.of(board, TWO, DONE);
+
+      assertThat(state.toBoard()).isEqualTo(board);
+      assertThat(state.pits()).isEqualTo(14);
+      assertThat(state.player()).isEqualTo(TWO);
+      assertThat(state.status()).isEqualTo(DONE);
+    }
+
+    @Test
+    void a_game_is_packed_with_its_player_and_status() {
+      final var game = new Game(new Board(new int[]{1, 1, 0, 1, 1, 0}));
+      game.setPlayer(TWO);
+
+      final var state = GameState.of(game);
+
+      assertThat(state.toBoard()).isEqualTo(game.board());
+      assertThat(state.player()).isEqualTo(TWO);
+      assertThat(state.status()).isEqualTo(PLAYABLE);
+    }
+
+    @Test
+    void equal_positions_are_equal_states() {
+      final var first = GameState.of(new Board(new int[]{2, 2, 0, 2, 2, 0}), ONE, PLAYABLE);
+      final var second = GameState.of(new Board(new int[]{2, 2, 0, 2, 2, 0}), ONE, PLAYABLE);
+      final var otherPlayer = GameState.of(new Board(new int[]{2, 2, 0, 2, 2, 0}), TWO, PLAYABLE);
+
+      assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+      assertThat(first).isNotEqualTo(otherPlayer);
+    }
+
+    @Test
+    void boards_that_do_not_fit_are_rejected() {
+      assertThatThrownBy(() -> GameState.of(new Board(new int[16]), ONE, PLAYABLE))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Only boards of up to 14 pits can be packed.");
+      assertThatThrownBy(() -> GameState.of(new Board(new int[]{200, 100, 0, 1, 1, 0}), ONE, PLAYABLE))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Only boards of up to 255 stones can be packed.");
+      assertThatThrownBy(() -> GameState.of(new Board(new int[]{-1, 1, 0, 1, 1, 0}), ONE, PLAYABLE))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("There are negative amount of stones on pit 0.");
+    }
+  }
+
+  @Nested
+  class Moves {
+    @Test
+    void sowing_skips_the_opponents_base_and_rotates() {
+      final var state = GameState.of(new Board(new int[]{2, 4, 0, 2, 2, 0}), ONE, PLAYABLE);
+
+      final var moved = state.move(1);
+
+      assertThat(moved.toBoard().pits()).containsExactly(3, 0, 1, 3, 3, 0);
+      assertThat(moved.player()).isEqualTo(TWO);
+    }
+
+    @Test
+    void landing_on_own_base_repeats_turn() {
+      final var state = GameState.of(new Board(new int[]{2, 2, 0, 2, 2, 0}), ONE, PLAYABLE);
+
+      final var moved = state.move(0);
+
+      assertThat(moved.toBoard().pits()).containsExactly(0, 3, 1, 2, 2, 0);
+      assertThat(moved.player()).isEqualTo(ONE);
+    }
+
+    @Test
+    void landing_on_own_empty_pit_captures_opponents_stones() {
+      final var state = GameState.of(new Board(new int[]{2, 5, 0, 2, 2, 0}), ONE, PLAYABLE);
+
+      final var moved = state.move(1);
+
+      assertThat(moved.toBoard().pits()).containsExactly(3, 0, 5, 3, 0, 0);
+    }
+
+    @Test
+    void emptying_a_side_ends_the_game() {
+      final var state = GameState.of(new Board(new int[]{0, 1, 2, 1, 1, 0}), ONE, PLAYABLE);
+
+      final var moved = state.move(1);
+
+      assertThat(moved.status()).isEqualTo(DONE);
+      assertThat(moved.player()).isEqualTo(ONE);
+      assertThat(moved.isPlayable(3)).isFalse();
+    }
+
+    @Test
+    void unplayable_pits_are_rejected() {
+      final var state = GameState.of(new Board(new int[]{0, 1, 0, 1, 1, 0}), ONE, PLAYABLE);
+
+      assertThat(state.isPlayable(0)).isFalse();
+      assertThat(state.isPlayable(2)).isFalse();
+      assertThat(state.isPlayable(3)).isFalse();
+      assertThatThrownBy(() -> state.move(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Pit 0 cannot be played.");
+    }
+
+    @Test
+    void random_games_follow_the_same_rules_as_the_game_manager() {
+      final var random = new Random(42);
+      for (int game = 0; game < 2_000; game++) {
+        final var pits = 6 + 2 * random.nextInt(5);
+        final var initialBoard = new int[pits];
+        for (int pit = 0; pit < pits; pit++)
+          initialBoard[pit] = 1 + random.nextInt(10);
+        initialBoard[pits / 2 - 1] = 0;
+        initialBoard[pits - 1] = 0;
+        final var gameManager = new GameManager();
+        final var gameId = "game-" + game;
+        var state = GameState.of(new Board(initialBoard.clone()), ONE, PLAYABLE);
+        gameManager.initialize(gameId, initialBoard);
+
+        while (state.status() == PLAYABLE) {
+          final var pit = randomPlayablePit(state, random);
+          state = state.move(pit);
+          final var board = gameManager.moveStonesFrom(gameId, pit);
+
+          assertThat(state.toBoard()).isEqualTo(board);
+          assertThat(gameManager.gameStatus(gameId))
+            .contains("Player: " + state.player(), "Game: " + state.status());
+        }
+      }
+    }
+
+    private int randomPlayablePit(GameState state, Random random) {
+      var pit = random.nextInt(state.pits());
+      while (!state.isPlayable(pit))
+        pit = (pit + 1) % state.pits();
+      return pit;
+    }
+  }
+}
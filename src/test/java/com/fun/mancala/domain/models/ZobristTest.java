@@ -0,0 +1,43 @@
+package com.fun.mancala.domain.models;
+
+import org.junit.jupiter.api.Test;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZobristTest {
+  @Test
+  void empty_pits_have_no_key() {
+    assertThat(Zobrist.key(3, 0)).isZero();
+    assertThat(Zobrist.hashOf(new int[6], ONE)).isZero();
+    assertThat(Zobrist.hashOf(new int[6], TWO)).isEqualTo(Zobrist.PLAYER_TWO);
+  }
+
+  @Test
+  void keys_tell_pits_and_stones_apart() {
+    assertThat(Zobrist.key(0, 1)).isNotEqualTo(Zobrist.key(1, 0)).isNotEqualTo(Zobrist.key(1, 1)).isNotEqualTo(Zobrist.key(0, 2));
+    assertThat(Zobrist.hashOf(new int[]{1, 2, 0, 1, 2, 0}, ONE)).isNotEqualTo(Zobrist.hashOf(new int[]{2, 1, 0, 1, 2, 0}, ONE));
+  }
+
+  @Test
+  void a_change_moves_the_hash_from_one_amount_of_stones_to_the_other() {
+    final var before = Zobrist.hashOf(new int[]{1, 2, 0, 3, 4, 0}, ONE);
+
+    final var after = before ^ Zobrist.change(3, 3, 7);
+
+    assertThat(after).isEqualTo(Zobrist.hashOf(new int[]{1, 2, 0, 7, 4, 0}, ONE));
+  }
+
+  @Test
+  void games_are_hashed_with_their_player() {
+    final var game = new Game(new Board(new int[]{1, 2, 0, 3, 4, 0}), TWO, PLAYABLE, 3);
+
+    assertThat(game.zobristHash()).isEqualTo(Zobrist.hashOf(new int[]{1, 2, 0, 3, 4, 0}, TWO));
+    game.setPlayer(ONE);
+    assertThat(game.zobristHash()).isEqualTo(Zobrist.hashOf(new int[]{1, 2, 0, 3, 4, 0}, ONE));
+    game.setPlayer(ONE);
+    assertThat(game.zobristHash()).isEqualTo(Zobrist.hashOf(new int[]{1, 2, 0, 3, 4, 0}, ONE));
+  }
+}
@@ -8,9 +8,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.HttpStatus.*;
 
 class DeleteGameIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "DeleteGameIT";
+
   @Test
   void given_an_uninitialized_board_response_is_problem() {
-    var body = delete()
+    var body = delete("/games/{gameId}", GAME_ID)
       .then()
       .assertThat()
       .statusCode(NO_CONTENT.value())
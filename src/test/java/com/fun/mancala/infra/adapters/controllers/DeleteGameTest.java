@@ -11,6 +11,6 @@ class DeleteGameTest {
 
   @Test
   void initialize_board_correctly_returns_game_status() {
-    assertThat(sut.deleteGame()).isEqualTo(ResponseEntity.noContent().build());
+    assertThat(sut.deleteGame("game")).isEqualTo(ResponseEntity.noContent().build());
   }
 }
@@ -0,0 +1,47 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.application.GameUpdate;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameEventsSubscriberTest {
+  private final GameEventsSubscriber.Encoding encoding = new GameEventsSubscriber.Encoding().join();
+
+  @Test
+  void a_subscriber_that_falls_too_far_behind_is_dropped() {
+    final var subscriber = new GameEventsSubscriber(new SseEmitter(), encoding, null);
+
+    for (int version = 0; version < GameEventsSubscriber.MAXIMUM_PENDING_EVENTS; version++)
+      subscriber.updated(update(version));
+    assertThat(subscriber.isDropped()).isFalse();
+    subscriber.updated(update(GameEventsSubscriber.MAXIMUM_PENDING_EVENTS));
+
+    assertThat(subscriber.isDropped()).isTrue();
+  }
+
+  @Test
+  void an_update_is_encoded_once_for_all_the_subscribers() {
+    final var update = update(3);
+
+    final var json = encoding.jsonOf(update);
+
+    assertThat(encoding.jsonOf(update)).isSameAs(json);
+    assertThat(json).isEqualTo("{\"version\":3,\"pits\":[1,4],\"stones\":[0,2],\"player\":\"ONE\",\"status\":\"PLAYABLE\"}");
+  }
+
+  @Test
+  void the_shared_encoding_goes_away_with_its_last_subscriber() {
+    encoding.join();
+
+    assertThat(encoding.leave()).isSameAs(encoding);
+    assertThat(encoding.leave()).isNull();
+  }
+
+  private GameUpdate update(long version) {
+    return new GameUpdate(version, new int[]{1, 4}, new int[]{0, 2}, ONE, PLAYABLE);
+  }
+}
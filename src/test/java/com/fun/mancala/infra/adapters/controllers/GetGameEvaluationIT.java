@@ -0,0 +1,63 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.IntegrationTestsBase;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.OK;
+
+class GetGameEvaluationIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "GetGameEvaluationIT";
+
+  @Test
+  void given_an_uninitialized_board_response_is_problem() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    var body = get("/games/{gameId}/evaluation", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(BAD_REQUEST.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(body.getString("type")).isEqualTo("http://localhost/errors/BoardInitializationException");
+  }
+
+  @Test
+  void given_a_finished_game_response_is_its_winner() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 2, 2, 0}).post("/games/{gameId}/initialize", GAME_ID).then().statusCode(OK.value());
+    given().body(new Integer[]{1, 0}).post("/games/{gameId}/move/batch", GAME_ID).then().statusCode(OK.value());
+
+    var body = get("/games/{gameId}/evaluation", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(OK.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(body.getBoolean("solved")).isTrue();
+    assertThat(body.getString("winner")).isEqualTo("ONE");
+    assertThat(body.getInt("moves")).isZero();
+  }
+
+  @Test
+  void given_no_tablebase_response_is_not_solved() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 2, 2, 0}).post("/games/{gameId}/initialize", GAME_ID).then().statusCode(OK.value());
+
+    var body = get("/games/{gameId}/evaluation", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(OK.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(body.getBoolean("solved")).isFalse();
+    assertThat(body.getString("winner")).isNull();
+  }
+}
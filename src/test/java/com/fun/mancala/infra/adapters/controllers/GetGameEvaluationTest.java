@@ -0,0 +1,65 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ai.ComputerPlayer;
+import com.fun.mancala.application.ai.Evaluation;
+import com.fun.mancala.application.exceptions.BoardInitializationException;
+import com.fun.mancala.infra.adapters.persistence.MappedFileEndgameTablebase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.file.Path;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GetGameEvaluationTest {
+  private static final String GAME_ID = "game";
+  private GameManager gameManager;
+  private GetGameEvaluation sut;
+
+  @TempDir
+  Path directory;
+
+  @BeforeEach
+  void initializeTest() {
+    final var file = directory.resolve("tablebase.bin");
+    MappedFileEndgameTablebase.generate(file, 6, 6);
+    gameManager = new GameManager();
+    sut = new GetGameEvaluation(new ComputerPlayer(gameManager, new MappedFileEndgameTablebase(file), 1 << 12, 1 << 12, 1, 2));
+  }
+
+  @Test
+  void the_winner_and_the_pit_to_play_are_told() {
+    gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+    gameManager.moveStonesFrom(GAME_ID, 1);
+
+    final var response = sut.getGameEvaluation(GAME_ID);
+
+    assertThat(response).isEqualTo(ResponseEntity.ok(new Evaluation(true, ONE, 1, 0)));
+  }
+
+  @Test
+  void the_losing_side_is_told_how_long_it_lasts() {
+    gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+    gameManager.moveStonesFrom(GAME_ID, 0);
+
+    final var response = sut.getGameEvaluation(GAME_ID);
+
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().solved()).isTrue();
+    assertThat(response.getBody().moves()).isPositive();
+    assertThat(response.getBody().winner()).isIn(ONE, TWO);
+  }
+
+  @Test
+  void games_not_initialized_are_not_evaluated() {
+    assertThatThrownBy(() -> sut.getGameEvaluation("missing"))
+      .isInstanceOf(BoardInitializationException.class)
+      .hasMessage("The board has not been initialized yet.");
+  }
+}
@@ -0,0 +1,121 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.IntegrationTestsBase;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+class GetGameEventsIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "GetGameEventsIT";
+
+  @Test
+  void the_whole_game_and_then_every_move_are_streamed() throws Exception {
+    final var version = initialize();
+
+    try (var events = events(null)) {
+      final var state = nextEvent(events);
+      given().body(1).post("/games/{gameId}/move", GAME_ID).andReturn();
+      final var move = nextEvent(events);
+
+      assertThat(state).containsExactly("id:" + version, "event:state",
+        "data:{\"version\":" + version + ",\"pits\":[0,1,2,3,4,5],\"stones\":[1,2,0,3,4,0],\"player\":\"ONE\",\"status\":\"PLAYABLE\"}");
+      assertThat(move).containsExactly("id:" + (version + 1), "event:move",
+        "data:{\"version\":" + (version + 1) + ",\"pits\":[1,2,3],\"stones\":[0,1,4],\"player\":\"TWO\",\"status\":\"PLAYABLE\"}");
+    }
+  }
+
+  @Test
+  void resuming_from_the_current_version_streams_only_the_next_moves() throws Exception {
+    final var version = initialize();
+    given().body(1).post("/games/{gameId}/move", GAME_ID).andReturn();
+
+    // nothing is written until the next move, not even the headers
+    final var stream = eventsAsync(String.valueOf(version + 1));
+    Thread.sleep(500);
+    given().body(4).post("/games/{gameId}/move", GAME_ID).andReturn();
+
+    try (var events = stream.get(5, TimeUnit.SECONDS)) {
+      assertThat(nextEvent(events)).startsWith("id:" + (version + 2), "event:move");
+    }
+  }
+
+  @Test
+  void resuming_from_an_older_version_streams_the_game_as_it_is_now() throws Exception {
+    final var version = initialize();
+    given().body(new Integer[]{1, 4}).post("/games/{gameId}/move/batch", GAME_ID).andReturn();
+
+    try (var events = events(String.valueOf(version))) {
+      assertThat(nextEvent(events)).startsWith("id:" + (version + 2), "event:state");
+    }
+  }
+
+  @Test
+  void clearing_the_game_ends_the_stream() throws Exception {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 2, 0, 3, 4, 0}).post("/games/{gameId}/initialize", GAME_ID).andReturn();
+
+    try (var events = events(null)) {
+      nextEvent(events);
+      delete("/games/{gameId}", GAME_ID).andReturn();
+
+      assertThat(nextEvent(events)).containsExactly("event:cleared", "data:The board has been cleared.");
+      assertThat(events.readLine()).isNull();
+    }
+  }
+
+  @Test
+  void uninitialized_games_have_no_events() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    var body = get("/games/{gameId}/events", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(BAD_REQUEST.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(body.getString("type")).isEqualTo("http://localhost/errors/BoardInitializationException");
+    assertThat(body.getString("detail")).isEqualTo("The board has not been initialized yet.");
+  }
+
+  // the version the game starts at, past the versions of the games cleared before under its id
+  private long initialize() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    final var eTag = given().body(new Integer[]{1, 2, 0, 3, 4, 0}).post("/games/{gameId}/initialize", GAME_ID).header("ETag");
+    return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+  }
+
+  private BufferedReader events(String lastEventId) throws Exception {
+    return eventsAsync(lastEventId).get(5, TimeUnit.SECONDS);
+  }
+
+  private CompletableFuture<BufferedReader> eventsAsync(String lastEventId) {
+    final var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/games/" + GAME_ID + "/events"))
+      .header("Accept", "text/event-stream");
+    if (lastEventId != null) request.header("Last-Event-ID", lastEventId);
+    return HttpClient.newHttpClient().sendAsync(request.build(), HttpResponse.BodyHandlers.ofInputStream())
+      .thenApply(response -> new BufferedReader(new InputStreamReader(response.body(), UTF_8)));
+  }
+
+  private List<String> nextEvent(BufferedReader events) throws IOException {
+    final var lines = new ArrayList<String>();
+    for (var line = events.readLine(); line != null && !line.isEmpty(); line = events.readLine())
+      lines.add(line);
+    return lines;
+  }
+}
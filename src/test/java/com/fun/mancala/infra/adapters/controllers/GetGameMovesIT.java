@@ -0,0 +1,63 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.IntegrationTestsBase;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.OK;
+
+class GetGameMovesIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "GetGameMovesIT";
+
+  @Test
+  void given_an_uninitialized_board_response_is_problem() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    var body = get("/games/{gameId}/moves", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(BAD_REQUEST.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(body.getString("type")).isEqualTo("http://localhost/errors/BoardInitializationException");
+  }
+
+  @Test
+  void given_a_game_response_is_the_pits_of_the_player_on_turn_with_stones() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 2, 2, 0}).post("/games/{gameId}/initialize", GAME_ID).then().statusCode(OK.value());
+    given().body(0).post("/games/{gameId}/move", GAME_ID).then().statusCode(OK.value());
+
+    var moves = get("/games/{gameId}/moves", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(OK.value())
+      .extract()
+      .body()
+      .jsonPath()
+      .getList("", Integer.class);
+
+    assertThat(moves).containsExactly(3, 4);
+  }
+
+  @Test
+  void given_a_finished_game_response_is_no_moves() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 2, 2, 0}).post("/games/{gameId}/initialize", GAME_ID).then().statusCode(OK.value());
+    given().body(new Integer[]{1, 0}).post("/games/{gameId}/move/batch", GAME_ID).then().statusCode(OK.value());
+
+    var moves = get("/games/{gameId}/moves", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(OK.value())
+      .extract()
+      .body()
+      .jsonPath()
+      .getList("", Integer.class);
+
+    assertThat(moves).isEmpty();
+  }
+}
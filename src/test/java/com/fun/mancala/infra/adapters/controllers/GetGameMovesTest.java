@@ -0,0 +1,48 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.exceptions.BoardInitializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.OK;
+
+class GetGameMovesTest {
+  private static final String GAME_ID = "game";
+  private final GameManager game = new GameManager();
+  private GetGameMoves sut;
+
+  @BeforeEach
+  void initializeTest() {
+    game.initialize(GAME_ID, new int[]{1, 2, 3, 0, 4, 5, 6, 0});
+    sut = new GetGameMoves(game);
+  }
+
+  @Test
+  void the_moves_are_the_pits_of_the_player_on_turn_with_stones() {
+    final var response = sut.getGameMoves(GAME_ID);
+
+    assertThat(response.getStatusCode()).isEqualTo(OK);
+    assertThat(response.getBody()).containsExactly(0, 1, 2);
+  }
+
+  @Test
+  void empty_pits_are_not_moves() {
+    game.moveStonesFrom(GAME_ID, 2);
+    game.moveStonesFrom(GAME_ID, 4);
+
+    // {2, 3, 0, 1, 0, 7, 7, 1} with player ONE on turn again
+    assertThat(sut.getGameMoves(GAME_ID).getBody()).containsExactly(0, 1);
+  }
+
+  @Test
+  void uninitialized_board_throws_exception() {
+    game.clearGame(GAME_ID);
+
+    assertThatThrownBy(() -> sut.getGameMoves(GAME_ID))
+      .isInstanceOf(BoardInitializationException.class)
+      .hasMessage("The board has not been initialized yet.");
+  }
+}
@@ -9,10 +9,12 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.OK;
 
 class GetGameStatusIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "GetGameStatusIT";
+
   @Test
   void given_an_uninitialized_board_response_is_problem() {
-    delete().andReturn();
-    var body = get("/status")
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    var body = get("/games/{gameId}/status", GAME_ID)
       .then()
       .assertThat()
       .statusCode(BAD_REQUEST.value())
@@ -27,9 +29,9 @@ class GetGameStatusIT extends IntegrationTestsBase {
 
   @Test
   void given_initialized_board_response_is_200_and_game_status() {
-    delete().andReturn();
-    given().body(new Integer[]{1, 1, 0, 1, 1, 0}).post("/initialize").andReturn();
-    var body = get("/status").then()
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 1, 1, 0}).post("/games/{gameId}/initialize", GAME_ID).andReturn();
+    var body = get("/games/{gameId}/status", GAME_ID).then()
       .assertThat()
       .statusCode(OK.value())
       .extract()
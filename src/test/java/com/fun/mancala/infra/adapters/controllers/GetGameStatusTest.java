@@ -4,34 +4,56 @@ import com.fun.mancala.application.GameManager;
 import com.fun.mancala.application.exceptions.BoardInitializationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.TEXT_PLAIN;
 
 class GetGameStatusTest {
+  private static final String GAME_ID = "game";
   private GetGameStatus sut;
 
   private final GameManager game = new GameManager();
 
   @BeforeEach
   void initializeTest() {
-    game.clearGame();
-    game.initialize(new Integer[]{1, 1, 0, 1, 1, 0});
+    game.clearGame(GAME_ID);
+    game.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
     sut = new GetGameStatus(game);
   }
 
   @Test
   void uninitialized_board_throws_exception() {
-    game.clearGame();
-    assertThatThrownBy(() -> sut.getGameStatus())
+    game.clearGame(GAME_ID);
+    assertThatThrownBy(() -> sut.getGameStatus(GAME_ID))
       .isInstanceOf(BoardInitializationException.class)
       .hasMessage("The board has not been initialized yet.");
   }
 
+  @Test
+  void status_is_served_as_utf8_plain_text() {
+    final var response = sut.getGameStatus(GAME_ID);
+
+    assertThat(response.getStatusCode()).isEqualTo(OK);
+    assertThat(response.getHeaders().getContentType()).isEqualTo(new MediaType(TEXT_PLAIN, UTF_8));
+  }
+
+  @Test
+  void status_is_tagged_with_the_version_of_the_game() {
+    assertThat(sut.getGameStatus(GAME_ID).getHeaders().getETag()).isEqualTo("\"0\"");
+
+    game.moveStonesFrom(GAME_ID, 0);
+
+    assertThat(sut.getGameStatus(GAME_ID).getHeaders().getETag()).isEqualTo("\"1\"");
+  }
+
   @Test
   void player_one_should_play_first() {
-    assertThat(sut.getGameStatus()).isEqualTo(ResponseEntity.ok("""
+    assertThat(bodyOf(sut.getGameStatus(GAME_ID))).isEqualTo("""
       Current Board:
         Player ONE: | 1 | 1 || 0 |
         Player TWO: | 1 | 1 || 0 |
@@ -40,14 +62,14 @@ class GetGameStatusTest {
         Player TWO: 0
       Current Player: ONE
       Game: PLAYABLE
-      """));
+      """);
   }
 
   @Test
   void player_two_should_play_second() {
-    game.moveStonesFrom(0);
+    game.moveStonesFrom(GAME_ID, 0);
 
-    assertThat(sut.getGameStatus()).isEqualTo(ResponseEntity.ok("""
+    assertThat(bodyOf(sut.getGameStatus(GAME_ID))).isEqualTo("""
       Current Board:
         Player ONE: | 0 | 2 || 0 |
         Player TWO: | 1 | 1 || 0 |
@@ -56,15 +78,15 @@ class GetGameStatusTest {
         Player TWO: 0
       Current Player: TWO
       Game: PLAYABLE
-      """));
+      """);
   }
 
   @Test
   void game_status_done_player_one_wins() {
-    game.moveStonesFrom(1);
-    game.moveStonesFrom(0);
+    game.moveStonesFrom(GAME_ID, 1);
+    game.moveStonesFrom(GAME_ID, 0);
 
-    assertThat(sut.getGameStatus()).isEqualTo(ResponseEntity.ok("""
+    assertThat(bodyOf(sut.getGameStatus(GAME_ID))).isEqualTo("""
         Final Board:
           Player ONE: | 0 | 0 || 3 |
           Player TWO: | 1 | 0 || 0 |
@@ -73,16 +95,16 @@ class GetGameStatusTest {
           Player TWO: 0
         Final Player: ONE
         Game: DONE
-        """));
+        """);
   }
 
   @Test
   void game_status_done_player_two_wins() {
-    game.moveStonesFrom(0);
-    game.moveStonesFrom(4);
-    game.moveStonesFrom(3);
+    game.moveStonesFrom(GAME_ID, 0);
+    game.moveStonesFrom(GAME_ID, 4);
+    game.moveStonesFrom(GAME_ID, 3);
 
-    assertThat(sut.getGameStatus()).isEqualTo(ResponseEntity.ok("""
+    assertThat(bodyOf(sut.getGameStatus(GAME_ID))).isEqualTo("""
         Final Board:
           Player ONE: | 0 | 0 || 0 |
           Player TWO: | 0 | 0 || 4 |
@@ -91,6 +113,10 @@ class GetGameStatusTest {
           Player TWO: 4
         Final Player: TWO
         Game: DONE
-        """));
+        """);
+  }
+
+  private String bodyOf(ResponseEntity<byte[]> response) {
+    return new String(response.getBody(), UTF_8);
   }
 }
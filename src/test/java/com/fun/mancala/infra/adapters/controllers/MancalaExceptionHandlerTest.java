@@ -1,23 +1,39 @@
 package com.fun.mancala.infra.adapters.controllers;
 
+import com.fun.mancala.application.exceptions.BoardBatchMoveException;
 import com.fun.mancala.application.exceptions.BoardInitializationException;
 import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.application.exceptions.GameVersionMismatchException;
+import com.fun.mancala.infra.adapters.metrics.MicrometerGameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.http.ProblemDetail;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
 
+import static com.fun.mancala.application.exceptions.RuleViolation.ALREADY_INITIALIZED;
+import static com.fun.mancala.application.exceptions.RuleViolation.BASE_PIT;
+import static com.fun.mancala.application.exceptions.RuleViolation.EMPTY_PIT;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 
 class MancalaExceptionHandlerTest {
   private final MancalaExceptionHandler sut = new MancalaExceptionHandler();
+  @TempDir
+  Path directory;
 
   @Test
   void with_board_initialization_exception_status_is_401_and_problem_is_thrown() {
     final var testMessage = "a test message";
-    final var testException = new BoardInitializationException(testMessage);
+    final var testException = new BoardInitializationException(ALREADY_INITIALIZED, testMessage);
     var expectedProblem = ProblemDetail.forStatusAndDetail(BAD_REQUEST, testMessage);
     expectedProblem.setType(URI.create("http://localhost/errors/" + testException.getClass().getSimpleName()));
 
@@ -29,7 +45,7 @@ class MancalaExceptionHandlerTest {
   @Test
   void with_board_move_exception_status_is_401_and_problem_is_thrown() {
     final var testMessage = "a test message";
-    final var testException = new BoardMoveException(testMessage);
+    final var testException = new BoardMoveException(EMPTY_PIT, testMessage);
     var expectedProblem = ProblemDetail.forStatusAndDetail(BAD_REQUEST, testMessage);
     expectedProblem.setType(URI.create("http://localhost/errors/" + testException.getClass().getSimpleName()));
 
@@ -38,6 +54,31 @@ class MancalaExceptionHandlerTest {
     assertThat(result).isEqualTo(expectedProblem);
   }
 
+  @Test
+  void with_board_batch_move_exception_status_is_400_and_problem_has_the_failed_move() {
+    final var testMessage = "a test message";
+    final var testException = new BoardBatchMoveException(3, BASE_PIT, testMessage);
+    var expectedProblem = ProblemDetail.forStatusAndDetail(BAD_REQUEST, testMessage);
+    expectedProblem.setType(URI.create("http://localhost/errors/" + testException.getClass().getSimpleName()));
+    expectedProblem.setProperty("failedMove", 3);
+
+    var result = sut.gameExceptionHandler(testException);
+
+    assertThat(result).isEqualTo(expectedProblem);
+  }
+
+  @Test
+  void with_game_version_mismatch_exception_status_is_412_and_problem_has_the_current_version() {
+    final var testException = new GameVersionMismatchException(7);
+    var expectedProblem = ProblemDetail.forStatusAndDetail(PRECONDITION_FAILED, testException.getMessage());
+    expectedProblem.setType(URI.create("http://localhost/errors/" + testException.getClass().getSimpleName()));
+    expectedProblem.setProperty("currentVersion", 7L);
+
+    var result = sut.gameExceptionHandler(testException);
+
+    assertThat(result).isEqualTo(expectedProblem);
+  }
+
   @Test
   void with_runtime_exception_status_is_500_and_problem_is_thrown() {
     final var testMessage = "a test message";
@@ -49,4 +90,43 @@ class MancalaExceptionHandlerTest {
 
     assertThat(result).isEqualTo(expectedProblem);
   }
+
+  @Test
+  void every_rejection_is_counted_by_the_rule_it_broke() {
+    final var registry = new SimpleMeterRegistry();
+    final var handler = new MancalaExceptionHandler(new MicrometerGameMetrics(registry));
+
+    handler.gameExceptionHandler(new BoardMoveException(EMPTY_PIT, "a test message"));
+    handler.gameExceptionHandler(new BoardBatchMoveException(1, EMPTY_PIT, "a test message"));
+    handler.gameExceptionHandler(new GameVersionMismatchException(7));
+    handler.gameExceptionHandler(new BoardInitializationException(ALREADY_INITIALIZED, "a test message"));
+    handler.gameExceptionHandler(new RuntimeException("a test message"));
+
+    assertThat(registry.get("mancala.games.rejections").counters())
+      .filteredOn(counter -> counter.count() > 0)
+      .extracting(counter -> counter.getId().getTag("reason") + " " + (int) counter.count())
+      .containsExactlyInAnyOrder("empty_pit 2", "version_mismatch 1", "already_initialized 1");
+  }
+
+  @Test
+  void every_rejection_is_recorded_as_a_rule_violation_event() throws IOException {
+    final var file = directory.resolve("events.jfr");
+    try (var recording = new Recording()) {
+      recording.enable("com.fun.mancala.RuleViolation");
+      recording.start();
+      sut.gameExceptionHandler(new BoardBatchMoveException(1, EMPTY_PIT, "a test message"));
+      sut.gameExceptionHandler(new GameVersionMismatchException(7));
+      sut.gameExceptionHandler(new RuntimeException("a test message"));
+      recording.stop();
+      recording.dump(file);
+    }
+
+    assertThat(RecordingFile.readAllEvents(file))
+      .filteredOn(event -> event.getEventType().getName().equals("com.fun.mancala.RuleViolation"))
+      .extracting(event -> event.getString("reason"), event -> event.getString("message"))
+      .containsExactly(
+        tuple("EMPTY_PIT", "a test message"),
+        tuple("VERSION_MISMATCH", new GameVersionMismatchException(7).getMessage())
+      );
+  }
 }
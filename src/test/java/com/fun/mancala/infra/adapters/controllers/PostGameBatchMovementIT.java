@@ -0,0 +1,59 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.IntegrationTestsBase;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.OK;
+
+class PostGameBatchMovementIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "PostGameBatchMovementIT";
+
+  @Test
+  void given_a_wrong_movement_in_the_batch_response_is_problem_with_its_index() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 1, 1, 0}).post("/games/{gameId}/initialize", GAME_ID).andReturn();
+    var body = given()
+      .body(new Integer[]{0, 3, 3})
+      .post("/games/{gameId}/move/batch", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(BAD_REQUEST.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(body.getString("title")).isEqualTo(BAD_REQUEST.getReasonPhrase());
+    assertThat(body.getString("type")).isEqualTo("http://localhost/errors/BoardBatchMoveException");
+    assertThat(body.getString("detail")).isEqualTo("Those stones are not yours to move.");
+    assertThat(body.getInt("failedMove")).isEqualTo(2);
+  }
+
+  @Test
+  void given_proper_movements_response_is_200_and_game_status() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 1, 1, 0}).post("/games/{gameId}/initialize", GAME_ID).andReturn();
+    var body = given()
+      .body(new Integer[]{0, 3})
+      .post("/games/{gameId}/move/batch", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(OK.value())
+      .extract()
+      .body()
+      .asString();
+
+    assertThat(body).isEqualTo("""
+      Current Board:
+        Player ONE: | 0 | 2 || 0 |
+        Player TWO: | 0 | 2 || 0 |
+      Current Score:
+        Player ONE: 0
+        Player TWO: 0
+      Current Player: ONE
+      Game: PLAYABLE
+      """);
+  }
+}
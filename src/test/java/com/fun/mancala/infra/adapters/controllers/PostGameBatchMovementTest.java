@@ -0,0 +1,64 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.exceptions.BoardBatchMoveException;
+import com.fun.mancala.application.exceptions.GameVersionMismatchException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostGameBatchMovementTest {
+  private static final String GAME_ID = "game";
+  private PostGameBatchMovement sut;
+
+  @BeforeEach
+  void initializeTest() {
+    var game = new GameManager();
+    game.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+    this.sut = new PostGameBatchMovement(game);
+  }
+
+  @Test
+  void both_players_play_in_one_batch() {
+    final var response = sut.postGameBatchMovement(GAME_ID, new int[]{0, 3}, null);
+
+    assertThat(new String(response.getBody(), UTF_8)).isEqualTo("""
+      Current Board:
+        Player ONE: | 0 | 2 || 0 |
+        Player TWO: | 0 | 2 || 0 |
+      Current Score:
+        Player ONE: 0
+        Player TWO: 0
+      Current Player: ONE
+      Game: PLAYABLE
+      """);
+  }
+
+  @Test
+  void the_moved_status_is_tagged_with_the_version_of_the_game() {
+    final var response = sut.postGameBatchMovement(GAME_ID, new int[]{0, 3}, null);
+
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"2\"");
+  }
+
+  @Test
+  void a_batch_expecting_an_older_version_makes_none_of_its_moves() {
+    sut.postGameBatchMovement(GAME_ID, new int[]{0}, "\"0\"");
+
+    assertThatThrownBy(() -> sut.postGameBatchMovement(GAME_ID, new int[]{3, 1}, "\"0\""))
+      .isInstanceOf(GameVersionMismatchException.class)
+      .hasMessage("The game has moved on to version 1. Read its status and retry.");
+    assertThat(sut.postGameBatchMovement(GAME_ID, new int[]{3, 1}, "\"1\"").getHeaders().getETag()).isEqualTo("\"3\"");
+  }
+
+  @Test
+  void batch_stops_at_the_first_wrong_move() {
+    assertThatThrownBy(() -> sut.postGameBatchMovement(GAME_ID, new int[]{0, 1, 3}, null))
+      .isInstanceOf(BoardBatchMoveException.class)
+      .hasMessage("Those stones are not yours to move.")
+      .extracting("failedMove").isEqualTo(1);
+  }
+}
@@ -0,0 +1,60 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.IntegrationTestsBase;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.OK;
+
+class PostGameComputerMovementIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "PostGameComputerMovementIT";
+
+  @Test
+  void given_a_winning_position_the_computer_wins() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 2, 2, 0}).post("/games/{gameId}/initialize", GAME_ID).then().statusCode(OK.value());
+    given().body(1).post("/games/{gameId}/move", GAME_ID).then().statusCode(OK.value());
+
+    var body = given()
+      .queryParam("budget", 100)
+      .post("/games/{gameId}/move/computer", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(OK.value())
+      .extract()
+      .body()
+      .asString();
+
+    assertThat(body).isEqualTo("""
+      Final Board:
+        Player ONE: | 0 | 0 || 4 |
+        Player TWO: | 2 | 0 || 0 |
+      Final Score:
+        Player ONE: 4
+        Player TWO: 0
+      Final Player: ONE
+      Game: DONE
+      """);
+  }
+
+  @Test
+  void given_a_budget_out_of_range_response_is_problem() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 2, 2, 0}).post("/games/{gameId}/initialize", GAME_ID).then().statusCode(OK.value());
+
+    var body = given()
+      .queryParam("budget", 0)
+      .post("/games/{gameId}/move/computer", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(BAD_REQUEST.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(body.getString("type")).isEqualTo("http://localhost/errors/BoardMoveException");
+    assertThat(body.getString("detail")).isEqualTo("The computer can think for 1 to 10000 milliseconds.");
+  }
+}
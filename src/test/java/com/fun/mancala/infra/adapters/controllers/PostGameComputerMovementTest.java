@@ -0,0 +1,65 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ai.ComputerPlayer;
+import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.application.ports.EndgameTablebase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostGameComputerMovementTest {
+  private static final String GAME_ID = "game";
+  private GameManager gameManager;
+  private PostGameComputerMovement sut;
+
+  @BeforeEach
+  void initializeTest() {
+    gameManager = new GameManager();
+    gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 2, 2, 0});
+    sut = new PostGameComputerMovement(gameManager, new ComputerPlayer(gameManager, EndgameTablebase.NONE, 1 << 12, 1 << 12, 1, 2), Duration.ofMillis(100));
+  }
+
+  @Test
+  void the_computer_wins_when_it_can() {
+    gameManager.moveStonesFrom(GAME_ID, 1);
+
+    final var response = sut.postGameComputerMovement(GAME_ID, null);
+
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"2\"");
+    assertThat(new String(response.getBody(), UTF_8)).isEqualTo("""
+      Final Board:
+        Player ONE: | 0 | 0 || 4 |
+        Player TWO: | 2 | 0 || 0 |
+      Final Score:
+        Player ONE: 4
+        Player TWO: 0
+      Final Player: ONE
+      Game: DONE
+      """);
+  }
+
+  @Test
+  void the_budget_is_bounded() {
+    assertThatThrownBy(() -> sut.postGameComputerMovement(GAME_ID, 0L))
+      .isInstanceOf(BoardMoveException.class)
+      .hasMessage("The computer can think for 1 to 10000 milliseconds.");
+    assertThatThrownBy(() -> sut.postGameComputerMovement(GAME_ID, 10_001L))
+      .isInstanceOf(BoardMoveException.class)
+      .hasMessage("The computer can think for 1 to 10000 milliseconds.");
+  }
+
+  @Test
+  void finished_games_are_not_played() {
+    gameManager.moveStonesFrom(GAME_ID, new int[]{1, 0});
+
+    assertThatThrownBy(() -> sut.postGameComputerMovement(GAME_ID, 50L))
+      .isInstanceOf(BoardMoveException.class)
+      .hasMessage("Game has ended. Player ONE won.");
+  }
+}
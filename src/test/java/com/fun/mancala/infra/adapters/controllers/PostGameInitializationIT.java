@@ -9,13 +9,15 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.OK;
 
 class PostGameInitializationIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "PostGameInitializationIT";
+
   @Test
   void given_wrong_initialization_board_response_is_problem() {
-    delete().andReturn();
-    given().body(new Integer[]{1, 1, 0, 1, 1, 0}).post("/initialize").andReturn();
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 1, 1, 0}).post("/games/{gameId}/initialize", GAME_ID).andReturn();
     var body = given()
       .body(3)
-      .post("/move")
+      .post("/games/{gameId}/move", GAME_ID)
       .then()
       .assertThat()
       .statusCode(BAD_REQUEST.value())
@@ -30,11 +32,11 @@ class PostGameInitializationIT extends IntegrationTestsBase {
 
   @Test
   void given_proper_initialization_board_response_is_200_and_game_status() {
-    delete().andReturn();
-    given().body(new Integer[]{1, 1, 0, 1, 1, 0}).post("/initialize").andReturn();
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 1, 1, 0}).post("/games/{gameId}/initialize", GAME_ID).andReturn();
     var body = given()
       .body(0)
-      .post("/move")
+      .post("/games/{gameId}/move", GAME_ID)
       .then()
       .assertThat()
       .statusCode(OK.value())
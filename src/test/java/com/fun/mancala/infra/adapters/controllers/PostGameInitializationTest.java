@@ -1,23 +1,29 @@
 package com.fun.mancala.infra.adapters.controllers;
 
 import com.fun.mancala.application.GameManager;
-import com.fun.mancala.application.exceptions.BoardInitializationException;
+import com.fun.mancala.infra.adapters.http.RuleViolationProblems;
+import io.restassured.path.json.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
 class PostGameInitializationTest {
-  private final PostGameInitialization sut = new PostGameInitialization(new GameManager());
+  private static final String GAME_ID = "game";
+  private final PostGameInitialization sut = new PostGameInitialization(new GameManager(), new RuleViolationProblems());
 
   @Test
   void initialize_board_correctly_returns_game_status() {
-    final var board = new Integer[]{1, 1, 0, 1, 1, 0};
+    final var board = new int[]{1, 1, 0, 1, 1, 0};
 
-    final var response = sut.postGameInitialization(board);
+    final var response = sut.postGameInitialization(GAME_ID, board);
 
-    assertThat(response).isEqualTo(ResponseEntity.ok("""
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"0\"");
+    assertThat(new String(response.getBody(), UTF_8)).isEqualTo("""
       Current Board:
         Player ONE: | 1 | 1 || 0 |
         Player TWO: | 1 | 1 || 0 |
@@ -26,37 +32,56 @@ class PostGameInitializationTest {
         Player TWO: 0
       Current Player: ONE
       Game: PLAYABLE
-      """));
+      """);
+  }
+
+  @Test
+  void initialize_board_incorrectly_is_a_problem() {
+    final var oddNumberOfPits = new int[]{0, 0, 0};
+    final var boardTooSmall = new int[]{1, 0, 1, 0};
+    final var wrongAmountOfEmptyPits = new int[]{1, 1, 0, 1, 0, 0};
+    final var badlyPositionedEmptyPits = new int[]{1, 1, 0, 0, 1, 1};
+    final var goodBoard = new int[]{1, 1, 0, 1, 1, 0};
+
+    assertThat(detailOf(sut.postGameInitialization(GAME_ID, null))).isEqualTo("Provide an initial state to the board.");
+    assertThat(detailOf(sut.postGameInitialization(GAME_ID, oddNumberOfPits))).isEqualTo("The amount of pits on board should be even.");
+    assertThat(detailOf(sut.postGameInitialization(GAME_ID, boardTooSmall)))
+      .isEqualTo("The board should have at least two pits plus a base per player.");
+    assertThat(detailOf(sut.postGameInitialization(GAME_ID, wrongAmountOfEmptyPits)))
+      .isEqualTo("The board should have only two empty pits at the right of each player.");
+    assertThat(detailOf(sut.postGameInitialization(GAME_ID, badlyPositionedEmptyPits)))
+      .isEqualTo("The board should have only two empty pits at the right of each player.");
+    sut.postGameInitialization(GAME_ID, goodBoard);
+    assertThat(detailOf(sut.postGameInitialization(GAME_ID, goodBoard))).isEqualTo("The board is already initialized.");
+  }
+
+  @Test
+  void a_rejected_initialization_is_a_bad_request_described_as_an_initialization_problem() {
+    final var response = sut.postGameInitialization(GAME_ID, new int[]{1, 1, 0, 11, 1, 0});
+
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    assertThat(JsonPath.from(new String(response.getBody(), UTF_8)).getString("type"))
+      .isEqualTo("http://localhost/errors/BoardInitializationException");
+    assertThat(detailOf(response))
+      .isEqualTo("There are too many stones on pit 3. The maximum amount of stones is 10. Fix the initialization board and retry.");
   }
 
   @Test
-  void initialize_board_incorrectly_throws_exceptions() {
-    final var oddNumberOfPits = new Integer[]{0, 0, 0};
-    final var boardTooSmall = new Integer[]{1, 0, 1, 0};
-    final var wrongAmountOfEmptyPits = new Integer[]{1, 1, 0, 1, 0, 0};
-    final var badlyPositionedEmptyPits = new Integer[]{1, 1, 0, 0, 1, 1};
-    final var goodBoard = new Integer[]{1, 1, 0, 1, 1, 0};
-
-    assertThatThrownBy(() -> sut.postGameInitialization(null))
-      .isInstanceOf(BoardInitializationException.class)
-      .hasMessage("Provide an initial state to the board.");
-    assertThatThrownBy(() -> sut.postGameInitialization(oddNumberOfPits))
-      .isInstanceOf(BoardInitializationException.class)
-      .hasMessage("The amount of pits on board should be even.");
-    assertThatThrownBy(() -> sut.postGameInitialization(boardTooSmall))
-      .isInstanceOf(BoardInitializationException.class)
-      .hasMessage("The board should have at least two pits plus a base per player.");
-    assertThatThrownBy(() -> sut.postGameInitialization(wrongAmountOfEmptyPits))
-      .isInstanceOf(BoardInitializationException.class)
-      .hasMessage("The board should have only two empty pits at the right of each player.");
-    assertThatThrownBy(() -> sut.postGameInitialization(badlyPositionedEmptyPits))
-      .isInstanceOf(BoardInitializationException.class)
-      .hasMessage("The board should have only two empty pits at the right of each player.");
-    assertThatThrownBy(() -> {
-      sut.postGameInitialization(goodBoard);
-      sut.postGameInitialization(goodBoard);
-    })
-      .isInstanceOf(BoardInitializationException.class)
-      .hasMessage("The board is already initialized.");
+  void the_pit_with_negative_stones_is_told_on_boards_of_any_size() {
+    final var bigBoard = new int[600];
+    Arrays.fill(bigBoard, 1);
+    bigBoard[299] = 0;
+    bigBoard[599] = 0;
+    bigBoard[450] = -1;
+
+    assertThat(detailOf(sut.postGameInitialization(GAME_ID, new int[]{1, -1, 0, 1, 1, 0})))
+      .isEqualTo("There are negative amount of stones on pit 1. Fix the initialization board and retry.");
+    assertThat(detailOf(sut.postGameInitialization(GAME_ID, bigBoard)))
+      .isEqualTo("There are negative amount of stones on pit 450. Fix the initialization board and retry.");
+  }
+
+  private static String detailOf(ResponseEntity<byte[]> response) {
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    return JsonPath.from(new String(response.getBody(), UTF_8)).getString("detail");
   }
 }
@@ -7,14 +7,17 @@ import static io.restassured.RestAssured.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 
 class PostGameMovementIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "PostGameMovementIT";
+
   @Test
   void given_wrong_movement_response_is_problem() {
-    delete().andReturn();
+    delete("/games/{gameId}", GAME_ID).andReturn();
     var body = given()
       .body(new Integer[]{1, 1, 0, 0})
-      .post("/initialize")
+      .post("/games/{gameId}/initialize", GAME_ID)
       .then()
       .assertThat()
       .statusCode(BAD_REQUEST.value())
@@ -27,12 +30,28 @@ class PostGameMovementIT extends IntegrationTestsBase {
     assertThat(body.getString("detail")).isEqualTo("The board should have at least two pits plus a base per player.");
   }
 
+  @Test
+  void given_a_null_pit_response_is_problem() {
+    var body = given()
+      .body("null")
+      .post("/games/{gameId}/move", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(BAD_REQUEST.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(body.getString("type")).isEqualTo("http://localhost/errors/BoardMoveException");
+    assertThat(body.getString("detail")).isEqualTo("Provide the pit to move the stones from.");
+  }
+
   @Test
   void given_proper_movement_response_is_200_and_game_status() {
-    delete().andReturn();
+    delete("/games/{gameId}", GAME_ID).andReturn();
     var body = given()
       .body(new Integer[]{1, 1, 0, 1, 1, 0})
-      .post("/initialize")
+      .post("/games/{gameId}/initialize", GAME_ID)
       .then()
       .assertThat()
       .statusCode(OK.value())
@@ -51,4 +70,41 @@ class PostGameMovementIT extends IntegrationTestsBase {
       Game: PLAYABLE
       """);
   }
+
+  @Test
+  void given_a_move_on_an_older_version_response_is_412_and_problem_with_the_current_version() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    var eTag = given()
+      .body(new Integer[]{1, 1, 0, 1, 1, 0})
+      .post("/games/{gameId}/initialize", GAME_ID)
+      .then()
+      .statusCode(OK.value())
+      .extract()
+      .header("ETag");
+    var movedETag = given()
+      .header("If-Match", eTag)
+      .body(0)
+      .post("/games/{gameId}/move", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(OK.value())
+      .extract()
+      .header("ETag");
+
+    var body = given()
+      .header("If-Match", eTag)
+      .body(3)
+      .post("/games/{gameId}/move", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(PRECONDITION_FAILED.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    final var version = Long.parseLong(eTag.substring(1, eTag.length() - 1));
+    assertThat(movedETag).isEqualTo("\"" + (version + 1) + "\"");
+    assertThat(body.getString("type")).isEqualTo("http://localhost/errors/GameVersionMismatchException");
+    assertThat(body.getLong("currentVersion")).isEqualTo(version + 1);
+  }
 }
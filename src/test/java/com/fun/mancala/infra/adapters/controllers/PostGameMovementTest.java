@@ -1,29 +1,36 @@
 package com.fun.mancala.infra.adapters.controllers;
 
 import com.fun.mancala.application.GameManager;
-import com.fun.mancala.application.exceptions.BoardMoveException;
+import com.fun.mancala.application.exceptions.GameVersionMismatchException;
+import com.fun.mancala.infra.adapters.http.RuleViolationProblems;
+import io.restassured.path.json.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.ResponseEntity;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
 
 class PostGameMovementTest {
+  private static final String GAME_ID = "game";
+  private GameManager game;
   private PostGameMovement sut;
 
   @BeforeEach
   void initializeTest() {
-    var game = new GameManager();
-    game.initialize(new Integer[]{1, 1, 0, 1, 1, 0});
-    this.sut = new PostGameMovement(game);
+    this.game = new GameManager();
+    game.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+    this.sut = new PostGameMovement(game, new RuleViolationProblems());
   }
 
   @Test
   void player_one_should_play_first() {
-    final var response = sut.postGameMovement(0);
+    final var response = sut.postGameMovement(GAME_ID, 0, null);
 
-    assertThat(response).isEqualTo(ResponseEntity.ok("""
+    assertThat(new String(response.getBody(), UTF_8)).isEqualTo("""
       Current Board:
         Player ONE: | 0 | 2 || 0 |
         Player TWO: | 1 | 1 || 0 |
@@ -32,29 +39,45 @@ class PostGameMovementTest {
         Player TWO: 0
       Current Player: TWO
       Game: PLAYABLE
-      """));
+      """);
   }
 
   @Test
   void player_one_cannot_move_player_two_stones() {
-    assertThatThrownBy(() -> sut.postGameMovement(4))
-      .isInstanceOf(BoardMoveException.class)
-      .hasMessage("Those stones are not yours to move.");
+    final var response = sut.postGameMovement(GAME_ID, 4, null);
+
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    assertThat(detailOf(response)).isEqualTo("Those stones are not yours to move.");
   }
 
   @Test
   void player_one_cannot_move_stones_from_base() {
-    assertThatThrownBy(() -> sut.postGameMovement(2))
-      .isInstanceOf(BoardMoveException.class)
-      .hasMessage("The stones at the base should not be moved.");
+    final var response = sut.postGameMovement(GAME_ID, 2, null);
+
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    assertThat(detailOf(response)).isEqualTo("The stones at the base should not be moved.");
+  }
+
+  @Test
+  void pits_off_the_board_are_a_problem() {
+    assertThat(detailOf(sut.postGameMovement(GAME_ID, 6, null))).isEqualTo("Choose a pit on the board.");
+    assertThat(detailOf(sut.postGameMovement(GAME_ID, -1, null))).isEqualTo("Choose a pit on the board.");
+  }
+
+  @Test
+  void a_missing_pit_is_a_problem() {
+    final var response = sut.postGameMovement(GAME_ID, null, null);
+
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    assertThat(detailOf(response)).isEqualTo("Provide the pit to move the stones from.");
   }
 
   @Test
   void player_two_should_play_second() {
-    sut.postGameMovement(0);
-    final var response = sut.postGameMovement(3);
+    sut.postGameMovement(GAME_ID, 0, null);
+    final var response = sut.postGameMovement(GAME_ID, 3, null);
 
-    assertThat(response).isEqualTo(ResponseEntity.ok("""
+    assertThat(new String(response.getBody(), UTF_8)).isEqualTo("""
       Current Board:
         Player ONE: | 0 | 2 || 0 |
         Player TWO: | 0 | 2 || 0 |
@@ -63,38 +86,41 @@ class PostGameMovementTest {
         Player TWO: 0
       Current Player: ONE
       Game: PLAYABLE
-      """));
+      """);
   }
 
   @Test
   void player_two_cannot_play_first() {
-    assertThatThrownBy(() -> sut.postGameMovement(3))
-      .isInstanceOf(BoardMoveException.class)
-      .hasMessage("Those stones are not yours to move.");
+    final var response = sut.postGameMovement(GAME_ID, 3, null);
+
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    assertThat(detailOf(response)).isEqualTo("Those stones are not yours to move.");
   }
 
   @Test
   void player_two_cannot_move_player_one_stones() {
-    sut.postGameMovement(0);
-    assertThatThrownBy(() -> sut.postGameMovement(1))
-      .isInstanceOf(BoardMoveException.class)
-      .hasMessage("Those stones are not yours to move.");
+    sut.postGameMovement(GAME_ID, 0, null);
+    final var response = sut.postGameMovement(GAME_ID, 1, null);
+
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    assertThat(detailOf(response)).isEqualTo("Those stones are not yours to move.");
   }
 
   @Test
   void player_two_cannot_move_stones_from_base() {
-    sut.postGameMovement(0);
-    assertThatThrownBy(() -> sut.postGameMovement(5))
-      .isInstanceOf(BoardMoveException.class)
-      .hasMessage("The stones at the base should not be moved.");
+    sut.postGameMovement(GAME_ID, 0, null);
+    final var response = sut.postGameMovement(GAME_ID, 5, null);
+
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    assertThat(detailOf(response)).isEqualTo("The stones at the base should not be moved.");
   }
 
   @Test
   void game_status_done_player_one_wins() {
-    sut.postGameMovement(1);
-    final var response = sut.postGameMovement(0);
+    sut.postGameMovement(GAME_ID, 1, null);
+    final var response = sut.postGameMovement(GAME_ID, 0, null);
 
-    assertThat(response).isEqualTo(ResponseEntity.ok("""
+    assertThat(new String(response.getBody(), UTF_8)).isEqualTo("""
         Final Board:
           Player ONE: | 0 | 0 || 3 |
           Player TWO: | 1 | 0 || 0 |
@@ -103,16 +129,16 @@ class PostGameMovementTest {
           Player TWO: 0
         Final Player: ONE
         Game: DONE
-        """));
+        """);
   }
 
   @Test
   void game_status_done_player_two_wins() {
-    sut.postGameMovement(0);
-    sut.postGameMovement(4);
-    final var response = sut.postGameMovement(3);
+    sut.postGameMovement(GAME_ID, 0, null);
+    sut.postGameMovement(GAME_ID, 4, null);
+    final var response = sut.postGameMovement(GAME_ID, 3, null);
 
-    assertThat(response).isEqualTo(ResponseEntity.ok("""
+    assertThat(new String(response.getBody(), UTF_8)).isEqualTo("""
         Final Board:
           Player ONE: | 0 | 0 || 0 |
           Player TWO: | 0 | 0 || 4 |
@@ -121,16 +147,92 @@ class PostGameMovementTest {
           Player TWO: 4
         Final Player: TWO
         Game: DONE
-        """));
+        """);
+  }
+
+  @Test
+  void after_game_finished_moves_are_a_problem() {
+    sut.postGameMovement(GAME_ID, 1, null);
+    sut.postGameMovement(GAME_ID, 0, null);
+
+    final var response = sut.postGameMovement(GAME_ID, 2, null);
+
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    assertThat(detailOf(response)).isEqualTo("Game has ended. Player ONE won.");
+  }
+
+  @Test
+  void the_moved_status_is_tagged_with_the_version_of_the_game() {
+    final var response = sut.postGameMovement(GAME_ID, 0, null);
+
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"1\"");
+  }
+
+  @Test
+  void a_move_expecting_the_current_version_is_made() {
+    sut.postGameMovement(GAME_ID, 0, "\"0\"");
+    final var response = sut.postGameMovement(GAME_ID, 3, "\"1\"");
+
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"2\"");
+  }
+
+  @Test
+  void a_move_expecting_an_older_version_is_rejected() {
+    sut.postGameMovement(GAME_ID, 0, "\"0\"");
+
+    assertThatThrownBy(() -> sut.postGameMovement(GAME_ID, 3, "\"0\""))
+      .isInstanceOf(GameVersionMismatchException.class)
+      .hasMessage("The game has moved on to version 1. Read its status and retry.");
+  }
+
+  @Test
+  void a_move_expecting_a_version_of_a_cleared_game_is_rejected_by_the_game_initialized_again() {
+    final var clearedETag = sut.postGameMovement(GAME_ID, 0, "\"0\"").getHeaders().getETag();
+    game.clearGame(GAME_ID);
+    game.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+
+    assertThatThrownBy(() -> sut.postGameMovement(GAME_ID, 0, "\"0\""))
+      .isInstanceOf(GameVersionMismatchException.class)
+      .hasMessage("The game has moved on to version 2. Read its status and retry.");
+    sut.postGameMovement(GAME_ID, 0, "\"2\"");
+    assertThatThrownBy(() -> sut.postGameMovement(GAME_ID, 3, clearedETag))
+      .isInstanceOf(GameVersionMismatchException.class)
+      .hasMessage("The game has moved on to version 3. Read its status and retry.");
+  }
+
+  @Test
+  void a_move_expecting_any_version_is_made() {
+    final var response = sut.postGameMovement(GAME_ID, 0, "*");
+
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"1\"");
+  }
+
+  @Test
+  void a_move_expecting_a_tag_that_is_not_a_version_is_rejected() {
+    assertThatThrownBy(() -> sut.postGameMovement(GAME_ID, 0, "W/\"0\""))
+      .isInstanceOf(GameVersionMismatchException.class);
   }
 
   @Test
-  void after_game_finished_throw_exception() {
-    sut.postGameMovement(1);
-    sut.postGameMovement(0);
+  void a_move_breaking_a_rule_is_answered_with_the_same_problem_every_time() {
+    final var first = sut.postGameMovement(GAME_ID, 4, null);
+    final var second = sut.postGameMovement(GAME_ID, 4, null);
+
+    assertThat(first).isSameAs(second);
+    assertThat(first.getHeaders().getContentType()).isEqualTo(APPLICATION_PROBLEM_JSON);
+    assertThat(new String(first.getBody(), UTF_8))
+      .contains("\"type\":\"http://localhost/errors/BoardMoveException\"", "\"title\":\"Bad Request\"", "\"status\":400");
+  }
+
+  @Test
+  void a_move_on_a_game_that_is_not_initialized_is_a_problem() {
+    final var response = sut.postGameMovement("unknown", 0, null);
+
+    assertThat(response.getStatusCode()).isEqualTo(BAD_REQUEST);
+    assertThat(detailOf(response)).isEqualTo("The board has not been initialized yet.");
+  }
 
-    assertThatThrownBy(() -> sut.postGameMovement(2))
-      .isInstanceOf(BoardMoveException.class)
-      .hasMessage("Game has ended. Player ONE won.");
+  private static String detailOf(ResponseEntity<byte[]> response) {
+    return JsonPath.from(new String(response.getBody(), UTF_8)).getString("detail");
   }
 }
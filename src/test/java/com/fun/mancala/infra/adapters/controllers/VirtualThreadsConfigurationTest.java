@@ -0,0 +1,26 @@
+package com.fun.mancala.infra.adapters.controllers;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadsConfigurationTest {
+  @Test
+  @SuppressWarnings("unchecked")
+  void requests_are_handled_on_virtual_threads() throws Exception {
+    final var protocol = new Http11NioProtocol();
+    final var customizer = (TomcatProtocolHandlerCustomizer<ProtocolHandler>) new VirtualThreadsConfiguration().virtualThreadsProtocolHandlerCustomizer();
+
+    customizer.customize(protocol);
+    final var handledOnVirtualThread = new CompletableFuture<Boolean>();
+    protocol.getExecutor().execute(() -> handledOnVirtualThread.complete(Thread.currentThread().isVirtual()));
+
+    assertThat(handledOnVirtualThread.get(5, TimeUnit.SECONDS)).isTrue();
+  }
+}
@@ -0,0 +1,39 @@
+package com.fun.mancala.infra.adapters.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.time.Duration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecordingTest {
+  @Test
+  void the_shipped_settings_only_record_slow_operations_over_the_default_ones() throws IOException {
+    try (var settings = new InputStreamReader(new ClassPathResource("jfr/mancala.jfc").getInputStream(), UTF_8);
+         var sut = new FlightRecording(settings, Duration.ofMinutes(1), 10_000_000)) {
+
+      assertThat(sut.settings())
+        .containsEntry("com.fun.mancala.MoveApplied#enabled", "true")
+        .containsEntry("com.fun.mancala.MoveApplied#threshold", "1 ms")
+        .containsEntry("com.fun.mancala.MoveApplied#stackTrace", "false")
+        .containsEntry("com.fun.mancala.GameInitialized#threshold", "1 ms")
+        .containsEntry("com.fun.mancala.StatusRendered#threshold", "1 ms")
+        .containsEntry("com.fun.mancala.RuleViolation#enabled", "false")
+        .containsEntry("jdk.GarbageCollection#enabled", "true")
+        .containsEntry("jdk.ObjectAllocationSample#enabled", "true");
+    }
+  }
+
+  @Test
+  void settings_that_are_not_a_flight_recorder_configuration_are_rejected() {
+    assertThatThrownBy(() -> new FlightRecording(new StringReader("not a configuration"), Duration.ofMinutes(1), 10_000_000))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("The flight recorder settings cannot be parsed.");
+  }
+}
@@ -0,0 +1,81 @@
+package com.fun.mancala.infra.adapters.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static com.fun.mancala.application.exceptions.RuleViolation.EMPTY_PIT;
+import static com.fun.mancala.application.exceptions.RuleViolation.GAME_ENDED;
+import static com.fun.mancala.domain.models.MoveOutcome.CAPTURE;
+import static com.fun.mancala.domain.models.MoveOutcome.EXTRA_TURN;
+import static com.fun.mancala.domain.models.MoveOutcome.FINISHED;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerGameMetricsTest {
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final MicrometerGameMetrics sut = new MicrometerGameMetrics(registry);
+
+  @Test
+  void moves_are_timed_and_counted_by_what_they_did() {
+    sut.moved(2_000, 0);
+    sut.moved(4_000, CAPTURE);
+    sut.moved(6_000, EXTRA_TURN);
+    sut.moved(8_000, CAPTURE | FINISHED);
+
+    final var moves = registry.get("mancala.games.move").timer();
+    assertThat(moves.count()).isEqualTo(4);
+    assertThat(moves.totalTime(MICROSECONDS)).isEqualTo(20);
+    assertThat(moves.max(MICROSECONDS)).isEqualTo(8);
+    assertThat(registry.get("mancala.games.captures").counter().count()).isEqualTo(2);
+    assertThat(registry.get("mancala.games.extra.turns").counter().count()).isEqualTo(1);
+    assertThat(registry.get("mancala.games.finished").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void initializations_and_renderings_are_timed_apart() {
+    sut.initialized(1_000);
+    sut.statusRendered(3_000);
+    sut.statusRendered(5_000);
+
+    assertThat(registry.get("mancala.games.initialize").timer().count()).isEqualTo(1);
+    assertThat(registry.get("mancala.games.status.render").timer().totalTime(MICROSECONDS)).isEqualTo(8);
+  }
+
+  @Test
+  void rejections_are_counted_by_reason() {
+    sut.rejected(EMPTY_PIT);
+    sut.rejected(EMPTY_PIT);
+    sut.rejected(GAME_ENDED);
+
+    assertThat(registry.get("mancala.games.rejections").tag("reason", "empty_pit").counter().count()).isEqualTo(2);
+    assertThat(registry.get("mancala.games.rejections").tag("reason", "game_ended").counter().count()).isEqualTo(1);
+    assertThat(registry.get("mancala.games.rejections").tag("reason", "base_pit").counter().count()).isZero();
+  }
+
+  @Test
+  void recording_in_the_prometheus_registry_does_not_allocate() {
+    final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final var metrics = new MicrometerGameMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+    final Runnable recording = () -> {
+      for (int move = 0; move < 10_000; move++) {
+        metrics.moved(1_000 + move, move % 7 == 0 ? CAPTURE : move % 5 == 0 ? EXTRA_TURN : 0);
+        metrics.statusRendered(2_000 + move);
+      }
+    };
+    // let the JIT settle before measuring, the interpreter is not what runs under load
+    for (int warmup = 0; warmup < 100; warmup++)
+      recording.run();
+
+    final var before = threads.getCurrentThreadAllocatedBytes();
+    final var baseline = threads.getCurrentThreadAllocatedBytes() - before;
+    for (int round = 0; round < 5; round++) {
+      final var start = threads.getCurrentThreadAllocatedBytes();
+      recording.run();
+      assertThat(threads.getCurrentThreadAllocatedBytes() - start).isLessThanOrEqualTo(baseline);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.fun.mancala.infra.adapters.metrics;
+
+import com.fun.mancala.IntegrationTestsBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+
+import static io.restassured.RestAssured.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.OK;
+
+// the tests turn the metrics exporters off unless they are asked for
+@AutoConfigureObservability
+class PrometheusScrapeIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "PrometheusScrapeIT";
+
+  @Test
+  void the_metrics_of_the_games_are_scraped_in_the_prometheus_format() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 2, 2, 0}).post("/games/{gameId}/initialize", GAME_ID).then().statusCode(OK.value());
+    given().body(new Integer[]{1, 0}).post("/games/{gameId}/move/batch", GAME_ID).then().statusCode(OK.value());
+    given().body(3).post("/games/{gameId}/move", GAME_ID).then().statusCode(BAD_REQUEST.value());
+    get("/games/{gameId}/status", GAME_ID).then().statusCode(OK.value());
+
+    final var scrape = get("/actuator/prometheus")
+      .then()
+      .assertThat()
+      .statusCode(OK.value())
+      .extract()
+      .asString();
+
+    assertThat(scrape).contains(
+      "mancala_games_initialize_seconds_count",
+      "mancala_games_move_seconds_bucket{le=",
+      "mancala_games_status_render_seconds_sum",
+      "mancala_games_captures_total",
+      "mancala_games_extra_turns_total",
+      "mancala_games_finished_total",
+      "mancala_games_rejections_total{reason=\"game_ended\",}",
+      "mancala_games_live ",
+      "mancala_games_estimated_bytes ",
+      "mancala_games_restore_seconds ",
+      "mancala_games_restore_snapshot_games ",
+      "mancala_games_restore_replayed_moves ",
+      "http_server_requests_seconds_bucket{"
+    );
+  }
+}
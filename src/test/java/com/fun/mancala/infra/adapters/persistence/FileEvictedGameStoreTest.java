@@ -0,0 +1,138 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.EvictionPolicy;
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ports.GameSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileEvictedGameStoreTest {
+  private final List<MappedFileGameJournal> journals = new ArrayList<>();
+
+  @TempDir
+  Path directory;
+
+  @AfterEach
+  void closeJournals() {
+    journals.forEach(MappedFileGameJournal::close);
+  }
+
+  @Test
+  void a_spilled_game_is_read_back_as_it_was_until_deleted() throws IOException {
+    final var store = new FileEvictedGameStore(directory.resolve("evicted"));
+    final var game = new GameSnapshot("game-1", 7, TWO, PLAYABLE, new int[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+    store.save(game);
+
+    try (var files = Files.list(directory.resolve("evicted"))) {
+      assertThat(files.map(file -> file.getFileName().toString())).containsExactly("game-1.game");
+    }
+    assertThat(store.read("game-1")).isEqualTo(game);
+    assertThat(store.read("game-1")).isEqualTo(game);
+    store.delete("game-1");
+    assertThat(store.read("game-1")).isNull();
+  }
+
+  @Test
+  void spilling_a_game_again_replaces_it() {
+    final var store = new FileEvictedGameStore(directory);
+    store.save(new GameSnapshot("game", 1, TWO, PLAYABLE, new int[]{1, 1, 0, 1, 1, 0}));
+    final var later = new GameSnapshot("game", 2, TWO, DONE, new int[]{0, 0, 3, 1, 0, 0});
+
+    store.save(later);
+
+    assertThat(store.read("game")).isEqualTo(later);
+  }
+
+  @Test
+  void deleted_and_unknown_games_are_not_there() {
+    final var store = new FileEvictedGameStore(directory);
+    store.save(new GameSnapshot("game", 1, TWO, PLAYABLE, new int[]{1, 1, 0, 1, 1, 0}));
+
+    store.delete("game");
+    store.delete("unknown");
+
+    assertThat(store.read("game")).isNull();
+    assertThat(store.read("unknown")).isNull();
+  }
+
+  @Test
+  void a_game_spilled_during_a_snapshot_and_moved_once_brought_back_survives_a_restart() {
+    final var gameManager = gameManager();
+    gameManager.initialize("spilled", new int[]{2, 2, 0, 2, 2, 0});
+    gameManager.moveStonesFrom("spilled", 1);
+    // only one game fits, so the second one spills the first
+    gameManager.initialize("other", new int[]{1, 1, 0, 1, 1, 0});
+    assertThat(gameManager.liveGames()).isEqualTo(1);
+    // the snapshot leaves the spilled game out and drops the journal it was rebuilt from
+    gameManager.snapshot();
+    gameManager.moveStonesFrom("spilled", 4);
+
+    final var restarted = gameManager();
+
+    assertThat(restarted.gameStatus("spilled")).isEqualTo(gameManager.gameStatus("spilled"));
+    assertThat(restarted.gameStatus("other")).isEqualTo(gameManager.gameStatus("other"));
+    restarted.snapshot();
+    restarted.moveStonesFrom("spilled", 0);
+
+    final var restartedTwice = gameManager();
+
+    assertThat(restartedTwice.gameStatus("spilled")).isEqualTo(restarted.gameStatus("spilled"));
+    assertThat(restartedTwice.gameStatus("other")).isEqualTo(restarted.gameStatus("other"));
+  }
+
+  @Test
+  void a_game_whose_restoration_cannot_be_journaled_stays_spilled() {
+    final var failing = new AtomicBoolean();
+    final var journal = new MappedFileGameJournal(directory.resolve("journal"), 64 * 1024, true, Duration.ZERO) {
+      @Override
+      public void restored(GameSnapshot game) {
+        if (failing.get()) throw new UncheckedIOException(new IOException("The disk is full."));
+        super.restored(game);
+      }
+    };
+    journals.add(journal);
+    final var gameManager = gameManager(journal);
+    gameManager.initialize("spilled", new int[]{2, 2, 0, 2, 2, 0});
+    gameManager.moveStonesFrom("spilled", 1);
+    gameManager.initialize("other", new int[]{1, 1, 0, 1, 1, 0});
+    gameManager.snapshot();
+    final var spilledFile = directory.resolve("evicted").resolve("spilled.game");
+    failing.set(true);
+
+    assertThatThrownBy(() -> gameManager.moveStonesFrom("spilled", 4)).hasMessageContaining("The disk is full.");
+
+    assertThat(spilledFile).exists();
+    failing.set(false);
+    assertThat(gameManager.moveStonesFrom("spilled", 4).pits()).containsExactly(3, 0, 1, 3, 0, 1);
+    assertThat(spilledFile).doesNotExist();
+    assertThat(gameManager().gameStatus("spilled")).isEqualTo(gameManager.gameStatus("spilled"));
+  }
+
+  private GameManager gameManager() {
+    final var journal = new MappedFileGameJournal(directory.resolve("journal"), 64 * 1024, true, Duration.ZERO);
+    journals.add(journal);
+    return gameManager(journal);
+  }
+
+  private GameManager gameManager(MappedFileGameJournal journal) {
+    return new GameManager(journal, new FileGameSnapshotStore(directory.resolve("snapshots")),
+      new EvictionPolicy(Duration.ZERO, Duration.ZERO, 1, Long.MAX_VALUE), new FileEvictedGameStore(directory.resolve("evicted")));
+  }
+}
@@ -0,0 +1,113 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ports.GameSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileGameSnapshotStoreTest {
+  private final List<MappedFileGameJournal> journals = new ArrayList<>();
+
+  @TempDir
+  Path directory;
+
+  @AfterEach
+  void closeJournals() {
+    journals.forEach(MappedFileGameJournal::close);
+  }
+
+  @Test
+  void the_latest_snapshot_is_loaded_with_its_checkpoint() {
+    final var store = new FileGameSnapshotStore(directory.resolve("snapshots"));
+    final var first = new GameSnapshot("first", 3, TWO, PLAYABLE, new int[]{1, 2, 3, 4, 5, 6});
+    final var second = new GameSnapshot("second", 9, ONE, DONE, new int[]{0, 0, 7, 1, 2, 3});
+    store.save(1, Stream.of(first));
+    store.save(4, Stream.of(first, second));
+
+    final var loaded = new ArrayList<GameSnapshot>();
+    final var checkpoint = store.loadLatest(loaded::add);
+
+    assertThat(checkpoint).hasValue(4);
+    assertThat(loaded).containsExactly(first, second);
+  }
+
+  @Test
+  void older_snapshots_are_deleted() throws IOException {
+    final var store = new FileGameSnapshotStore(directory);
+    store.save(1, Stream.empty());
+    store.save(2, Stream.empty());
+
+    try (var files = Files.list(directory)) {
+      assertThat(files.map(file -> file.getFileName().toString())).containsExactly("snapshot-00000000000000000002.bin");
+    }
+  }
+
+  @Test
+  void nothing_is_loaded_without_snapshots() {
+    assertThat(new FileGameSnapshotStore(directory).loadLatest(game -> {
+      throw new AssertionError("No game expected");
+    })).isEmpty();
+  }
+
+  @Test
+  void only_the_journal_written_after_the_snapshot_is_replayed() throws IOException {
+    final var gameManager = gameManager();
+    gameManager.initialize("snapshotted", new int[]{2, 2, 0, 2, 2, 0});
+    gameManager.initialize("cleared", new int[]{1, 1, 0, 1, 1, 0});
+    gameManager.moveStonesFrom("snapshotted", 1);
+    gameManager.moveStonesFrom("snapshotted", 4);
+    gameManager.clearGame("cleared");
+    gameManager.snapshot();
+    gameManager.moveStonesFrom("snapshotted", 0);
+    gameManager.initialize("after", new int[]{3, 3, 0, 3, 3, 0});
+    gameManager.moveStonesFrom("after", 1);
+
+    final var restored = gameManager();
+
+    assertThat(restored.restoration().snapshotGames()).isEqualTo(1);
+    assertThat(restored.restoration().replayedMoves()).isEqualTo(2);
+    assertThat(restored.gameStatus("snapshotted")).isEqualTo(gameManager.gameStatus("snapshotted"));
+    assertThat(restored.gameStatus("after")).isEqualTo(gameManager.gameStatus("after"));
+    try (var segments = Files.list(directory.resolve("journal"))) {
+      assertThat(segments.map(file -> file.getFileName().toString())).containsExactly("journal-00000000000000000001.log");
+    }
+  }
+
+  @Test
+  void a_snapshot_of_a_restored_game_keeps_its_version() {
+    final var gameManager = gameManager();
+    gameManager.initialize("game", new int[]{2, 2, 0, 2, 2, 0});
+    gameManager.moveStonesFrom("game", 1);
+    gameManager.snapshot();
+    final var restored = gameManager();
+    restored.moveStonesFrom("game", 4);
+    restored.snapshot();
+    restored.moveStonesFrom("game", 0);
+
+    final var restoredTwice = gameManager();
+
+    assertThat(restoredTwice.restoration().replayedMoves()).isEqualTo(1);
+    assertThat(restoredTwice.gameStatus("game")).isEqualTo(restored.gameStatus("game"));
+  }
+
+  private GameManager gameManager() {
+    final var journal = new MappedFileGameJournal(directory.resolve("journal"), 64 * 1024, true, Duration.ZERO);
+    journals.add(journal);
+    return new GameManager(journal, new FileGameSnapshotStore(directory.resolve("snapshots")));
+  }
+}
@@ -0,0 +1,57 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.ports.EndgameTablebase;
+import com.fun.mancala.domain.models.Board;
+import com.fun.mancala.domain.models.GameState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedFileEndgameTablebaseTest {
+  @TempDir
+  Path directory;
+
+  @Test
+  void a_generated_file_is_mapped_back() throws IOException {
+    final var file = directory.resolve("tablebases/tablebase.bin");
+
+    MappedFileEndgameTablebase.generate(file, 6, 5);
+    final var tablebase = new MappedFileEndgameTablebase(file);
+
+    assertThat(tablebase.pits()).isEqualTo(6);
+    assertThat(tablebase.maximumStones()).isEqualTo(5);
+    assertThat(tablebase.probe(GameState.of(new Board(new int[]{0, 1, 0, 2, 2, 0}), ONE, PLAYABLE))).isEqualTo(1);
+    try (var files = Files.list(file.getParent())) {
+      assertThat(files.map(path -> path.getFileName().toString())).containsExactly("tablebase.bin");
+    }
+  }
+
+  @Test
+  void positions_out_of_the_file_are_unknown() {
+    final var file = directory.resolve("tablebase.bin");
+    MappedFileEndgameTablebase.generate(file, 6, 3);
+
+    final var tablebase = new MappedFileEndgameTablebase(file);
+
+    assertThat(tablebase.probe(GameState.of(new Board(new int[]{2, 2, 0, 2, 2, 0}), TWO, PLAYABLE))).isEqualTo(EndgameTablebase.UNKNOWN);
+    assertThat(tablebase.probe(GameState.of(new Board(new int[]{1, 1, 1, 0, 1, 1, 1, 0}), TWO, PLAYABLE))).isEqualTo(EndgameTablebase.UNKNOWN);
+  }
+
+  @Test
+  void other_files_are_rejected() throws IOException {
+    final var file = Files.write(directory.resolve("other.bin"), new byte[64]);
+
+    assertThatThrownBy(() -> new MappedFileEndgameTablebase(file))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage(file + " is not an endgame tablebase.");
+  }
+}
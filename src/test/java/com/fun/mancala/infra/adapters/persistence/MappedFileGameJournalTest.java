@@ -0,0 +1,181 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ports.GameSnapshot;
+import com.fun.mancala.application.ports.GameSnapshotStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedFileGameJournalTest {
+  private static final int SEGMENT_SIZE = 64 * 1024;
+  private final List<MappedFileGameJournal> journals = new ArrayList<>();
+
+  @TempDir
+  Path directory;
+
+  @AfterEach
+  void closeJournals() {
+    journals.forEach(MappedFileGameJournal::close);
+  }
+
+  @Test
+  void games_are_rebuilt_from_the_journal() {
+    final var gameManager = new GameManager(journal(SEGMENT_SIZE), GameSnapshotStore.NONE);
+    gameManager.initialize("first", new int[]{2, 2, 0, 2, 2, 0});
+    gameManager.initialize("second", new int[]{1, 1, 0, 1, 1, 0});
+    gameManager.initialize("cleared", new int[]{1, 1, 0, 1, 1, 0});
+    gameManager.moveStonesFrom("first", 1);
+    gameManager.moveStonesFrom("first", 4);
+    gameManager.moveStonesFrom("second", new int[]{0, 3});
+    gameManager.clearGame("cleared");
+
+    final var restored = new GameManager(journal(SEGMENT_SIZE), GameSnapshotStore.NONE);
+
+    assertThat(restored.gameStatus("first")).isEqualTo(gameManager.gameStatus("first"));
+    assertThat(restored.gameStatus("second")).isEqualTo(gameManager.gameStatus("second"));
+    assertThat(restored.moveStonesFrom("first", 0).pits()).containsExactly(0, 1, 2, 4, 0, 1);
+    assertThatThrownBy(() -> restored.gameStatus("cleared"))
+      .hasMessage("The board has not been initialized yet.");
+  }
+
+  @Test
+  void a_restored_game_keeps_being_journaled() {
+    final var gameManager = new GameManager(journal(SEGMENT_SIZE), GameSnapshotStore.NONE);
+    gameManager.initialize("game", new int[]{2, 2, 0, 2, 2, 0});
+    gameManager.moveStonesFrom("game", 1);
+
+    final var restored = new GameManager(journal(SEGMENT_SIZE), GameSnapshotStore.NONE);
+    restored.moveStonesFrom("game", 4);
+    final var restoredTwice = new GameManager(journal(SEGMENT_SIZE), GameSnapshotStore.NONE);
+
+    assertThat(restoredTwice.gameStatus("game")).isEqualTo(restored.gameStatus("game"));
+  }
+
+  @Test
+  void a_cleared_and_initialized_again_game_is_rebuilt_from_its_last_initialization() {
+    final var gameManager = new GameManager(journal(SEGMENT_SIZE), GameSnapshotStore.NONE);
+    gameManager.initialize("game", new int[]{2, 2, 0, 2, 2, 0});
+    gameManager.moveStonesFrom("game", 1);
+    gameManager.clearGame("game");
+    gameManager.initialize("game", new int[]{3, 3, 0, 3, 3, 0});
+
+    final var restored = new GameManager(journal(SEGMENT_SIZE), GameSnapshotStore.NONE);
+
+    assertThat(restored.gameStatus("game")).contains("Player ONE: | 3 | 3 || 0 |", "Current Player: ONE");
+  }
+
+  @Test
+  void a_game_initialized_again_is_rebuilt_past_the_versions_of_the_cleared_one() {
+    final var gameManager = new GameManager(journal(SEGMENT_SIZE), GameSnapshotStore.NONE);
+    gameManager.initialize("game", new int[]{2, 2, 0, 2, 2, 0});
+    gameManager.moveStonesFrom("game", 1);
+    gameManager.clearGame("game");
+    gameManager.initialize("game", new int[]{3, 3, 0, 3, 3, 0});
+
+    final var restored = new GameManager(journal(SEGMENT_SIZE), GameSnapshotStore.NONE);
+    restored.clearGame("game");
+    restored.initialize("game", new int[]{3, 3, 0, 3, 3, 0});
+
+    assertThat(gameManager.renderedGameStatus("game").version()).isEqualTo(2);
+    assertThat(restored.renderedGameStatus("game").version()).isEqualTo(3);
+  }
+
+  @Test
+  void a_restored_game_is_rebuilt_as_it_was_restored_with_the_moves_after_it() {
+    final var journal = journal(SEGMENT_SIZE);
+    journal.initialized("game", 0, new int[]{2, 2, 0, 2, 2, 0});
+    journal.restored(new GameSnapshot("game", 41, TWO, PLAYABLE, new int[]{1, 1, 0, 0, 0, 0, 140, 1, 2, 0, 0, 0, 0, 130}));
+    journal.moved("game", 42, 7);
+
+    final var restored = new GameManager(journal(SEGMENT_SIZE), GameSnapshotStore.NONE);
+
+    assertThat(restored.renderedGameStatus("game").version()).isEqualTo(42);
+    assertThat(restored.gameStatus("game")).contains("Player ONE: 140\n", "Player TWO: 130\n", "Current Player: ONE");
+    assertThat(restored.moveStonesFrom("game", 0).pits()).containsExactly(0, 2, 0, 0, 0, 0, 140, 0, 3, 0, 0, 0, 0, 130);
+  }
+
+  @Test
+  void big_boards_and_full_segments_are_rebuilt() throws IOException {
+    final var bigBoard = new int[302];
+    Arrays.fill(bigBoard, 7);
+    bigBoard[150] = 0;
+    bigBoard[301] = 0;
+    final var gameManager = new GameManager(journal(1024), GameSnapshotStore.NONE);
+    for (int game = 0; game < 20; game++) {
+      gameManager.initialize("game-" + game, bigBoard.clone());
+      gameManager.moveStonesFrom("game-" + game, game);
+    }
+
+    final var restored = new GameManager(journal(1024), GameSnapshotStore.NONE);
+
+    try (var segments = Files.list(directory)) {
+      assertThat(segments.count()).isGreaterThan(1);
+    }
+    for (int game = 0; game < 20; game++)
+      assertThat(restored.gameStatus("game-" + game)).isEqualTo(gameManager.gameStatus("game-" + game));
+  }
+
+  @Test
+  void records_are_synced_periodically_without_group_commit() {
+    final var journal = new MappedFileGameJournal(directory, SEGMENT_SIZE, false, Duration.ofMillis(5));
+    journals.add(journal);
+    final var gameManager = new GameManager(journal, GameSnapshotStore.NONE);
+    gameManager.initialize("game", new int[]{2, 2, 0, 2, 2, 0});
+    gameManager.moveStonesFrom("game", 1);
+    journal.sync();
+
+    assertThat(new GameManager(journal(SEGMENT_SIZE), GameSnapshotStore.NONE).gameStatus("game")).isEqualTo(gameManager.gameStatus("game"));
+  }
+
+  @Test
+  void moves_on_many_games_at_once_are_all_committed() throws Exception {
+    final var gameManager = new GameManager(journal(1024), GameSnapshotStore.NONE);
+    final var executor = Executors.newFixedThreadPool(8);
+    try {
+      final var games = executor.invokeAll(IntStream.range(0, 64)
+        .mapToObj(game -> (Callable<String>) () -> {
+          gameManager.initialize("game-" + game, new int[]{2, 2, 0, 2, 2, 0});
+          gameManager.moveStonesFrom("game-" + game, 1);
+          return "game-" + game;
+        })
+        .toList());
+
+      final var restored = new GameManager(journal(1024), GameSnapshotStore.NONE);
+
+      for (var game : games)
+        assertThat(restored.gameStatus(game.get())).isEqualTo(gameManager.gameStatus(game.get()));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void segments_smaller_than_two_records_are_rejected() {
+    assertThatThrownBy(() -> new MappedFileGameJournal(directory, 128, false, Duration.ZERO))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("A journal segment should hold at least two records of 128 bytes.");
+  }
+
+  private MappedFileGameJournal journal(int segmentSize) {
+    final var journal = new MappedFileGameJournal(directory, segmentSize, true, Duration.ZERO);
+    journals.add(journal);
+    return journal;
+  }
+}
@@ -0,0 +1,111 @@
+package com.fun.mancala.infra.adapters.persistence;
+
+import com.fun.mancala.application.EvictionPolicy;
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ports.GameJournal;
+import com.fun.mancala.application.ports.GameSnapshot;
+import com.fun.mancala.application.ports.GameSnapshotStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static com.fun.mancala.domain.models.Player.ONE;
+import static com.fun.mancala.domain.models.Player.TWO;
+import static com.fun.mancala.domain.models.Status.DONE;
+import static com.fun.mancala.domain.models.Status.PLAYABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapEvictedGameStoreTest {
+  private final OffHeapEvictedGameStore sut = new OffHeapEvictedGameStore();
+
+  @Test
+  void a_spilled_game_is_read_back_as_it_was_until_deleted() {
+    final var first = new GameSnapshot("first", 7, TWO, PLAYABLE, new int[]{1, 2, 0, 4, 5, 0});
+    final var second = new GameSnapshot("second", 3, ONE, DONE, new int[]{0, 0, 9, 1, 2, 3, 0, 1});
+
+    sut.save(first);
+    sut.save(second);
+
+    assertThat(sut.size()).isEqualTo(2);
+    assertThat(sut.read("first")).isEqualTo(first);
+    assertThat(sut.read("first")).isEqualTo(first);
+    sut.delete("first");
+    assertThat(sut.read("first")).isNull();
+    assertThat(sut.read("second")).isEqualTo(second);
+    sut.delete("second");
+    assertThat(sut.size()).isZero();
+  }
+
+  @Test
+  void spilling_a_game_again_replaces_it() {
+    sut.save(new GameSnapshot("game", 1, TWO, PLAYABLE, new int[]{1, 1, 0, 1, 1, 0}));
+    final var later = new GameSnapshot("game", 2, TWO, DONE, new int[]{0, 0, 3, 1, 0, 0});
+
+    sut.save(later);
+
+    assertThat(sut.size()).isEqualTo(1);
+    assertThat(sut.read("game")).isEqualTo(later);
+  }
+
+  @Test
+  void the_records_of_deleted_and_replaced_games_are_reused() {
+    sut.save(new GameSnapshot("first", 1, ONE, PLAYABLE, new int[]{1, 1, 0, 1, 1, 0}));
+    final var bytes = sut.offHeapBytes();
+
+    for (int game = 0; game < 1_000; game++) {
+      sut.save(new GameSnapshot("game-" + game, game, ONE, PLAYABLE, new int[]{1, 1, 0, 1, 1, 0}));
+      if (game % 2 == 0) sut.save(new GameSnapshot("game-" + game, game + 1, TWO, PLAYABLE, new int[]{1, 1, 0, 1, 1, 0}));
+      sut.delete("game-" + game);
+    }
+
+    assertThat(sut.size()).isEqualTo(1);
+    assertThat(sut.offHeapBytes()).isEqualTo(bytes);
+  }
+
+  @Test
+  void games_of_every_size_are_spilled_read_and_deleted_at_once() throws Exception {
+    final var executor = Executors.newFixedThreadPool(8);
+    try {
+      final var read = executor.invokeAll(IntStream.range(0, 8)
+        .mapToObj(thread -> (Callable<Integer>) () -> {
+          final var board = new int[6 + 2 * (thread % 2)];
+          Arrays.fill(board, 1);
+          var games = 0;
+          for (int game = 0; game < 1_000; game++) {
+            final var gameId = "game-" + thread + "-" + game;
+            sut.save(new GameSnapshot(gameId, game, ONE, PLAYABLE, board));
+            if (sut.read(gameId).version() == game) games++;
+            sut.delete(gameId);
+          }
+          return games;
+        })
+        .toList());
+
+      for (var games : read)
+        assertThat(games.get()).isEqualTo(1_000);
+      assertThat(sut.size()).isZero();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void evicted_games_are_played_on_once_brought_back() {
+    final var gameManager = new GameManager(GameJournal.NONE, GameSnapshotStore.NONE,
+      new EvictionPolicy(Duration.ZERO, Duration.ZERO, 10, Long.MAX_VALUE), sut);
+    for (int game = 0; game < 100; game++) {
+      gameManager.initialize("game-" + game, new int[]{1, 2, 0, 3, 4, 0});
+      gameManager.moveStonesFrom("game-" + game, 1);
+    }
+
+    assertThat(gameManager.liveGames()).isEqualTo(10);
+    assertThat(sut.size()).isEqualTo(90);
+    for (int game = 0; game < 100; game++)
+      assertThat(gameManager.moveStonesFrom("game-" + game, 4, 1).pits()).containsExactly(2, 1, 1, 5, 0, 1);
+    assertThat(gameManager.liveGames() + sut.size()).isEqualTo(100);
+  }
+}
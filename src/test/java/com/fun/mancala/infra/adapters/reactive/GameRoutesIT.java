@@ -0,0 +1,121 @@
+package com.fun.mancala.infra.adapters.reactive;
+
+import com.fun.mancala.IntegrationTestsBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.springframework.http.HttpStatus.OK;
+
+@ActiveProfiles("reactive")
+class GameRoutesIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "GameRoutesIT";
+
+  @Test
+  void a_game_is_played_through_the_reactive_routes() {
+    delete("/games/{gameId}", GAME_ID).then().assertThat().statusCode(NO_CONTENT.value());
+    given().body(new Integer[]{1, 1, 0, 1, 1, 0}).post("/games/{gameId}/initialize", GAME_ID)
+      .then().assertThat().statusCode(OK.value());
+    given().body(0).post("/games/{gameId}/move", GAME_ID)
+      .then().assertThat().statusCode(OK.value());
+    given().body(new Integer[]{3}).post("/games/{gameId}/move/batch", GAME_ID)
+      .then().assertThat().statusCode(OK.value());
+
+    var body = get("/games/{gameId}/status", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(OK.value())
+      .contentType("text/plain;charset=UTF-8")
+      .extract()
+      .body()
+      .asString();
+
+    assertThat(body).isEqualTo("""
+      Current Board:
+        Player ONE: | 0 | 2 || 0 |
+        Player TWO: | 0 | 2 || 0 |
+      Current Score:
+        Player ONE: 0
+        Player TWO: 0
+      Current Player: ONE
+      Game: PLAYABLE
+      """);
+  }
+
+  @Test
+  void given_wrong_initialization_response_is_the_same_problem_as_the_servlet_one() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    var body = given()
+      .body(new Integer[]{1, 1, 0, 0})
+      .post("/games/{gameId}/initialize", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(BAD_REQUEST.value())
+      .contentType("application/problem+json")
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(body.getString("title")).isEqualTo(BAD_REQUEST.getReasonPhrase());
+    assertThat(body.getString("type")).isEqualTo("http://localhost/errors/BoardInitializationException");
+    assertThat(body.getString("detail")).isEqualTo("The board should have at least two pits plus a base per player.");
+  }
+
+  @Test
+  void given_a_wrong_movement_in_the_batch_response_is_problem_with_its_index() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 1, 0, 1, 1, 0}).post("/games/{gameId}/initialize", GAME_ID).andReturn();
+    var body = given()
+      .body(new Integer[]{0, 3, 3})
+      .post("/games/{gameId}/move/batch", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(BAD_REQUEST.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(body.getString("type")).isEqualTo("http://localhost/errors/BoardBatchMoveException");
+    assertThat(body.getString("detail")).isEqualTo("Those stones are not yours to move.");
+    assertThat(body.getInt("failedMove")).isEqualTo(2);
+  }
+
+  @Test
+  void the_computer_moves_through_the_reactive_routes() {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    final var eTag = given().body(new Integer[]{1, 1, 0, 1, 1, 0}).post("/games/{gameId}/initialize", GAME_ID)
+      .then().assertThat().statusCode(OK.value()).extract().header("ETag");
+    final var version = Long.parseLong(eTag.substring(1, eTag.length() - 1));
+
+    given().queryParam("budget", 20).post("/games/{gameId}/move/computer", GAME_ID)
+      .then().assertThat().statusCode(OK.value()).header("ETag", "\"" + (version + 1) + "\"");
+    var evaluation = get("/games/{gameId}/evaluation", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(OK.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(evaluation.getBoolean("solved")).isFalse();
+  }
+
+  @Test
+  void a_missing_body_is_an_unexpected_problem() {
+    var body = given()
+      .post("/games/{gameId}/move", GAME_ID)
+      .then()
+      .assertThat()
+      .statusCode(INTERNAL_SERVER_ERROR.value())
+      .extract()
+      .body()
+      .jsonPath();
+
+    assertThat(body.getString("detail")).isEqualTo("Something went wrong, please retry.");
+    assertThat(body.getString("type")).isEqualTo("http://localhost/errors/ServerWebInputException");
+  }
+}
@@ -0,0 +1,184 @@
+package com.fun.mancala.infra.adapters.reactive;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.ai.ComputerPlayer;
+import com.fun.mancala.application.ports.EndgameTablebase;
+import com.fun.mancala.application.ports.GameMetrics;
+import com.fun.mancala.infra.adapters.http.RuleViolationProblems;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+
+class GameRoutesTest {
+  private static final String GAME_ID = "game";
+  private static final Duration BUDGET = Duration.ofMillis(50);
+  private final GameManager gameManager = new GameManager();
+  private WebTestClient client;
+
+  @BeforeEach
+  void initializeTest() {
+    gameManager.initialize(GAME_ID, new int[]{1, 1, 0, 1, 1, 0});
+    client = WebTestClient.bindToRouterFunction(new GameRoutes(GameMetrics.NONE).gameRouterFunction(
+      new GameHandler(gameManager, new ComputerPlayer(gameManager, EndgameTablebase.NONE, 1 << 12, 1 << 12, 1, 2), new RuleViolationProblems(), BUDGET))).build();
+  }
+
+  @Test
+  void a_move_answers_the_game_status() {
+    client.post().uri("/games/{gameId}/move", GAME_ID)
+      .contentType(APPLICATION_JSON)
+      .bodyValue(0)
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentType(new MediaType(MediaType.TEXT_PLAIN, UTF_8))
+      .expectBody(String.class).value(status -> assertThat(status)
+        .contains("Player ONE: | 0 | 2 || 0 |", "Current Player: TWO"));
+  }
+
+  @Test
+  void the_moves_are_the_pits_of_the_player_on_turn_with_stones() {
+    client.post().uri("/games/{gameId}/move", GAME_ID)
+      .contentType(APPLICATION_JSON)
+      .bodyValue(0)
+      .exchange()
+      .expectStatus().isOk();
+
+    client.get().uri("/games/{gameId}/moves", GAME_ID)
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentType(APPLICATION_JSON)
+      .expectBody(int[].class).isEqualTo(new int[]{3, 4});
+  }
+
+  @Test
+  void a_move_on_an_older_version_is_a_failed_precondition() {
+    client.post().uri("/games/{gameId}/move", GAME_ID)
+      .header("If-Match", "\"0\"")
+      .contentType(APPLICATION_JSON)
+      .bodyValue(0)
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().valueEquals("ETag", "\"1\"");
+
+    client.post().uri("/games/{gameId}/move", GAME_ID)
+      .header("If-Match", "\"0\"")
+      .contentType(APPLICATION_JSON)
+      .bodyValue(3)
+      .exchange()
+      .expectStatus().isEqualTo(412)
+      .expectBody()
+      .jsonPath("$.type").isEqualTo("http://localhost/errors/GameVersionMismatchException")
+      .jsonPath("$.currentVersion").isEqualTo(1);
+  }
+
+  @Test
+  void a_batch_on_an_older_version_is_a_failed_precondition() {
+    client.post().uri("/games/{gameId}/move/batch", GAME_ID)
+      .header("If-Match", "\"0\"")
+      .contentType(APPLICATION_JSON)
+      .bodyValue(new int[]{0, 3})
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().valueEquals("ETag", "\"2\"");
+
+    client.post().uri("/games/{gameId}/move/batch", GAME_ID)
+      .header("If-Match", "\"0\"")
+      .contentType(APPLICATION_JSON)
+      .bodyValue(new int[]{1})
+      .exchange()
+      .expectStatus().isEqualTo(412)
+      .expectBody()
+      .jsonPath("$.currentVersion").isEqualTo(2);
+  }
+
+  @Test
+  void a_cleared_game_has_no_status() {
+    client.delete().uri("/games/{gameId}", GAME_ID)
+      .exchange()
+      .expectStatus().isNoContent();
+
+    client.get().uri("/games/{gameId}/status", GAME_ID)
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+      .expectBody()
+      .jsonPath("$.type").isEqualTo("http://localhost/errors/BoardInitializationException")
+      .jsonPath("$.detail").isEqualTo("The board has not been initialized yet.");
+  }
+
+  @Test
+  void the_computer_plays_the_turn_and_answers_the_game_status() {
+    client.post().uri("/games/{gameId}/move/computer?budget=20", GAME_ID)
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().valueEquals("ETag", "\"1\"")
+      .expectBody(String.class).value(status -> assertThat(status).startsWith("Current Board:"));
+  }
+
+  @Test
+  void a_budget_the_computer_cannot_think_for_is_a_problem() {
+    client.post().uri("/games/{gameId}/move/computer?budget=0", GAME_ID)
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody()
+      .jsonPath("$.detail").isEqualTo("The computer can think for 1 to 10000 milliseconds.");
+  }
+
+  @Test
+  void the_evaluation_is_answered_as_json() {
+    client.get().uri("/games/{gameId}/evaluation", GAME_ID)
+      .exchange()
+      .expectStatus().isOk()
+      .expectHeader().contentType(APPLICATION_JSON)
+      .expectBody()
+      .jsonPath("$.solved").isEqualTo(false);
+  }
+
+  @Test
+  void the_whole_game_is_streamed_as_the_first_event() {
+    final var event = client.get().uri("/games/{gameId}/events", GAME_ID)
+      .exchange()
+      .expectStatus().isOk()
+      .returnResult(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+      .getResponseBody()
+      .blockFirst(Duration.ofSeconds(5));
+
+    assertThat(event.id()).isEqualTo("0");
+    assertThat(event.event()).isEqualTo("state");
+    assertThat(event.data()).isEqualTo("{\"version\":0,\"pits\":[0,1,2,3,4,5],\"stones\":[1,1,0,1,1,0],\"player\":\"ONE\",\"status\":\"PLAYABLE\"}");
+  }
+
+  @Test
+  void a_wrong_move_in_a_batch_is_a_problem_with_its_index() {
+    client.post().uri("/games/{gameId}/move/batch", GAME_ID)
+      .contentType(APPLICATION_JSON)
+      .bodyValue(new int[]{0, 3, 3})
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody()
+      .jsonPath("$.type").isEqualTo("http://localhost/errors/BoardBatchMoveException")
+      .jsonPath("$.failedMove").isEqualTo(2);
+  }
+
+  @Test
+  void a_wrong_move_is_a_problem() {
+    client.post().uri("/games/{gameId}/move", GAME_ID)
+      .contentType(APPLICATION_JSON)
+      .bodyValue(3)
+      .exchange()
+      .expectStatus().isBadRequest()
+      .expectBody()
+      .jsonPath("$.title").isEqualTo("Bad Request")
+      .jsonPath("$.type").isEqualTo("http://localhost/errors/BoardMoveException")
+      .jsonPath("$.detail").isEqualTo("Those stones are not yours to move.");
+  }
+}
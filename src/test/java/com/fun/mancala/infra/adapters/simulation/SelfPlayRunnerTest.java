@@ -0,0 +1,52 @@
+package com.fun.mancala.infra.adapters.simulation;
+
+import com.fun.mancala.application.GameManager;
+import com.fun.mancala.application.simulation.ResidentSelfPlay;
+import com.fun.mancala.application.simulation.SelfPlay;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SelfPlayRunnerTest {
+  @TempDir
+  Path directory;
+
+  @Test
+  void every_layout_gets_a_line_of_the_result() throws Exception {
+    final var result = directory.resolve("results/self-play-result.txt");
+    final var properties = new SimulationProperties(List.of("6x4", "14x4"), 200, 0, 0, result);
+    final var sut = new SelfPlayRunner(new SelfPlay(new GameManager(), 0), new ResidentSelfPlay(), properties);
+
+    sut.run(null);
+
+    final var lines = Files.readAllLines(result);
+    assertThat(lines).hasSize(4);
+    assertThat(lines.get(0)).startsWith("200 random games per layout on ");
+    assertThat(lines.get(1)).startsWith("layout").contains("games/s", "p99", "first player wins");
+    assertThat(lines.get(2)).startsWith("6x4 ");
+    assertThat(lines.get(3)).startsWith("14x4 ");
+  }
+
+  @Test
+  void resident_games_get_a_table_of_their_own() throws Exception {
+    final var result = directory.resolve("self-play-result.txt");
+    final var properties = new SimulationProperties(List.of("6x4", "14x4", "20x6"), 10, 0, 1_000, result);
+    final var sut = new SelfPlayRunner(new SelfPlay(new GameManager(), 0), new ResidentSelfPlay(), properties);
+
+    sut.run(null);
+
+    final var lines = Files.readAllLines(result);
+    // a 20x6 board is too big for a GameState, so it is only played on the heap
+    assertThat(lines).hasSize(9);
+    assertThat(lines.get(4)).startsWith("20x6 ");
+    assertThat(lines.get(5)).isEqualTo("1000 random games per layout resident at once off the heap");
+    assertThat(lines.get(6)).startsWith("layout").contains("off-heap MB", "moves/s", "collection ms");
+    assertThat(lines.get(7)).startsWith("6x4 ");
+    assertThat(lines.get(8)).startsWith("14x4 ");
+  }
+}
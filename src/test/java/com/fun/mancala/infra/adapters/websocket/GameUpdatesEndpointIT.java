@@ -0,0 +1,93 @@
+package com.fun.mancala.infra.adapters.websocket;
+
+import com.fun.mancala.IntegrationTestsBase;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameUpdatesEndpointIT extends IntegrationTestsBase {
+  private static final String GAME_ID = "GameUpdatesEndpointIT";
+
+  @Test
+  void moves_are_pushed_as_the_changed_pits() throws Exception {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    final var eTag = given().body(new Integer[]{1, 2, 0, 3, 4, 0}).post("/games/{gameId}/initialize", GAME_ID).header("ETag");
+    final var version = Long.parseLong(eTag.substring(1, eTag.length() - 1));
+    final var frames = new LinkedBlockingQueue<Object>();
+    final var socket = connect(frames);
+
+    final var whole = (ByteBuffer) frames.poll(5, TimeUnit.SECONDS);
+    given().body(1).post("/games/{gameId}/move", GAME_ID).andReturn();
+    final var delta = (ByteBuffer) frames.poll(5, TimeUnit.SECONDS);
+    socket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+
+    assertThat(whole.getLong()).isEqualTo(version);
+    assertThat(whole.get()).isEqualTo((byte) 0);
+    assertThat(whole.get()).isEqualTo((byte) 0);
+    assertThat(whole.getInt()).isEqualTo(6);
+    assertThat(delta.getLong()).isEqualTo(version + 1);
+    assertThat(delta.get()).isEqualTo((byte) 1);
+    assertThat(delta.get()).isEqualTo((byte) 0);
+    assertThat(delta.getInt()).isEqualTo(3);
+    assertThat(new int[]{delta.getInt(), delta.getInt(), delta.getInt(), delta.getInt(), delta.getInt(), delta.getInt()})
+      .containsExactly(1, 0, 2, 1, 3, 4);
+  }
+
+  @Test
+  void clearing_the_game_closes_the_connection() throws Exception {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    given().body(new Integer[]{1, 2, 0, 3, 4, 0}).post("/games/{gameId}/initialize", GAME_ID).andReturn();
+    final var frames = new LinkedBlockingQueue<Object>();
+    connect(frames);
+    frames.poll(5, TimeUnit.SECONDS);
+
+    delete("/games/{gameId}", GAME_ID).andReturn();
+
+    assertThat(frames.poll(5, TimeUnit.SECONDS)).isEqualTo("The board has been cleared.");
+  }
+
+  @Test
+  void uninitialized_games_cannot_be_watched() throws Exception {
+    delete("/games/{gameId}", GAME_ID).andReturn();
+    final var frames = new LinkedBlockingQueue<Object>();
+    connect(frames);
+
+    assertThat(frames.poll(5, TimeUnit.SECONDS)).isEqualTo("The board has not been initialized yet.");
+  }
+
+  // binary frames are queued as they come, and the reason of the close frame once the server closes
+  private WebSocket connect(BlockingQueue<Object> frames) {
+    return HttpClient.newHttpClient().newWebSocketBuilder()
+      .buildAsync(URI.create("ws://localhost:" + port + "/games/" + GAME_ID + "/updates"), new WebSocket.Listener() {
+        private ByteBuffer frame = ByteBuffer.allocate(0);
+
+        @Override
+        public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+          frame = ByteBuffer.allocate(frame.remaining() + data.remaining()).put(frame).put(data).flip();
+          if (last) {
+            frames.add(frame);
+            frame = ByteBuffer.allocate(0);
+          }
+          webSocket.request(1);
+          return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+          frames.add(reason);
+          return null;
+        }
+      })
+      .join();
+  }
+}